@@ -0,0 +1,87 @@
+package fulltext.processor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Built-in types that a generated mapper reads and writes, and the methods of {@code fulltext.generated.MapperSupport} that the generated code calls for each of them.
+ */
+enum FieldKind {
+    STRING("java.lang.String", "readString", "writeString", null, false),
+    INT("int", "readInt", "writeLong", "Int", true),
+    INT_WRAPPER("java.lang.Integer", "readInteger", "writeNumber", null, true),
+    LONG("long", "readLong", "writeLong", "Long", true),
+    LONG_WRAPPER("java.lang.Long", "readLongWrapper", "writeNumber", null, true),
+    DOUBLE("double", "readDouble", "writeDouble", "Double", true),
+    DOUBLE_WRAPPER("java.lang.Double", "readDoubleWrapper", "writeNumber", null, true),
+    BIG_DECIMAL("java.math.BigDecimal", "readBigDecimal", "writeNumber", null, true),
+    LOCAL_DATE("java.time.LocalDate", "readLocalDate", "writeDate", null, false),
+    LOCAL_DATE_TIME("java.time.LocalDateTime", "readLocalDateTime", "writeDate", null, false),
+    ;
+
+    private static final Map<String, FieldKind> KINDS = new HashMap<>();
+
+    static {
+        for (FieldKind kind : values()) {
+            KINDS.put(kind.typeName, kind);
+        }
+    }
+
+    private final String typeName;
+    private final String readMethod;
+    private final String writeMethod;
+    private final String primitiveAccessor;
+    private final boolean named;
+
+    FieldKind(final String typeName, final String readMethod, final String writeMethod, final String primitiveAccessor, final boolean named) {
+        this.typeName = typeName;
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+        this.primitiveAccessor = primitiveAccessor;
+        this.named = named;
+    }
+
+    /**
+     * Returns the kind of the type.
+     *
+     * @param typeName canonical name of a type, such as java.lang.String or int
+     * @return {@link FieldKind}. null if the type is not built-in.
+     */
+    static FieldKind of(final String typeName) {
+        return KINDS.get(typeName);
+    }
+
+    String getTypeName() {
+        return typeName;
+    }
+
+    String getReadMethod() {
+        return readMethod;
+    }
+
+    String getWriteMethod() {
+        return writeMethod;
+    }
+
+    /**
+     * Returns the suffix of the primitive methods of FieldAccessor, such as Int of setInt.
+     *
+     * @return suffix. null if the type is a reference type.
+     */
+    String getPrimitiveAccessor() {
+        return primitiveAccessor;
+    }
+
+    /**
+     * Returns whether the read method takes the name of the field, to report a NumberFormatException.
+     *
+     * @return true if the type is a number
+     */
+    boolean isNamed() {
+        return named;
+    }
+
+    boolean isDate() {
+        return this == LOCAL_DATE || this == LOCAL_DATE_TIME;
+    }
+}
@@ -0,0 +1,71 @@
+package fulltext.processor;
+
+import fulltext.enums.PadCharacter;
+
+/**
+ * Mapping rule of one field, resolved from the annotations at compile time.
+ */
+final class FieldModel {
+    private final String name;
+    private final FieldKind kind;
+    private final int offset;
+    private final int length;
+    private final PadCharacter padCharacter;
+    private final boolean leftPad;
+    private final boolean accessible;
+    private final String format;
+
+    FieldModel(final String name, final FieldKind kind, final int offset, final int length, final PadCharacter padCharacter, final boolean leftPad, final boolean accessible,
+        final String format) {
+        this.name = name;
+        this.kind = kind;
+        this.offset = offset;
+        this.length = length;
+        this.padCharacter = padCharacter;
+        this.leftPad = leftPad;
+        this.accessible = accessible;
+        this.format = format;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    FieldKind getKind() {
+        return kind;
+    }
+
+    int getOffset() {
+        return offset;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    PadCharacter getPadCharacter() {
+        return padCharacter;
+    }
+
+    boolean isLeftPad() {
+        return leftPad;
+    }
+
+    /**
+     * Returns whether the generated mapper, which is in the same package, can access the field directly.
+     *
+     * @return false if the field is private
+     */
+    boolean isAccessible() {
+        return accessible;
+    }
+
+    /**
+     * Returns the date format of the field.
+     *
+     * @return date format. null if the field is not a date type.
+     */
+    String getFormat() {
+        return format;
+    }
+}
@@ -0,0 +1,225 @@
+package fulltext.processor;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.PadCharacter;
+import fulltext.enums.PadPosition;
+import fulltext.generated.GeneratedMappers;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * Verifies every class in which {@link FullText} is declared, and generates a {@link fulltext.generated.GeneratedMapper} for it.
+ * <p>
+ * The rules that {@link fulltext.annotation.FullTextReflector} checks at runtime are reported as compile errors, with the same messages. A mapper is not generated for a class that declares a type other than the built-in types, because its converter is registered only at runtime, nor for a class that the generated code can not map, such as a class with a final or static field or without a default constructor. Such a class is mapped at runtime as before, and a note is reported.
+ */
+public final class FullTextProcessor extends AbstractProcessor {
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(FullText.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(FullText.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                note(element, element + " is not a class. it is mapped at runtime.");
+                continue;
+            }
+            process((TypeElement) element);
+        }
+        return false;
+    }
+
+    private void process(final TypeElement type) {
+        final FullText classAnnotation = type.getAnnotation(FullText.class);
+        final List<FieldModel> fields = new ArrayList<>();
+        boolean valid = true;
+        boolean generatable = isGeneratable(type);
+
+        int offset = 0;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final Field fieldAnnotation = field.getAnnotation(Field.class);
+            if (fieldAnnotation == null) {
+                error(field, "Could not find @Field in argument object. please add @Field at field level.");
+                valid = false;
+                continue;
+            }
+
+            final FieldModel model = compile(classAnnotation, fieldAnnotation, field, offset);
+            offset += fieldAnnotation.length();
+            if (model == null) {
+                valid = false;
+            } else if (model.getKind() == null) {
+                note(field, field.asType() + " is not a built-in type. " + type.getQualifiedName() + " is mapped at runtime.");
+                generatable = false;
+            } else if (field.getModifiers().contains(Modifier.STATIC)) {
+                note(field, field.getSimpleName() + " field is static. " + type.getQualifiedName() + " is mapped at runtime.");
+                generatable = false;
+            } else if (field.getModifiers().contains(Modifier.FINAL)) {
+                note(field, field.getSimpleName() + " field is final. " + type.getQualifiedName() + " is mapped at runtime.");
+                generatable = false;
+            } else {
+                fields.add(model);
+            }
+        }
+
+        if (classAnnotation.length() != offset) {
+            error(type, String.format("There is a problem with setting the full text object. @FullText: %d, @Field total length: %d", classAnnotation.length(), offset));
+            valid = false;
+        }
+
+        // a class without a default constructor can still be written, and fails at runtime only when it is read
+        final ExecutableElement constructor = findDefaultConstructor(type);
+        if (constructor == null && generatable) {
+            note(type, binaryName(type) + " has no default constructor. it is mapped at runtime.");
+            generatable = false;
+        }
+
+        if (valid && generatable) {
+            generate(type, classAnnotation, !constructor.getModifiers().contains(Modifier.PRIVATE), fields);
+        }
+    }
+
+    // returns null if an error is reported. the kind of the returned model is null if the type is not built-in.
+    private FieldModel compile(final FullText classAnnotation, final Field fieldAnnotation, final VariableElement field, final int offset) {
+        boolean valid = true;
+        final PadCharacter fieldPadCharacter = fieldAnnotation.padChar();
+        final PadCharacter classPadCharacter = classAnnotation.padChar();
+        if (classPadCharacter.isNone() && fieldPadCharacter.isNone()) {
+            error(field, "Both @FullText and @Field can't be PadCharacter.NONE");
+            valid = false;
+        }
+        final PadPosition fieldPadPosition = fieldAnnotation.padPosition();
+        final PadPosition classPadPosition = classAnnotation.padPosition();
+        if (classPadPosition.isNone() && fieldPadPosition.isNone()) {
+            error(field, "Both @FullText and @Field can't be PadPosition.NONE");
+            valid = false;
+        }
+
+        final FieldKind kind = FieldKind.of(field.asType().toString());
+        String format = null;
+        if (kind == FieldKind.LOCAL_DATE) {
+            format = fieldAnnotation.localDateFormat();
+        } else if (kind == FieldKind.LOCAL_DATE_TIME) {
+            format = fieldAnnotation.localDateTimeFormat();
+        }
+        if (format != null) {
+            try {
+                DateTimeFormatter.ofPattern(format);
+            } catch (IllegalArgumentException e) {
+                error(field, "Invalid date format of " + field.getSimpleName() + " field: " + format + ". " + e.getMessage());
+                valid = false;
+            }
+        }
+
+        if (!valid) {
+            return null;
+        }
+        return new FieldModel(
+            field.getSimpleName().toString(),
+            kind,
+            offset,
+            fieldAnnotation.length(),
+            fieldPadCharacter.isNone() ? classPadCharacter : fieldPadCharacter,
+            (fieldPadPosition.isNone() ? classPadPosition : fieldPadPosition).isLeft(),
+            !field.getModifiers().contains(Modifier.PRIVATE),
+            format
+        );
+    }
+
+    private static ExecutableElement findDefaultConstructor(final TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return constructor;
+            }
+        }
+        return null;
+    }
+
+    // the mapper is generated in the same package, so the class must be reachable from there
+    private boolean isGeneratable(final TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            note(type, type.getQualifiedName() + " is generic. it is mapped at runtime.");
+            return false;
+        }
+        Element element = type;
+        while (element instanceof TypeElement) {
+            final TypeElement enclosing = (TypeElement) element;
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                note(type, type.getQualifiedName() + " is not accessible from its package. it is mapped at runtime.");
+                return false;
+            }
+            if (enclosing.getNestingKind() == NestingKind.MEMBER && !enclosing.getModifiers().contains(Modifier.STATIC)) {
+                note(type, type.getQualifiedName() + " is an inner class. it is mapped at runtime.");
+                return false;
+            }
+            if (enclosing.getNestingKind() == NestingKind.LOCAL || enclosing.getNestingKind() == NestingKind.ANONYMOUS) {
+                note(type, type.getQualifiedName() + " is a local class. it is mapped at runtime.");
+                return false;
+            }
+            element = enclosing.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generate(final TypeElement type, final FullText classAnnotation, final boolean constructorAccessible, final List<FieldModel> fields) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String mapperName = GeneratedMappers.mapperName(binaryName(type));
+        final String simpleName = mapperName.substring(mapperName.lastIndexOf('.') + 1);
+
+        final String source = new MapperSourceWriter(
+            packageName,
+            simpleName,
+            type.getQualifiedName().toString(),
+            classAnnotation.encoding(),
+            classAnnotation.length(),
+            constructorAccessible,
+            fields
+        ).write();
+
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(mapperName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            error(type, "Could not generate " + mapperName + ": " + e.getMessage());
+        }
+    }
+
+    private String binaryName(final TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+    }
+
+    private void note(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Kind.NOTE, message, element);
+    }
+}
@@ -0,0 +1,186 @@
+package fulltext.processor;
+
+import fulltext.enums.Charset;
+import java.util.List;
+
+/**
+ * Writes the source of a generated mapper. Every name in the source is fully qualified, so the source needs no import.
+ */
+final class MapperSourceWriter {
+    private static final String SUPPORT = "fulltext.generated.MapperSupport";
+    private static final String PAD = "fulltext.enums.PadCharacter";
+
+    private final String packageName;
+    private final String mapperName;
+    private final String typeName;
+    private final Charset encoding;
+    private final int length;
+    private final boolean constructorAccessible;
+    private final List<FieldModel> fields;
+    private final StringBuilder out = new StringBuilder();
+
+    /**
+     * @param packageName           package of the class. empty for the unnamed package.
+     * @param mapperName            simple name of the mapper
+     * @param typeName              canonical name of the class
+     * @param encoding              {@code @FullText.encoding}
+     * @param length                {@code @FullText.length}
+     * @param constructorAccessible false if the default constructor is private
+     * @param fields                fields in declaration order
+     */
+    MapperSourceWriter(final String packageName, final String mapperName, final String typeName, final Charset encoding, final int length, final boolean constructorAccessible,
+        final List<FieldModel> fields) {
+        this.packageName = packageName;
+        this.mapperName = mapperName;
+        this.typeName = typeName;
+        this.encoding = encoding;
+        this.length = length;
+        this.constructorAccessible = constructorAccessible;
+        this.fields = fields;
+    }
+
+    String write() {
+        if (!packageName.isEmpty()) {
+            line(0, "package " + packageName + ";");
+            line(0, "");
+        }
+        line(0, "/**");
+        line(0, " * Mapper of {@link " + typeName + "}, generated by fulltext.processor.FullTextProcessor. Do not edit.");
+        line(0, " */");
+        line(0, "public final class " + mapperName + " implements fulltext.generated.GeneratedMapper<" + typeName + "> {");
+        writeConstants();
+        line(0, "");
+        line(1, "public " + mapperName + "() {");
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public java.lang.Class<" + typeName + "> getType() {");
+        line(2, "return " + typeName + ".class;");
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public int getLength() {");
+        line(2, "return " + length + ";");
+        line(1, "}");
+        writeRead(false);
+        writeRead(true);
+        writeWrite();
+        line(0, "}");
+        return out.toString();
+    }
+
+    private void writeConstants() {
+        line(1, "private static final java.nio.charset.Charset CHARSET = fulltext.enums.Charset." + encoding.name() + ".toCharset();");
+        if (!constructorAccessible) {
+            line(1, "private static final fulltext.accessor.Instantiator<" + typeName + "> INSTANTIATOR = " + SUPPORT + ".instantiator(" + typeName + ".class);");
+        }
+        for (FieldModel field : fields) {
+            if (!field.isAccessible()) {
+                line(1, "private static final fulltext.accessor.FieldAccessor " + accessor(field) + " = " + SUPPORT + ".accessor(" + typeName + ".class, " + literal(field.getName()) + ");");
+            }
+            if (field.getKind().isDate()) {
+                line(1, "private static final fulltext.layout.DateCodec " + codec(field) + " = fulltext.layout.DateCodec.of(" + literal(field.getFormat()) + ");");
+            }
+        }
+    }
+
+    private void writeRead(final boolean bytes) {
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public " + typeName + " read(final " + (bytes ? "byte[]" : "java.lang.CharSequence") + " source, final int start, final int end) {");
+        line(2, SUPPORT + ".checkLength(source, start, end, " + length + (bytes ? ", CHARSET" : "") + ");");
+        if (constructorAccessible) {
+            line(2, "final " + typeName + " instance = new " + typeName + "();");
+        } else {
+            line(2, "final " + typeName + " instance = " + SUPPORT + ".newInstance(INSTANTIATOR);");
+        }
+        for (FieldModel field : fields) {
+            final FieldKind kind = field.getKind();
+            final StringBuilder value = new StringBuilder()
+                .append(SUPPORT).append('.').append(kind.getReadMethod())
+                .append("(source, start + ").append(field.getOffset())
+                .append(", ").append(field.getLength())
+                .append(", ").append(PAD).append('.').append(field.getPadCharacter().name())
+                .append(", ").append(field.isLeftPad());
+            if (kind.isDate()) {
+                value.append(", ").append(codec(field));
+            } else if (kind.isNamed()) {
+                value.append(", ").append(literal(field.getName()));
+            } else if (bytes) {
+                value.append(", CHARSET");
+            }
+            value.append(')');
+
+            if (field.isAccessible()) {
+                line(2, "instance." + field.getName() + " = " + value + ";");
+            } else if (kind.getPrimitiveAccessor() != null) {
+                line(2, accessor(field) + ".set" + kind.getPrimitiveAccessor() + "(instance, " + value + ");");
+            } else {
+                line(2, accessor(field) + ".set(instance, " + value + ");");
+            }
+        }
+        line(2, "return instance;");
+        line(1, "}");
+    }
+
+    private void writeWrite() {
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public void write(final " + typeName + " value, final char[] dst, final int start) {");
+        for (FieldModel field : fields) {
+            final FieldKind kind = field.getKind();
+            final String fieldValue;
+            if (field.isAccessible()) {
+                fieldValue = "value." + field.getName();
+            } else if (kind.getPrimitiveAccessor() != null) {
+                fieldValue = accessor(field) + ".get" + kind.getPrimitiveAccessor() + "(value)";
+            } else {
+                fieldValue = "(" + kind.getTypeName() + ") " + accessor(field) + ".get(value)";
+            }
+
+            final StringBuilder call = new StringBuilder()
+                .append(SUPPORT).append('.').append(kind.getWriteMethod())
+                .append("(dst, start + ").append(field.getOffset())
+                .append(", ").append(field.getLength())
+                .append(", ").append(PAD).append('.').append(field.getPadCharacter().name())
+                .append(", ").append(field.isLeftPad())
+                .append(", ").append(fieldValue);
+            if (kind.isDate()) {
+                call.append(", ").append(codec(field));
+            }
+            call.append(", ").append(literal(field.getName())).append(");");
+            line(2, call.toString());
+        }
+        line(1, "}");
+    }
+
+    private static String accessor(final FieldModel field) {
+        return field.getName() + "_ACCESSOR";
+    }
+
+    private static String codec(final FieldModel field) {
+        return field.getName() + "_CODEC";
+    }
+
+    private static String literal(final String value) {
+        final StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void line(final int indent, final String text) {
+        for (int i = 0; i < indent; i++) {
+            out.append("    ");
+        }
+        out.append(text).append('\n');
+    }
+}
@@ -0,0 +1,341 @@
+package fulltext.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.FullTextMapper;
+import fulltext.FullTextMapperFactory;
+import fulltext.LineFullTextMapper;
+import fulltext.annotation.FullText;
+import fulltext.converter.Converter;
+import fulltext.converter.ConverterRegistry;
+import fulltext.generated.GeneratedMapper;
+import fulltext.generated.GeneratedMappers;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FullTextProcessorTest {
+    private static final String PRIVATE_MODEL = String.join("\n",
+        "package sample;",
+        "",
+        "import fulltext.annotation.Field;",
+        "import fulltext.annotation.FullText;",
+        "import fulltext.enums.Charset;",
+        "import fulltext.enums.PadCharacter;",
+        "import fulltext.enums.PadPosition;",
+        "import java.math.BigDecimal;",
+        "import java.time.LocalDate;",
+        "import java.time.LocalDateTime;",
+        "",
+        "@FullText(length = 63, encoding = Charset.EUC_KR, padPosition = PadPosition.RIGHT)",
+        "public class Account {",
+        "    @Field(length = 10)",
+        "    private String name;",
+        "    @Field(length = 3, padChar = PadCharacter.ZERO, padPosition = PadPosition.LEFT)",
+        "    private int age;",
+        "    @Field(length = 5, padChar = PadCharacter.ZERO, padPosition = PadPosition.LEFT)",
+        "    private Long point;",
+        "    @Field(length = 9, padChar = PadCharacter.ZERO, padPosition = PadPosition.LEFT)",
+        "    private BigDecimal amount;",
+        "    @Field(length = 6)",
+        "    private double rate;",
+        "    @Field(length = 10, localDateFormat = \"yyyy-MM-dd\")",
+        "    private LocalDate openAt;",
+        "    @Field(length = 14)",
+        "    private LocalDateTime updateAt;",
+        "    @Field(length = 6)",
+        "    private Integer grade;",
+        "",
+        "    private Account() {",
+        "    }",
+        "}");
+
+    private static final String PACKAGE_MODEL = String.join("\n",
+        "package sample;",
+        "",
+        "import fulltext.annotation.Field;",
+        "import fulltext.annotation.FullText;",
+        "import java.time.LocalDate;",
+        "",
+        "public class Outer {",
+        "    @FullText(length = 12)",
+        "    public static class Header {",
+        "        @Field(length = 4)",
+        "        String type;",
+        "        @Field(length = 8)",
+        "        LocalDate createAt;",
+        "    }",
+        "}");
+
+    private static final String ACCOUNT_DATA = "siro      028001200123.45670.5   2021-10-1120211011093000" + "7     ";
+
+    @TempDir
+    Path output;
+
+    @Test
+    void generate() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("sample.Account", PRIVATE_MODEL);
+        assertThat(errors(diagnostics)).isEmpty();
+
+        try (URLClassLoader loader = loader()) {
+            final Class<?> type = loader.loadClass("sample.Account");
+            final GeneratedMapper<?> mapper = GeneratedMappers.find(type);
+            assertThat(mapper).isNotNull();
+            assertThat(loader.loadClass("sample.Account_FullTextMapper")).isSameAs(mapper.getClass());
+            assertSameAsRuntime(type, ACCOUNT_DATA, Charset.forName("EUC-KR"));
+        }
+    }
+
+    @Test
+    void generate_nested() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("sample.Outer", PACKAGE_MODEL);
+        assertThat(errors(diagnostics)).isEmpty();
+
+        try (URLClassLoader loader = loader()) {
+            final Class<?> type = loader.loadClass("sample.Outer$Header");
+            assertThat(GeneratedMappers.find(type).getClass().getName()).isEqualTo("sample.Outer_Header_FullTextMapper");
+            assertSameAsRuntime(type, "  H120211011", Charset.forName("UTF-8"));
+        }
+    }
+
+    // a converter registered for a built-in type is used, rather than the generated mapper
+    @Test
+    void generate_registeredConverter() throws Exception {
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("sample.Outer", PACKAGE_MODEL);
+        assertThat(errors(diagnostics)).isEmpty();
+
+        ConverterRegistry.register(String.class, new Converter<String>() {
+            @Override
+            public String read(final CharSequence source, final int from, final int to) {
+                return source.subSequence(from, to).toString().toLowerCase(Locale.ROOT);
+            }
+
+            @Override
+            public String write(final String value) {
+                return value.toUpperCase(Locale.ROOT);
+            }
+        });
+        try (URLClassLoader loader = loader()) {
+            final Class<?> type = loader.loadClass("sample.Outer$Header");
+            final Field field = type.getDeclaredField("type");
+            field.setAccessible(true);
+            final Object header = FullTextMapperFactory.lineFullTextMapper().readValue("  H120211011", type);
+
+            assertAll(
+                () -> assertThat(GeneratedMappers.find(type)).isNull(),
+                () -> assertThat(field.get(header)).isEqualTo("h1")
+            );
+        } finally {
+            ConverterRegistry.unregister(String.class);
+        }
+    }
+
+    @Test
+    void generate_unsupportedType() throws Exception {
+        final String source = String.join("\n",
+            "package sample;",
+            "",
+            "@fulltext.annotation.FullText(length = 2)",
+            "public class Flag {",
+            "    @fulltext.annotation.Field(length = 1)",
+            "    private String type;",
+            "    @fulltext.annotation.Field(length = 1)",
+            "    private boolean enabled;",
+            "}");
+
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("sample.Flag", source);
+
+        assertThat(errors(diagnostics)).isEmpty();
+        assertThat(messages(diagnostics, Diagnostic.Kind.NOTE)).contains("boolean is not a built-in type. sample.Flag is mapped at runtime.");
+        try (URLClassLoader loader = loader()) {
+            assertThat(GeneratedMappers.find(loader.loadClass("sample.Flag"))).isNull();
+        }
+    }
+
+    // a final field and a class without a default constructor are valid at runtime, so they are noted rather than rejected
+    @Test
+    void generate_runtimeOnly() throws Exception {
+        final String source = String.join("\n",
+            "package sample;",
+            "",
+            "import fulltext.annotation.Field;",
+            "import fulltext.annotation.FullText;",
+            "",
+            "public class Runtime {",
+            "    @FullText(length = 4)",
+            "    public static class Code {",
+            "        @Field(length = 4)",
+            "        private final String value = null;",
+            "    }",
+            "",
+            "    @FullText(length = 4)",
+            "    public static class Named {",
+            "        @Field(length = 4)",
+            "        private String name;",
+            "",
+            "        public Named(final String name) {",
+            "            this.name = name;",
+            "        }",
+            "    }",
+            "}");
+
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("sample.Runtime", source);
+
+        assertThat(errors(diagnostics)).isEmpty();
+        assertThat(messages(diagnostics, Diagnostic.Kind.NOTE)).contains(
+            "value field is final. sample.Runtime.Code is mapped at runtime.",
+            "sample.Runtime$Named has no default constructor. it is mapped at runtime."
+        );
+        try (URLClassLoader loader = loader()) {
+            final Class<?> code = loader.loadClass("sample.Runtime$Code");
+            final Class<?> named = loader.loadClass("sample.Runtime$Named");
+            final Object instance = named.getConstructor(String.class).newInstance("siro");
+            final Field value = code.getDeclaredField("value");
+            value.setAccessible(true);
+
+            assertAll(
+                () -> assertThat(GeneratedMappers.find(code)).isNull(),
+                () -> assertThat(GeneratedMappers.find(named)).isNull(),
+                () -> assertThat(value.get(FullTextMapperFactory.lineFullTextMapper().readValue("AB12", code))).isEqualTo("AB12"),
+                () -> assertThat(FullTextMapperFactory.lineFullTextMapper().write(instance)).isEqualTo("siro")
+            );
+        }
+    }
+
+    @Test
+    void verify() throws Exception {
+        final String source = String.join("\n",
+            "package sample;",
+            "",
+            "import fulltext.annotation.Field;",
+            "import fulltext.annotation.FullText;",
+            "import fulltext.enums.PadCharacter;",
+            "import java.time.LocalDate;",
+            "",
+            "@FullText(length = 30, padChar = PadCharacter.NONE)",
+            "public class Invalid {",
+            "    @Field(length = 10)",
+            "    private String name;",
+            "    @Field(length = 8, padChar = PadCharacter.ZERO, localDateFormat = \"yyyyMMddQQQQQQ\")",
+            "    private LocalDate createAt;",
+            "    private String memo;",
+            "",
+            "    public Invalid(final String name) {",
+            "    }",
+            "}");
+
+        final List<String> errors = errors(compile("sample.Invalid", source));
+
+        assertAll(
+            () -> assertThat(errors).contains("There is a problem with setting the full text object. @FullText: 30, @Field total length: 18"),
+            () -> assertThat(errors).contains("Both @FullText and @Field can't be PadCharacter.NONE"),
+            () -> assertThat(errors).contains("Could not find @Field in argument object. please add @Field at field level."),
+            () -> assertThat(errors).anyMatch(error -> error.startsWith("Invalid date format of createAt field: yyyyMMddQQQQQQ."))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void assertSameAsRuntime(final Class<T> type, final String data, final Charset charset) {
+        final GeneratedMapper<T> generated = GeneratedMappers.find(type);
+        final FullTextMapper runtime = LineFullTextMapper.newInstance();
+        final byte[] bytes = data.getBytes(charset);
+
+        final T fromChars = generated.read(data, 0, data.length());
+        final T fromBytes = generated.read(bytes, 0, bytes.length);
+        final char[] written = new char[generated.getLength()];
+        generated.write(fromChars, written, 0);
+
+        assertAll(
+            () -> assertThat(fromChars).isEqualToComparingFieldByField(runtime.readValue(data, type)),
+            () -> assertThat(fromBytes).isEqualToComparingFieldByField(runtime.readValue(bytes, type)),
+            () -> assertThat(new String(written)).isEqualTo(runtime.write(fromChars))
+        );
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(final String className, final String source) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(output.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singleton(output.toFile()));
+            fileManager.setLocation(StandardLocation.CLASS_PATH, classpath());
+
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                Arrays.asList("-encoding", "UTF-8"),
+                null,
+                Collections.singleton(new StringSource(className, source))
+            );
+            task.setProcessors(Collections.singleton(new FullTextProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics();
+    }
+
+    // the library may be loaded by a class loader other than the system class loader
+    private static List<File> classpath() {
+        final List<File> classpath = new ArrayList<>();
+        try {
+            classpath.add(new File(FullText.class.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String path : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            classpath.add(new File(path));
+        }
+        return classpath;
+    }
+
+    private URLClassLoader loader() throws IOException {
+        return new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static List<String> errors(final List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        return messages(diagnostics, Diagnostic.Kind.ERROR);
+    }
+
+    private static List<String> messages(final List<Diagnostic<? extends JavaFileObject>> diagnostics, final Diagnostic.Kind kind) {
+        return diagnostics.stream()
+            .filter(diagnostic -> diagnostic.getKind() == kind)
+            .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+            .collect(Collectors.toList());
+    }
+
+    private static final class StringSource extends SimpleJavaFileObject {
+        private final String source;
+
+        private StringSource(final String className, final String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package fulltext.benchmark;
+
+import fulltext.io.FrameCodec;
+import fulltext.transport.FullTextClient;
+import fulltext.transport.FullTextServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the messages per second of request and response over loopback, with a window of requests in flight on one connection, and one by one.
+ * <p>
+ * Run with {@code ./gradlew :full-text-mapper-transport:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoopbackBenchmark {
+    private static final int WINDOW = 1000;
+
+    private FullTextServer<Telegram> server;
+    private FullTextClient<Telegram> client;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws IOException {
+        final FrameCodec codec = FrameCodec.builder(4).build();
+        server = FullTextServer.builder(codec, Telegram.class, request -> new Telegram(request.getTelegramNo(), "0000", request.getAmount(), "approved"))
+            .bind(new InetSocketAddress("127.0.0.1", 0));
+        client = FullTextClient.builder(codec, Telegram.class)
+            .correlateBy("telegramNo")
+            .connect(server.getLocalAddress());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WINDOW)
+    public Object pipelined() {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[WINDOW];
+        for (int i = 0; i < WINDOW; i++) {
+            futures[i] = client.send(request());
+        }
+        return CompletableFuture.allOf(futures).join();
+    }
+
+    @Benchmark
+    public Telegram oneByOne() {
+        return client.send(request()).join();
+    }
+
+    private Telegram request() {
+        final long no = ++sequence;
+        return new Telegram(Long.toString(no), "0200", no, "payment");
+    }
+}
@@ -0,0 +1,47 @@
+package fulltext.benchmark;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.PadCharacter;
+import fulltext.enums.PadPosition;
+
+@FullText(length = 100)
+public class Telegram {
+    @Field(length = 12, padPosition = PadPosition.RIGHT)
+    private String telegramNo;
+
+    @Field(length = 4)
+    private String code;
+
+    @Field(length = 15, padChar = PadCharacter.ZERO)
+    private long amount;
+
+    @Field(length = 69, padPosition = PadPosition.RIGHT)
+    private String message;
+
+    Telegram() {
+    }
+
+    public Telegram(final String telegramNo, final String code, final long amount, final String message) {
+        this.telegramNo = telegramNo;
+        this.code = code;
+        this.amount = amount;
+        this.message = message;
+    }
+
+    public String getTelegramNo() {
+        return telegramNo;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,57 @@
+package fulltext.transport;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Pool of direct buffers of one size, owned by an {@link EventLoop}. A buffer released to the pool is reused by the next acquire, so a busy connection does not allocate a buffer for each write.
+ * <p>
+ * An instance belongs to one thread and is not thread safe.
+ */
+final class BufferPool {
+    private final int bufferSize;
+    private final int maxPooled;
+    private final ArrayDeque<ByteBuffer> buffers = new ArrayDeque<>();
+
+    /**
+     * @param bufferSize size of each buffer in bytes
+     * @param maxPooled  max number of idle buffers kept in the pool
+     */
+    BufferPool(final int bufferSize, final int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Returns a cleared buffer of the pool, or a new one if the pool is empty.
+     */
+    ByteBuffer acquire() {
+        final ByteBuffer buffer = buffers.pollFirst();
+        return buffer == null ? ByteBuffer.allocateDirect(bufferSize) : buffer;
+    }
+
+    /**
+     * Returns a buffer of at least the capacity. A buffer larger than the buffers of the pool is allocated on the heap, and is not pooled when it is released.
+     */
+    ByteBuffer acquire(final int capacity) {
+        return capacity > bufferSize ? ByteBuffer.allocate(capacity) : acquire();
+    }
+
+    /**
+     * Clears the buffer and keeps it for the next acquire, unless the pool is full or the buffer is not of the pool.
+     */
+    void release(final ByteBuffer buffer) {
+        if (buffer.isDirect() && buffer.capacity() == bufferSize && buffers.size() < maxPooled) {
+            buffer.clear();
+            buffers.addFirst(buffer);
+        }
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    int size() {
+        return buffers.size();
+    }
+}
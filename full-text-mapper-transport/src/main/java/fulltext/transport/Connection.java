@@ -0,0 +1,184 @@
+package fulltext.transport;
+
+import fulltext.exception.RuleViolationException;
+import fulltext.io.FrameCodec;
+import fulltext.io.FrameDecoder;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordLayout;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Non-blocking socket connection of an {@link EventLoop}, which reads frames and writes frames.
+ * <p>
+ * Bytes are read into the read buffer of the loop and decoded by the {@link FrameDecoder} of the connection, so a connection keeps a buffer of its own only for a partial frame. Frames are encoded straight into buffers of the {@link BufferPool} of the loop, one after another, and the buffers are written once at the end of the round and released as soon as they are drained.
+ * <p>
+ * Every method must be called on the thread of the loop.
+ */
+final class Connection implements EventLoop.Handler {
+    private static final Logger log = Logger.getGlobal();
+
+    private final EventLoop loop;
+    private final SocketChannel channel;
+    private final FrameCodec codec;
+    private final FrameDecoder decoder;
+    private final Consumer<ByteBuffer> frames;
+    private final Runnable onClose;
+    private final ArrayDeque<ByteBuffer> outbound = new ArrayDeque<>();
+    private SelectionKey key;
+    private boolean dirty;
+    private boolean writing;
+    private boolean closed;
+
+    /**
+     * @param frames  handler of the body of each frame read, called with this connection
+     * @param onClose called once when the connection is closed. null means nothing.
+     */
+    Connection(final EventLoop loop, final SocketChannel channel, final FrameCodec codec, final BiConsumer<Connection, ByteBuffer> frames, final Runnable onClose) {
+        this.loop = loop;
+        this.channel = channel;
+        this.codec = codec;
+        this.decoder = codec.newDecoder();
+        this.frames = body -> frames.accept(this, body);
+        this.onClose = onClose;
+    }
+
+    /**
+     * Maps the body of a frame, which must be exactly one record of the layout.
+     *
+     * @throws RuleViolationException occurs when the body is not the length of the layout, or the full text does not match the layout.
+     */
+    static <T> T map(final RecordLayout<T> layout, final ByteBuffer body) {
+        if (body.remaining() != layout.getLength()) {
+            throw new RuleViolationException("The body of a frame is not a record. @FullText: " + layout.getLength() + ", but body length: " + body.remaining());
+        }
+        return layout.read(body);
+    }
+
+    void register() throws IOException {
+        this.key = loop.register(channel, SelectionKey.OP_READ, this);
+    }
+
+    @Override
+    public void ready(final SelectionKey key) throws IOException {
+        if (key.isReadable()) {
+            read();
+        }
+        if (key.isValid() && key.isWritable()) {
+            flush();
+        }
+    }
+
+    private void read() throws IOException {
+        final ByteBuffer buffer = loop.getReadBuffer();
+        buffer.clear();
+        final int read = channel.read(buffer);
+        if (read < 0) {
+            if (decoder.hasPartialFrame()) {
+                log.fine("The connection was closed in the middle of a frame.");
+            }
+            close();
+            return;
+        }
+        buffer.flip();
+        decoder.decode(buffer, frames);
+    }
+
+    /**
+     * Encodes the frame of the object after the frames written before, and flushes it at the end of the round.
+     *
+     * @throws UncheckedIOException occurs when the connection is closed.
+     */
+    void write(final Object message) {
+        if (closed) {
+            throw new UncheckedIOException(new ClosedChannelException());
+        }
+        final int frameLength = codec.getHeaderLength() + FullTextLayout.of(message.getClass()).getLength();
+        ByteBuffer tail = outbound.peekLast();
+        if (tail == null || tail.remaining() < frameLength) {
+            tail = loop.getPool().acquire(frameLength);
+            outbound.addLast(tail);
+        }
+        codec.encode(message, tail);
+        if (!dirty) {
+            dirty = true;
+            loop.flushLater(this);
+        }
+    }
+
+    /**
+     * Writes the frames written so far, as much as the socket takes without blocking. The rest is written when the socket is writable again.
+     */
+    void flush() {
+        dirty = false;
+        if (closed) {
+            return;
+        }
+        try {
+            ByteBuffer head;
+            while ((head = outbound.peekFirst()) != null) {
+                head.flip();
+                channel.write(head);
+                if (head.hasRemaining()) {
+                    head.compact();
+                    setWriting(true);
+                    return;
+                }
+                outbound.pollFirst();
+                loop.getPool().release(head);
+            }
+            setWriting(false);
+        } catch (IOException e) {
+            log.log(Level.FINE, "Failed to write to the connection.", e);
+            close();
+        }
+    }
+
+    private void setWriting(final boolean writing) {
+        if (this.writing != writing && key != null && key.isValid()) {
+            key.interestOps(writing ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+            this.writing = writing;
+        }
+    }
+
+    EventLoop getLoop() {
+        return loop;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.log(Level.FINE, "Failed to close the connection.", e);
+        }
+        for (ByteBuffer buffer : outbound) {
+            loop.getPool().release(buffer);
+        }
+        outbound.clear();
+        decoder.reset();
+        if (onClose != null) {
+            onClose.run();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package fulltext.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Thread which runs a {@link Selector} and the tasks given to it. Every channel registered with a loop, and every buffer of its {@link BufferPool}, is touched only by the thread of the loop, so they need no locks.
+ * <p>
+ * Tasks given from other threads are queued, and the selector is woken up at most once until the loop runs them. The connections written by the channels and the tasks are flushed once after each round, so the frames written in a round go out in as few writes as possible.
+ */
+final class EventLoop implements Runnable, Closeable {
+    private static final Logger log = Logger.getGlobal();
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    /**
+     * Channel registered with a loop, which is called when its key is selected.
+     */
+    interface Handler {
+        void ready(SelectionKey key) throws IOException;
+
+        void close();
+    }
+
+    private final Selector selector;
+    private final Thread thread;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakenUp = new AtomicBoolean();
+    private final ArrayDeque<Connection> dirty = new ArrayDeque<>();
+    private final BufferPool pool;
+    private final ByteBuffer readBuffer;
+    private volatile boolean running = true;
+
+    EventLoop(final String name, final int bufferSize) {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.pool = new BufferPool(bufferSize, MAX_POOLED_BUFFERS);
+        this.readBuffer = pool.acquire();
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    boolean inLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Runs the task on the thread of the loop, after the tasks given before it.
+     */
+    void execute(final Runnable task) {
+        tasks.add(task);
+        if (!inLoop() && wakenUp.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Registers the channel for the operations. Call this on the thread of the loop.
+     */
+    SelectionKey register(final SelectableChannel channel, final int ops, final Handler handler) throws IOException {
+        return channel.register(selector, ops, handler);
+    }
+
+    /**
+     * Flushes the connection at the end of the current round.
+     */
+    void flushLater(final Connection connection) {
+        dirty.add(connection);
+    }
+
+    BufferPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Returns the buffer into which every connection of the loop reads. It is valid only until the next read.
+     */
+    ByteBuffer getReadBuffer() {
+        return readBuffer;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                // cleared before the tasks are checked, so a task added after the check wakes up the select below
+                wakenUp.set(false);
+                if (tasks.isEmpty()) {
+                    selector.select();
+                } else {
+                    selector.selectNow();
+                }
+                processKeys();
+                runTasks();
+                flush();
+            } catch (IOException e) {
+                log.log(Level.WARNING, "Failed to select.", e);
+            }
+        }
+        shutdown();
+    }
+
+    private void processKeys() {
+        final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            final SelectionKey key = keys.next();
+            keys.remove();
+            final Handler handler = (Handler) key.attachment();
+            try {
+                if (key.isValid()) {
+                    handler.ready(key);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.log(Level.FINE, "Closing the channel which failed.", e);
+                handler.close();
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "A task of the event loop failed.", e);
+            }
+        }
+    }
+
+    private void flush() {
+        Connection connection;
+        while ((connection = dirty.poll()) != null) {
+            connection.flush();
+        }
+    }
+
+    // writes what it can of the frames already written, without waiting for the channels to be writable
+    private void shutdown() {
+        runTasks();
+        flush();
+        for (SelectionKey key : new ArrayList<>(selector.keys())) {
+            ((Handler) key.attachment()).close();
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.log(Level.FINE, "Failed to close the selector.", e);
+        }
+    }
+
+    /**
+     * Stops the loop, and closes every channel registered with it. It waits until the loop stops, unless it is called on the thread of the loop.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (thread.getState() == Thread.State.NEW) {
+            shutdown();
+            return;
+        }
+        selector.wakeup();
+        if (!inLoop()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
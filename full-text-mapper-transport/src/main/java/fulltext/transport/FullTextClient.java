@@ -0,0 +1,256 @@
+package fulltext.transport;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.io.FrameCodec;
+import fulltext.layout.FieldLayout;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordLayout;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Non-blocking client which sends requests as frames on one connection, and completes the future of each request with the response whose key field has the same value as the key field of the request.
+ * <p>
+ * Requests are not waited for one by one, so any number of them can be in flight on the connection, and their responses may come back in any order. The keys are compared by the strings of the values of the key fields, and a key can be used by only one request in flight at a time.
+ * <p>
+ * Requests are encoded into pooled direct buffers on the thread of the connection, and the requests sent in the meantime are flushed together. The futures are completed on the thread of the connection, so use the async methods of {@link CompletableFuture} for work that blocks.
+ * <p>
+ * This class is thread safe.
+ *
+ * @param <P> type of the responses
+ */
+public final class FullTextClient<P> implements Closeable {
+    private static final Logger log = Logger.getGlobal();
+
+    private final EventLoop loop;
+    private final Connection connection;
+    private final RecordLayout<P> layout;
+    private final String keyField;
+    private final ClassValue<FieldLayout> keyFields;
+    private final ConcurrentMap<String, CompletableFuture<P>> pending = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    private FullTextClient(final EventLoop loop, final SocketChannel channel, final Builder<P> builder) {
+        this.loop = loop;
+        this.layout = builder.layout;
+        this.keyField = builder.keyField;
+        this.keyFields = new ClassValue<FieldLayout>() {
+            @Override
+            protected FieldLayout computeValue(final Class<?> type) {
+                for (FieldLayout field : FullTextLayout.of(type).getFields()) {
+                    if (field.getName().equals(keyField)) {
+                        return field;
+                    }
+                }
+                throw new IllegalArgumentException("Could not find @Field named " + keyField + " in " + type.getName());
+            }
+        };
+        this.connection = new Connection(loop, channel, builder.codec, this::receive, this::closed);
+    }
+
+    /**
+     * Returns a builder of a client which maps each response to an instance of the class.
+     *
+     * @param codec framing of the telegrams
+     * @param clazz class of the responses
+     * @param <P>   class in which {@link FullText} and {@link Field} are declared
+     * @return {@link Builder}
+     * @throws IllegalArgumentException occurs when the class is not valid.
+     */
+    public static <P> Builder<P> builder(final FrameCodec codec, final Class<P> clazz) {
+        return builder(codec, FullTextLayout.of(clazz));
+    }
+
+    /**
+     * Returns a builder of a client which maps each response with the layout, such as a {@link fulltext.layout.DispatchLayout} of several kinds of responses.
+     *
+     * @param codec  framing of the telegrams
+     * @param layout layout of the responses
+     * @param <P>    type of the responses
+     * @return {@link Builder}
+     */
+    public static <P> Builder<P> builder(final FrameCodec codec, final RecordLayout<P> layout) {
+        return new Builder<>(codec, layout);
+    }
+
+    /**
+     * Sends the request, and returns the future of its response. The request is written by the thread of the connection, so this method does not block.
+     * <p>
+     * Cancelling the future frees its key, and the response is dropped when it comes.
+     *
+     * @param request request in which {@link FullText} and {@link Field} are declared
+     * @return future of the response. it fails when the key is already in flight, the request fails to be encoded, or the connection is closed.
+     * @throws IllegalArgumentException occurs when the class of the request has no key field, or is not valid.
+     */
+    public CompletableFuture<P> send(final Object request) {
+        Objects.requireNonNull(request, "Request must not be null.");
+        final String key = key(request);
+        final CompletableFuture<P> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new ClosedChannelException());
+            return future;
+        }
+        if (pending.putIfAbsent(key, future) != null) {
+            future.completeExceptionally(new IllegalStateException("A request whose " + keyField + " is " + key + " is already waiting for its response."));
+            return future;
+        }
+        future.whenComplete((response, e) -> pending.remove(key, future));
+        // checked again after the future is in the map, so it is failed either here or by the close
+        if (closed) {
+            future.completeExceptionally(new ClosedChannelException());
+            return future;
+        }
+
+        loop.execute(() -> {
+            try {
+                connection.write(request);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private void receive(final Connection connection, final ByteBuffer body) {
+        final P response;
+        final String key;
+        try {
+            response = Connection.map(layout, body);
+            key = key(response);
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Skipped a frame which could not be mapped.", e);
+            return;
+        }
+        final CompletableFuture<P> future = pending.remove(key);
+        if (future == null) {
+            log.warning("Skipped a response which no request is waiting for. " + keyField + ": " + key);
+            return;
+        }
+        future.complete(response);
+    }
+
+    private String key(final Object instance) {
+        final Object value = keyFields.get(instance.getClass()).getAccessor().get(instance);
+        return value == null ? "" : value.toString();
+    }
+
+    private void closed() {
+        closed = true;
+        for (CompletableFuture<P> future : pending.values()) {
+            future.completeExceptionally(new ClosedChannelException());
+        }
+    }
+
+    /**
+     * Returns the number of the requests waiting for their responses.
+     *
+     * @return number of the requests in flight
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns whether the connection is closed, by this client or by the server.
+     *
+     * @return true if it is closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes the connection after writing what it can of the requests already sent. The futures of the requests in flight fail with {@link ClosedChannelException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        loop.close();
+        closed();
+    }
+
+    /**
+     * Builder of {@link FullTextClient}.
+     *
+     * @param <P> type of the responses
+     */
+    public static final class Builder<P> {
+        private final FrameCodec codec;
+        private final RecordLayout<P> layout;
+        private String keyField;
+        private int bufferSize = 64 * 1024;
+
+        private Builder(final FrameCodec codec, final RecordLayout<P> layout) {
+            this.codec = Objects.requireNonNull(codec, "FrameCodec must not be null.");
+            this.layout = Objects.requireNonNull(layout, "RecordLayout must not be null.");
+        }
+
+        /**
+         * Correlates each response with its request by the field of the name, which both the requests and the responses declare.
+         *
+         * @param fieldName name of the key field, such as the number of a telegram
+         * @return this builder
+         */
+        public Builder<P> correlateBy(final String fieldName) {
+            this.keyField = Objects.requireNonNull(fieldName, "Field name must not be null.");
+            return this;
+        }
+
+        /**
+         * Sets the size of the pooled buffers, into which the frames are read and written. It is 64KB by default. A frame longer than a buffer is written through a buffer of its own.
+         *
+         * @param bufferSize size of a buffer in bytes
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the size is less than the header of the codec.
+         */
+        public Builder<P> bufferSize(final int bufferSize) {
+            if (bufferSize <= codec.getHeaderLength()) {
+                throw new IllegalArgumentException("The buffer size must be longer than the frame header. but it was " + bufferSize);
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Connects a client to the address. It blocks until the connection is established.
+         *
+         * @param address address of the server
+         * @return the connected {@link FullTextClient}
+         * @throws IOException              occurs when the connection cannot be established.
+         * @throws IllegalArgumentException occurs when the key field is not given.
+         */
+        public FullTextClient<P> connect(final SocketAddress address) throws IOException {
+            if (keyField == null) {
+                throw new IllegalArgumentException("Give the field to correlate the responses with the requests by.");
+            }
+            final SocketChannel channel = SocketChannel.open();
+            final EventLoop loop = new EventLoop("full-text-client", bufferSize);
+            try {
+                channel.connect(address);
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                final FullTextClient<P> client = new FullTextClient<>(loop, channel, this);
+                // registered before the loop starts, so it does not wait for a selector blocked in select
+                client.connection.register();
+                loop.start();
+                return client;
+            } catch (IOException | RuntimeException e) {
+                loop.close();
+                channel.close();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package fulltext.transport;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+
+/**
+ * Handler of the requests which a {@link FullTextServer} maps from the frames it reads.
+ *
+ * @param <Q> type of the requests
+ */
+@FunctionalInterface
+public interface FullTextHandler<Q> {
+    /**
+     * Handles the request, and returns the response to send back on the same connection.
+     *
+     * @param request request mapped from the body of a frame
+     * @return response in which {@link FullText} and {@link Field} are declared. null means no response.
+     */
+    Object handle(Q request);
+}
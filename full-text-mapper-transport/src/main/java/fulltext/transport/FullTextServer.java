@@ -0,0 +1,299 @@
+package fulltext.transport;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.io.FrameCodec;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordLayout;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Non-blocking server which maps the body of each frame it reads to a request, passes it to the {@link FullTextHandler}, and writes the response back as a frame on the same connection.
+ * <p>
+ * Connections are spread over a fixed number of {@link java.nio.channels.Selector} threads. By default, the handler is called on the thread of the connection, so it must not block; give an {@link Executor} to call it on other threads. Either way, the responses of a connection are encoded into pooled direct buffers on the thread of the connection, and flushed together at the end of each round of the selector.
+ * <p>
+ * A frame whose body is not the length of the request layout, or which fails to be mapped or handled, is logged and skipped, because the frames after it are still in sync. A frame whose header is invalid closes the connection. A connection which fails to be accepted or set up is closed on its own, and the server keeps listening.
+ * <p>
+ * This class is thread safe.
+ *
+ * @param <Q> type of the requests
+ */
+public final class FullTextServer<Q> implements Closeable {
+    private static final Logger log = Logger.getGlobal();
+
+    private final ServerSocketChannel server;
+    private final EventLoop[] loops;
+    private final FrameCodec codec;
+    private final RecordLayout<Q> layout;
+    private final FullTextHandler<Q> handler;
+    private final Executor executor;
+    private int next;
+
+    private FullTextServer(final ServerSocketChannel server, final EventLoop[] loops, final Builder<Q> builder) {
+        this.server = server;
+        this.loops = loops;
+        this.codec = builder.codec;
+        this.layout = builder.layout;
+        this.handler = builder.handler;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Returns a builder of a server which maps each frame to an instance of the class.
+     *
+     * @param codec   framing of the telegrams
+     * @param clazz   class of the requests
+     * @param handler handler of the requests
+     * @param <Q>     class in which {@link FullText} and {@link Field} are declared
+     * @return {@link Builder}
+     * @throws IllegalArgumentException occurs when the class is not valid.
+     */
+    public static <Q> Builder<Q> builder(final FrameCodec codec, final Class<Q> clazz, final FullTextHandler<Q> handler) {
+        return builder(codec, FullTextLayout.of(clazz), handler);
+    }
+
+    /**
+     * Returns a builder of a server which maps each frame with the layout, such as a {@link fulltext.layout.DispatchLayout} of several kinds of requests.
+     *
+     * @param codec   framing of the telegrams
+     * @param layout  layout of the requests
+     * @param handler handler of the requests
+     * @param <Q>     type of the requests
+     * @return {@link Builder}
+     */
+    public static <Q> Builder<Q> builder(final FrameCodec codec, final RecordLayout<Q> layout, final FullTextHandler<Q> handler) {
+        return new Builder<>(codec, layout, handler);
+    }
+
+    // the server is registered before the loops start, so it does not wait for a selector blocked in select
+    private void start() throws IOException {
+        loops[0].register(server, SelectionKey.OP_ACCEPT, new EventLoop.Handler() {
+            @Override
+            public void ready(final SelectionKey key) {
+                accept();
+            }
+
+            @Override
+            public void close() {
+                closeQuietly(server);
+            }
+        });
+        for (EventLoop loop : loops) {
+            loop.start();
+        }
+    }
+
+    // a failure is confined to the connection being accepted, so the server keeps listening
+    private void accept() {
+        while (true) {
+            final SocketChannel channel;
+            try {
+                channel = server.accept();
+            } catch (IOException e) {
+                log.log(Level.WARNING, "Failed to accept a connection.", e);
+                return;
+            }
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            } catch (IOException e) {
+                log.log(Level.FINE, "Closing the connection which failed to be set up.", e);
+                closeQuietly(channel);
+                continue;
+            }
+            final EventLoop loop = loops[next++ % loops.length];
+            loop.execute(() -> {
+                final Connection connection = new Connection(loop, channel, codec, this::receive, null);
+                try {
+                    connection.register();
+                } catch (IOException e) {
+                    log.log(Level.FINE, "Failed to register the connection.", e);
+                    connection.close();
+                }
+            });
+        }
+    }
+
+    private void receive(final Connection connection, final ByteBuffer body) {
+        final Q request;
+        try {
+            request = Connection.map(layout, body);
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Skipped a frame which could not be mapped.", e);
+            return;
+        }
+        if (executor == null) {
+            respond(connection, request);
+        } else {
+            executor.execute(() -> {
+                final Object response = handle(request);
+                if (response != null) {
+                    connection.getLoop().execute(() -> write(connection, response));
+                }
+            });
+        }
+    }
+
+    private void respond(final Connection connection, final Q request) {
+        final Object response = handle(request);
+        if (response != null) {
+            write(connection, response);
+        }
+    }
+
+    private Object handle(final Q request) {
+        try {
+            return handler.handle(request);
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Failed to handle a request.", e);
+            return null;
+        }
+    }
+
+    private static void write(final Connection connection, final Object response) {
+        if (connection.isClosed()) {
+            return;
+        }
+        try {
+            connection.write(response);
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Failed to write a response.", e);
+        }
+    }
+
+    private static void closeQuietly(final Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.log(Level.FINE, "Failed to close.", e);
+        }
+    }
+
+    /**
+     * Returns the address which the server is bound to, such as the port chosen for port 0.
+     *
+     * @return local address
+     * @throws IOException occurs when the address cannot be read.
+     */
+    public InetSocketAddress getLocalAddress() throws IOException {
+        return (InetSocketAddress) server.getLocalAddress();
+    }
+
+    /**
+     * Stops accepting connections, and closes every connection after writing what it can of the responses already written.
+     */
+    @Override
+    public void close() {
+        for (EventLoop loop : loops) {
+            loop.close();
+        }
+        closeQuietly(server);
+    }
+
+    /**
+     * Builder of {@link FullTextServer}.
+     *
+     * @param <Q> type of the requests
+     */
+    public static final class Builder<Q> {
+        private final FrameCodec codec;
+        private final RecordLayout<Q> layout;
+        private final FullTextHandler<Q> handler;
+        private int threads = 1;
+        private int bufferSize = 64 * 1024;
+        private Executor executor;
+
+        private Builder(final FrameCodec codec, final RecordLayout<Q> layout, final FullTextHandler<Q> handler) {
+            this.codec = Objects.requireNonNull(codec, "FrameCodec must not be null.");
+            this.layout = Objects.requireNonNull(layout, "RecordLayout must not be null.");
+            this.handler = Objects.requireNonNull(handler, "Handler must not be null.");
+        }
+
+        /**
+         * Sets the number of the selector threads. It is 1 by default.
+         *
+         * @param threads number of the selector threads
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the number is less than 1.
+         */
+        public Builder<Q> threads(final int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("The number of threads must be at least 1. but it was " + threads);
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Sets the size of the pooled buffers, into which the frames are read and written. It is 64KB by default. A frame longer than a buffer is written through a buffer of its own.
+         *
+         * @param bufferSize size of a buffer in bytes
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the size is less than the header of the codec.
+         */
+        public Builder<Q> bufferSize(final int bufferSize) {
+            if (bufferSize <= codec.getHeaderLength()) {
+                throw new IllegalArgumentException("The buffer size must be longer than the frame header. but it was " + bufferSize);
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Calls the handler on the executor, rather than on the selector threads. Use this when the handler blocks.
+         *
+         * @param executor executor of the handler. null means the selector threads.
+         * @return this builder
+         */
+        public Builder<Q> executor(final Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Binds a server to the address, and starts it.
+         *
+         * @param address address to listen on. port 0 means any free port.
+         * @return the started {@link FullTextServer}
+         * @throws IOException occurs when the server cannot be bound.
+         */
+        public FullTextServer<Q> bind(final SocketAddress address) throws IOException {
+            final ServerSocketChannel server = ServerSocketChannel.open();
+            final EventLoop[] loops = new EventLoop[threads];
+            try {
+                server.configureBlocking(false);
+                server.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+                server.bind(address);
+                for (int i = 0; i < threads; i++) {
+                    loops[i] = new EventLoop("full-text-server-" + i, bufferSize);
+                }
+                final FullTextServer<Q> started = new FullTextServer<>(server, loops, this);
+                started.start();
+                return started;
+            } catch (IOException | RuntimeException e) {
+                for (EventLoop loop : loops) {
+                    if (loop != null) {
+                        loop.close();
+                    }
+                }
+                closeQuietly(server);
+                throw e;
+            }
+        }
+    }
+}
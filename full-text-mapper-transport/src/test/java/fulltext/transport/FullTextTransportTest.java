@@ -0,0 +1,295 @@
+package fulltext.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.FullTextMapperFactory;
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.PadCharacter;
+import fulltext.enums.PadPosition;
+import fulltext.io.FrameCodec;
+import fulltext.io.FrameDecoder;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FullTextTransportTest {
+    private static final InetSocketAddress LOOPBACK = new InetSocketAddress("127.0.0.1", 0);
+    private static final FrameCodec CODEC = FrameCodec.builder(4).build();
+
+    @FullText(length = 30)
+    public static class Request {
+        @Field(length = 8, padPosition = PadPosition.RIGHT)
+        String telegramNo;
+
+        @Field(length = 12, padChar = PadCharacter.ZERO)
+        long amount;
+
+        @Field(length = 10, padPosition = PadPosition.RIGHT)
+        String message;
+
+        Request() {
+        }
+
+        Request(final String telegramNo, final long amount, final String message) {
+            this.telegramNo = telegramNo;
+            this.amount = amount;
+            this.message = message;
+        }
+    }
+
+    @FullText(length = 30)
+    public static class Response {
+        @Field(length = 8, padPosition = PadPosition.RIGHT)
+        String telegramNo;
+
+        @Field(length = 12, padChar = PadCharacter.ZERO)
+        long amount;
+
+        @Field(length = 10, padPosition = PadPosition.RIGHT)
+        String result;
+
+        Response() {
+        }
+
+        Response(final String telegramNo, final long amount, final String result) {
+            this.telegramNo = telegramNo;
+            this.amount = amount;
+            this.result = result;
+        }
+    }
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    void send() throws Exception {
+        final FullTextServer<Request> server = open(FullTextServer.builder(CODEC, Request.class, request -> new Response(request.telegramNo, request.amount * 2, "OK"))
+            .bufferSize(1024)
+            .bind(LOOPBACK));
+        final FullTextClient<Response> client = open(FullTextClient.builder(CODEC, Response.class)
+            .correlateBy("telegramNo")
+            .bufferSize(1024)
+            .connect(server.getLocalAddress()));
+
+        final List<CompletableFuture<Response>> futures = IntStream.rangeClosed(1, 10_000).parallel()
+            .mapToObj(i -> client.send(new Request(String.valueOf(i), i, "hello")))
+            .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+        assertAll(
+            () -> assertThat(futures).allSatisfy(future -> {
+                final Response response = future.join();
+                assertThat(response.amount).isEqualTo(Long.parseLong(response.telegramNo) * 2);
+                assertThat(response.result).isEqualTo("OK");
+            }),
+            () -> assertThat(futures.get(41).join().telegramNo).isEqualTo("42"),
+            () -> assertThat(client.getPendingCount()).isZero()
+        );
+    }
+
+    @Test
+    void send_outOfOrder() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        resources.add(executor::shutdownNow);
+        final FullTextServer<Request> server = open(FullTextServer.builder(CODEC, Request.class, request -> {
+                sleep((request.amount % 3) * 5);
+                return new Response(request.telegramNo, request.amount, request.message);
+            })
+            .threads(2)
+            .executor(executor)
+            .bind(LOOPBACK));
+        final FullTextClient<Response> client = open(FullTextClient.builder(CODEC, Response.class).correlateBy("telegramNo").connect(server.getLocalAddress()));
+
+        final List<CompletableFuture<Response>> futures = IntStream.rangeClosed(1, 300)
+            .mapToObj(i -> client.send(new Request("T" + i, i, "m" + i)))
+            .collect(Collectors.toList());
+
+        for (int i = 0; i < futures.size(); i++) {
+            final Response response = futures.get(i).get(30, TimeUnit.SECONDS);
+            assertThat(response.telegramNo).isEqualTo("T" + (i + 1));
+            assertThat(response.result).isEqualTo("m" + (i + 1));
+        }
+    }
+
+    @Test
+    void send_duplicateKey() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        resources.add(executor::shutdownNow);
+        final FullTextServer<Request> server = open(FullTextServer.builder(CODEC, Request.class, request -> {
+                await(latch);
+                return new Response(request.telegramNo, request.amount, "OK");
+            })
+            .executor(executor)
+            .bind(LOOPBACK));
+        final FullTextClient<Response> client = open(FullTextClient.builder(CODEC, Response.class).correlateBy("telegramNo").connect(server.getLocalAddress()));
+
+        final CompletableFuture<Response> first = client.send(new Request("A", 1, "first"));
+        final CompletableFuture<Response> second = client.send(new Request("A", 2, "second"));
+        latch.countDown();
+
+        assertAll(
+            () -> assertThatThrownBy(second::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("A request whose telegramNo is A is already waiting for its response."),
+            () -> assertThat(first.get(30, TimeUnit.SECONDS).amount).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void close() throws Exception {
+        final FullTextServer<Request> server = open(FullTextServer.builder(CODEC, Request.class, request -> null).bind(LOOPBACK));
+        final FullTextClient<Response> client = FullTextClient.builder(CODEC, Response.class).correlateBy("telegramNo").connect(server.getLocalAddress());
+
+        final CompletableFuture<Response> unanswered = client.send(new Request("1", 1, "no answer"));
+        client.close();
+
+        assertAll(
+            () -> assertThatThrownBy(() -> unanswered.get(30, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ClosedChannelException.class),
+            () -> assertThatThrownBy(() -> client.send(new Request("2", 2, "closed")).get())
+                .hasCauseInstanceOf(ClosedChannelException.class),
+            () -> assertThat(client.isClosed()).isTrue(),
+            () -> assertThat(client.getPendingCount()).isZero()
+        );
+    }
+
+    @Test
+    void close_server() throws Exception {
+        final FullTextServer<Request> server = FullTextServer.builder(CODEC, Request.class, request -> null).bind(LOOPBACK);
+        final FullTextClient<Response> client = open(FullTextClient.builder(CODEC, Response.class).correlateBy("telegramNo").connect(server.getLocalAddress()));
+        final CompletableFuture<Response> unanswered = client.send(new Request("1", 1, "no answer"));
+
+        server.close();
+
+        assertThatThrownBy(() -> unanswered.get(30, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(ClosedChannelException.class);
+    }
+
+    // a frame which is not a request is skipped, and the frames after it are still answered
+    @Test
+    void receive_invalidFrame() throws Exception {
+        final FullTextServer<Request> server = open(FullTextServer.builder(CODEC, Request.class, request -> new Response(request.telegramNo, request.amount, "OK")).bind(LOOPBACK));
+
+        final ByteBuffer frames = ByteBuffer.allocate(256);
+        CODEC.encode(frames, body -> body.put("abc".getBytes(StandardCharsets.US_ASCII)));
+        CODEC.encode(new Request("7", 3, "valid"), frames);
+        frames.flip();
+
+        final List<Response> responses = new ArrayList<>();
+        try (SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+            while (frames.hasRemaining()) {
+                channel.write(frames);
+            }
+            final FrameDecoder decoder = CODEC.newDecoder();
+            while (responses.isEmpty()) {
+                decoder.read(channel, body -> responses.add(FullTextMapperFactory.lineFullTextMapper().readValue(body, Response.class)));
+            }
+        }
+
+        assertAll(
+            () -> assertThat(responses).hasSize(1),
+            () -> assertThat(responses.get(0).telegramNo).isEqualTo("7"),
+            () -> assertThat(responses.get(0).amount).isEqualTo(3)
+        );
+    }
+
+    // a connection reset before it is set up is closed on its own, and the server keeps accepting the others
+    @Test
+    void accept_reset() throws Exception {
+        final FullTextServer<Request> server = open(FullTextServer.builder(CODEC, Request.class, request -> new Response(request.telegramNo, request.amount, "OK")).bind(LOOPBACK));
+
+        for (int i = 0; i < 20; i++) {
+            try (SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+                channel.setOption(StandardSocketOptions.SO_LINGER, 0);
+            }
+        }
+        final FullTextClient<Response> client = open(FullTextClient.builder(CODEC, Response.class).correlateBy("telegramNo").connect(server.getLocalAddress()));
+
+        assertThat(client.send(new Request("1", 5, "after")).get(30, TimeUnit.SECONDS).result).isEqualTo("OK");
+    }
+
+    @Test
+    void builder_IllegalArgumentException() throws Exception {
+        final FullTextServer<Request> server = open(FullTextServer.builder(CODEC, Request.class, request -> null).bind(LOOPBACK));
+        final FullTextClient<Response> client = open(FullTextClient.builder(CODEC, Response.class).correlateBy("unknown").connect(server.getLocalAddress()));
+
+        assertAll(
+            () -> assertThatThrownBy(() -> FullTextClient.builder(CODEC, Response.class).connect(server.getLocalAddress()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Give the field to correlate the responses with the requests by."),
+            () -> assertThatThrownBy(() -> client.send(new Request("1", 1, "")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Could not find @Field named unknown in " + Request.class.getName()),
+            () -> assertThatThrownBy(() -> FullTextServer.builder(CODEC, Request.class, request -> null).threads(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The number of threads must be at least 1. but it was 0")
+        );
+    }
+
+    @Test
+    void bufferPool() throws Exception {
+        final BufferPool pool = new BufferPool(64, 1);
+        final ByteBuffer first = pool.acquire();
+        final ByteBuffer second = pool.acquire();
+        first.put((byte) 1);
+        pool.release(first);
+        pool.release(second);
+        final ByteBuffer large = pool.acquire(65);
+        pool.release(large);
+
+        assertAll(
+            () -> assertThat(pool.size()).isEqualTo(1),
+            () -> assertThat(pool.acquire()).isSameAs(first).satisfies(buffer -> assertThat(buffer.position()).isZero()),
+            () -> assertThat(large.isDirect()).isFalse(),
+            () -> assertThat(large.capacity()).isEqualTo(65)
+        );
+    }
+
+    private <T extends AutoCloseable> T open(final T resource) {
+        resources.add(0, resource);
+        return resource;
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
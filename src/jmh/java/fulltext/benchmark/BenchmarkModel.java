@@ -0,0 +1,50 @@
+package fulltext.benchmark;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.PadCharacter;
+import fulltext.enums.PadPosition;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@FullText(length = 100)
+public class BenchmarkModel {
+    @Field(length = 1)
+    private String type;
+
+    @Field(length = 10, padPosition = PadPosition.RIGHT)
+    private String name;
+
+    @Field(length = 3, padChar = PadCharacter.ZERO)
+    private int age;
+
+    @Field(length = 12, padChar = PadCharacter.ZERO)
+    private long amount;
+
+    @Field(length = 10)
+    private Long point;
+
+    @Field(length = 15, padChar = PadCharacter.ZERO)
+    private BigDecimal balance;
+
+    @Field(length = 8)
+    private LocalDate openAt;
+
+    @Field(length = 14)
+    private LocalDateTime updateAt;
+
+    @Field(length = 27)
+    private String memo;
+
+    private BenchmarkModel() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+}
@@ -0,0 +1,68 @@
+package fulltext.benchmark;
+
+import fulltext.FullTextMapper;
+import fulltext.FullTextMapperFactory;
+import fulltext.LineFullTextMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the mapping of {@link LineFullTextMapper}, which walks the compiled layout of a class, with the mapping of a mapper spun at runtime.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FullTextMapperBenchmark {
+    static final String DATA = "Dsiro      028000001234567      12000000000123.4567"
+        + "2021101120211011093000" + "memo                       ";
+
+    private final FullTextMapper layoutMapper = LineFullTextMapper.newInstance();
+    private final FullTextMapper runtimeGeneratedMapper = FullTextMapperFactory.runtimeGeneratedFullTextMapper();
+    private byte[] bytes;
+    private BenchmarkModel model;
+
+    @Setup
+    public void setUp() {
+        bytes = DATA.getBytes(StandardCharsets.UTF_8);
+        model = layoutMapper.readValue(DATA, BenchmarkModel.class);
+    }
+
+    @Benchmark
+    public BenchmarkModel readLayout() {
+        return layoutMapper.readValue(DATA, BenchmarkModel.class);
+    }
+
+    @Benchmark
+    public BenchmarkModel readRuntimeGenerated() {
+        return runtimeGeneratedMapper.readValue(DATA, BenchmarkModel.class);
+    }
+
+    @Benchmark
+    public BenchmarkModel readBytesLayout() {
+        return layoutMapper.readValue(bytes, BenchmarkModel.class);
+    }
+
+    @Benchmark
+    public BenchmarkModel readBytesRuntimeGenerated() {
+        return runtimeGeneratedMapper.readValue(bytes, BenchmarkModel.class);
+    }
+
+    @Benchmark
+    public String writeLayout() {
+        return layoutMapper.write(model);
+    }
+
+    @Benchmark
+    public String writeRuntimeGenerated() {
+        return runtimeGeneratedMapper.write(model);
+    }
+}
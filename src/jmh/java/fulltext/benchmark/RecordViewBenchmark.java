@@ -0,0 +1,66 @@
+package fulltext.benchmark;
+
+import fulltext.FullTextMapper;
+import fulltext.FullTextMapperFactory;
+import fulltext.generated.RecordView;
+import fulltext.generated.ViewLayout;
+import fulltext.layout.Projection;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares reading two fields of a record through a mapped instance with reading them through a projection, which binds only those two fields, and through a view, which decodes only those two fields.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecordViewBenchmark {
+    public interface RoutingView extends RecordView {
+        String getName();
+
+        long getAmount();
+    }
+
+    private final FullTextMapper mapper = FullTextMapperFactory.runtimeGeneratedFullTextMapper();
+    private byte[] bytes;
+    private RoutingView view;
+    private Projection<BenchmarkModel> projection;
+
+    @Setup
+    public void setUp() {
+        bytes = FullTextMapperBenchmark.DATA.getBytes(StandardCharsets.UTF_8);
+        projection = Projection.of(BenchmarkModel.class, "name", "amount");
+        view = ViewLayout.of(RoutingView.class, BenchmarkModel.class).read(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public void readValue(final Blackhole blackhole) {
+        final BenchmarkModel model = mapper.readValue(bytes, BenchmarkModel.class);
+        blackhole.consume(model.getName());
+        blackhole.consume(model.getAmount());
+    }
+
+    @Benchmark
+    public void readProjection(final Blackhole blackhole) {
+        final BenchmarkModel model = projection.read(bytes, 0, bytes.length);
+        blackhole.consume(model.getName());
+        blackhole.consume(model.getAmount());
+    }
+
+    @Benchmark
+    public void pointView(final Blackhole blackhole) {
+        view.point(bytes, 0, bytes.length);
+        blackhole.consume(view.getName());
+        blackhole.consume(view.getAmount());
+    }
+}
@@ -2,6 +2,12 @@ package fulltext;
 
 import fulltext.annotation.Field;
 import fulltext.annotation.FullText;
+import fulltext.exception.RuleViolationException;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.Projection;
+import fulltext.layout.RecordEncoder;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 
 /**
  * <p>
@@ -24,6 +30,8 @@ public interface FullTextMapper {
 
     /**
      * After inputting the byte array data and class together, it maps the data to the instance of the input class and returns it.
+     * <p>
+     * In this case, the lengths declared in {@link FullText} and {@link Field} are counts of bytes in {@link FullText#encoding()}.
      *
      * @param <T>   class in which {@link FullText} and {@link Field} are declared
      * @param data  full text of byte array type
@@ -32,6 +40,63 @@ public interface FullTextMapper {
      */
     <T> T readValue(final byte[] data, final Class<T> clazz);
 
+    /**
+     * Maps only the named fields of the string data to an instance of the class. The other fields are not converted, and keep the values that the default constructor gives them.
+     *
+     * @param data       full text of string type
+     * @param clazz      map to full text
+     * @param fieldNames names of the fields to bind
+     * @param <T>        class in which {@link FullText} and {@link Field} are declared
+     * @return instance of T
+     * @see Projection
+     */
+    default <T> T readValue(final String data, final Class<T> clazz, final String... fieldNames) {
+        return Projection.of(clazz, fieldNames).read(data, 0, data.length());
+    }
+
+    /**
+     * Maps only the named fields of the byte array data to an instance of the class. The other fields are not converted, and keep the values that the default constructor gives them.
+     *
+     * @param data       full text of byte array type
+     * @param clazz      map to full text
+     * @param fieldNames names of the fields to bind
+     * @param <T>        class in which {@link FullText} and {@link Field} are declared
+     * @return instance of T
+     * @see Projection
+     */
+    default <T> T readValue(final byte[] data, final Class<T> clazz, final String... fieldNames) {
+        return Projection.of(clazz, fieldNames).read(data, 0, data.length);
+    }
+
+    /**
+     * Maps the record at the position of the buffer to an instance of the class, and advances the position by exactly {@link FullText#length()} bytes. The position is not changed if it fails.
+     * <p>
+     * A heap buffer is parsed in place. The field parsers work on byte arrays, so a direct buffer is copied one record at a time into an array which belongs to the current thread, rather than into a new array for each record.
+     *
+     * @param data  full text of byte buffer type. it may be a heap or direct buffer.
+     * @param clazz map to full text
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return instance of T
+     * @throws RuleViolationException occurs when the remaining of the buffer is less than {@link FullText#length()}, or the data does not match the class.
+     */
+    default <T> T readValue(final ByteBuffer data, final Class<T> clazz) {
+        return FullTextLayout.of(clazz).read(data);
+    }
+
+    /**
+     * Writes the full text of the object at the position of the buffer, and advances the position by exactly {@link FullText#length()} bytes. The position is not changed if it fails.
+     *
+     * @param object want to output in full text
+     * @param dst    buffer to write. it may be a heap or direct buffer.
+     * @throws BufferOverflowException occurs when the remaining of the buffer is less than {@link FullText#length()}.
+     * @throws RuleViolationException  occurs when the data of a field is longer than {@link Field#length()}.
+     * @see RecordEncoder
+     */
+    @SuppressWarnings("unchecked")
+    default void write(final Object object, final ByteBuffer dst) {
+        ((RecordEncoder<Object>) RecordEncoder.ofThread(object.getClass())).encode(object, dst);
+    }
+
     /**
      * It takes an object as input, refers to {@link FullText} and {@link Field} declared, and creates full text and returns it.
      *
@@ -6,6 +6,8 @@ public class FullTextMapperFactory {
 
     /**
      * Returns a singleton instance of LineFullTextMapper.
+     * <p>
+     * If a mapper of the class was generated at compile time by full-text-mapper-processor, it is used instead, so that the annotations are not reflected at runtime.
      *
      * @return a instance of LineFullTextMapper. this is thread-safe.
      */
@@ -13,8 +15,24 @@ public class FullTextMapperFactory {
         return LineFullTextMapperHolder.instance;
     }
 
+    /**
+     * Returns a singleton instance of FullTextMapper that spins a mapper class for each class at runtime, at its first use.
+     * <p>
+     * The spun mapper reads and writes the fields in a straight line, like a mapper generated by full-text-mapper-processor, so it suits classes that can not be compiled with the processor, such as classes in a third-party jar. A mapper generated at compile time is still preferred.
+     *
+     * @return a instance of FullTextMapper. this is thread-safe.
+     */
+    public static FullTextMapper runtimeGeneratedFullTextMapper() {
+        return RuntimeGeneratedFullTextMapperHolder.instance;
+    }
+
     private static class LineFullTextMapperHolder {
-        private static final FullTextMapper instance = LineFullTextMapper.newInstance();
+        private static final FullTextMapper instance = new PreferGeneratedFullTextMapper(LineFullTextMapper.newInstance());
+
+    }
+
+    private static class RuntimeGeneratedFullTextMapperHolder {
+        private static final FullTextMapper instance = new PreferGeneratedFullTextMapper(new RuntimeGeneratedFullTextMapper());
 
     }
 }
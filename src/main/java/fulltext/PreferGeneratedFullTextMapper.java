@@ -0,0 +1,87 @@
+package fulltext;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.generated.GeneratedMapper;
+import fulltext.generated.GeneratedMappers;
+import java.nio.ByteBuffer;
+
+/**
+ * FullTextMapper that uses the {@link GeneratedMapper} of a class when one was generated at compile time, and otherwise delegates to another mapper. This class is thread safe.
+ */
+final class PreferGeneratedFullTextMapper implements FullTextMapper {
+    private final FullTextMapper delegate;
+
+    PreferGeneratedFullTextMapper(final FullTextMapper delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Binds the full text to a new instance of the class, with the generated mapper if there is one.
+     *
+     * @param data  full text of string type
+     * @param clazz map to full text
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return instance of T
+     */
+    @Override
+    public <T> T readValue(final String data, final Class<T> clazz) {
+        final GeneratedMapper<T> mapper = GeneratedMappers.find(clazz);
+        if (mapper == null) {
+            return delegate.readValue(data, clazz);
+        }
+        return mapper.read(data, 0, data.length());
+    }
+
+    /**
+     * Binds the full text to a new instance of the class, with the generated mapper if there is one.
+     *
+     * @param data  full text of byte array type
+     * @param clazz map to full text
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return instance of T
+     */
+    @Override
+    public <T> T readValue(final byte[] data, final Class<T> clazz) {
+        final GeneratedMapper<T> mapper = GeneratedMappers.find(clazz);
+        if (mapper == null) {
+            return delegate.readValue(data, clazz);
+        }
+        return mapper.read(data, 0, data.length);
+    }
+
+    /**
+     * Binds the record at the position of the buffer to a new instance of the class, with the generated mapper if there is one.
+     *
+     * @param data  full text of byte buffer type
+     * @param clazz map to full text
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return instance of T
+     */
+    @Override
+    public <T> T readValue(final ByteBuffer data, final Class<T> clazz) {
+        final GeneratedMapper<T> mapper = GeneratedMappers.find(clazz);
+        if (mapper == null) {
+            return delegate.readValue(data, clazz);
+        }
+        return mapper.read(data);
+    }
+
+    /**
+     * Creates full text of the object, with the generated mapper if there is one.
+     *
+     * @param object want to output in full text
+     * @return full text
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public String write(final Object object) {
+        final GeneratedMapper<Object> mapper = (GeneratedMapper<Object>) GeneratedMappers.find(object.getClass());
+        if (mapper == null) {
+            return delegate.write(object);
+        }
+        final char[] chars = new char[mapper.getLength()];
+        mapper.write(object, chars, 0);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,66 @@
+package fulltext;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.generated.GeneratedMapper;
+import fulltext.generated.RuntimeMappers;
+import java.nio.ByteBuffer;
+
+/**
+ * FullTextMapper that maps each class with a {@link GeneratedMapper} spun at runtime by {@link RuntimeMappers}. This class is thread safe.
+ */
+final class RuntimeGeneratedFullTextMapper implements FullTextMapper {
+    /**
+     * Binds the full text to a new instance of the class, with the mapper spun for the class.
+     *
+     * @param data  full text of string type
+     * @param clazz map to full text
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return instance of T
+     */
+    @Override
+    public <T> T readValue(final String data, final Class<T> clazz) {
+        return RuntimeMappers.of(clazz).read(data, 0, data.length());
+    }
+
+    /**
+     * Binds the full text to a new instance of the class, with the mapper spun for the class.
+     *
+     * @param data  full text of byte array type
+     * @param clazz map to full text
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return instance of T
+     */
+    @Override
+    public <T> T readValue(final byte[] data, final Class<T> clazz) {
+        return RuntimeMappers.of(clazz).read(data, 0, data.length);
+    }
+
+    /**
+     * Binds the record at the position of the buffer to a new instance of the class, with the mapper spun for the class.
+     *
+     * @param data  full text of byte buffer type
+     * @param clazz map to full text
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return instance of T
+     */
+    @Override
+    public <T> T readValue(final ByteBuffer data, final Class<T> clazz) {
+        return RuntimeMappers.of(clazz).read(data);
+    }
+
+    /**
+     * Creates full text of the object, with the mapper spun for its class.
+     *
+     * @param object want to output in full text
+     * @return full text
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public String write(final Object object) {
+        final GeneratedMapper<Object> mapper = (GeneratedMapper<Object>) RuntimeMappers.of(object.getClass());
+        final char[] chars = new char[mapper.getLength()];
+        mapper.write(object, chars, 0);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,97 @@
+package fulltext.accessor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Creates {@link FieldAccessor} and {@link Instantiator}. It should be called once per class, because building the accessors is much more expensive than using them.
+ * <p>
+ * {@link MethodHandle} and {@link LambdaMetafactory} are used when possible. If the runtime does not allow them, it falls back to plain reflection.
+ */
+public final class Accessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private Accessors() {
+    }
+
+    /**
+     * Returns an accessor of the field. The access modifier of the field may be private.
+     *
+     * @param field the field you want to read and write.
+     * @return {@link FieldAccessor}
+     */
+    public static FieldAccessor fieldAccessor(final Field field) {
+        Objects.requireNonNull(field, "Field must not be null.");
+        field.setAccessible(true); // Make it work even if the field's access modifier is private
+        try {
+            return new MethodHandleFieldAccessor(field, LOOKUP.unreflectGetter(field), LOOKUP.unreflectSetter(field));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectiveFieldAccessor(field);
+        }
+    }
+
+    /**
+     * Returns an instantiator that invokes the default constructor of the class. The access modifier of the default constructor may be private.
+     *
+     * @param clazz the class you want to instantiate.
+     * @param <T>   type to instantiate
+     * @return {@link Instantiator}
+     * @throws NoSuchMethodException occurs when there is no default constructor.
+     */
+    public static <T> Instantiator<T> instantiator(final Class<T> clazz) throws NoSuchMethodException {
+        Objects.requireNonNull(clazz, "Class must not be null.");
+        final Constructor<T> constructor = clazz.getDeclaredConstructor();
+        constructor.setAccessible(true); // Make it work even if the default constructor's access modifier is private
+
+        if (isLambdaAccessible(clazz, constructor)) {
+            try {
+                return lambdaInstantiator(clazz);
+            } catch (Throwable ignored) {
+                // fall through to the method handle
+            }
+        }
+        try {
+            return new MethodHandleInstantiator<>(LOOKUP.unreflectConstructor(constructor));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return constructor::newInstance;
+        }
+    }
+
+    private static boolean isLambdaAccessible(final Class<?> clazz, final Constructor<?> constructor) {
+        if (!Modifier.isPublic(clazz.getModifiers()) || !Modifier.isPublic(constructor.getModifiers())) {
+            return false;
+        }
+        if (clazz.isMemberClass() && !Modifier.isStatic(clazz.getModifiers())) {
+            return false;
+        }
+        // The generated lambda class is defined in this class loader, so it must be able to see the class.
+        try {
+            return Class.forName(clazz.getName(), false, Accessors.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Instantiator<T> lambdaInstantiator(final Class<T> clazz) throws Throwable {
+        final MethodHandle constructor = LOOKUP.findConstructor(clazz, MethodType.methodType(void.class));
+        final CallSite site = LambdaMetafactory.metafactory(
+            LOOKUP,
+            "get",
+            MethodType.methodType(Supplier.class),
+            MethodType.methodType(Object.class),
+            constructor,
+            MethodType.methodType(clazz)
+        );
+        final Supplier<T> supplier = (Supplier<T>) site.getTarget().invokeExact();
+        return supplier::get;
+    }
+}
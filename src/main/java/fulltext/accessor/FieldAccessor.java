@@ -0,0 +1,26 @@
+package fulltext.accessor;
+
+/**
+ * Reads and writes the value of one field without {@link java.lang.reflect.Field#set(Object, Object)} on every call.
+ * <p>
+ * The primitive methods do not box the value when the declared type of the field is the same primitive type.
+ * <p>
+ * implSpec - a class implementing this interface should be immutable and thread-safe.
+ */
+public interface FieldAccessor {
+    Object get(final Object instance);
+
+    void set(final Object instance, final Object value);
+
+    int getInt(final Object instance);
+
+    void setInt(final Object instance, final int value);
+
+    long getLong(final Object instance);
+
+    void setLong(final Object instance, final long value);
+
+    double getDouble(final Object instance);
+
+    void setDouble(final Object instance, final double value);
+}
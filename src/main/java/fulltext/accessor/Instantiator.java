@@ -0,0 +1,19 @@
+package fulltext.accessor;
+
+/**
+ * Creates an instance of a class through its default constructor.
+ * <p>
+ * implSpec - a class implementing this interface should be immutable and thread-safe.
+ *
+ * @param <T> type to instantiate
+ */
+@FunctionalInterface
+public interface Instantiator<T> {
+    /**
+     * Invokes the default constructor.
+     *
+     * @return a new instance of T
+     * @throws Exception occurs when the default constructor fails.
+     */
+    T newInstance() throws Exception;
+}
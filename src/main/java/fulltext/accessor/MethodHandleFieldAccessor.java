@@ -0,0 +1,129 @@
+package fulltext.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * {@link FieldAccessor} backed by {@link MethodHandle}s adapted once to exact erased types, so that every call is an {@code invokeExact}.
+ * <p>
+ * A primitive field gets a second pair of handles typed with the primitive itself, which the primitive methods use without boxing.
+ */
+final class MethodHandleFieldAccessor implements FieldAccessor {
+    private final Class<?> type;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle primitiveSetter;
+
+    MethodHandleFieldAccessor(final Field field, final MethodHandle getter, final MethodHandle setter) {
+        this.type = field.getType();
+        this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+        this.setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        this.primitiveGetter = type.isPrimitive() ? getter.asType(MethodType.methodType(type, Object.class)) : null;
+        this.primitiveSetter = type.isPrimitive() ? setter.asType(MethodType.methodType(void.class, Object.class, type)) : null;
+    }
+
+    @Override
+    public Object get(final Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void set(final Object instance, final Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int getInt(final Object instance) {
+        if (type != int.class) {
+            return ((Number) get(instance)).intValue();
+        }
+        try {
+            return (int) primitiveGetter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setInt(final Object instance, final int value) {
+        if (type != int.class) {
+            set(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public long getLong(final Object instance) {
+        if (type != long.class) {
+            return ((Number) get(instance)).longValue();
+        }
+        try {
+            return (long) primitiveGetter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setLong(final Object instance, final long value) {
+        if (type != long.class) {
+            set(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public double getDouble(final Object instance) {
+        if (type != double.class) {
+            return ((Number) get(instance)).doubleValue();
+        }
+        try {
+            return (double) primitiveGetter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setDouble(final Object instance, final double value) {
+        if (type != double.class) {
+            set(instance, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new IllegalStateException(e);
+    }
+}
@@ -0,0 +1,29 @@
+package fulltext.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+/**
+ * {@link Instantiator} backed by a constructor {@link MethodHandle} adapted once to {@code ()Object}.
+ *
+ * @param <T> type to instantiate
+ */
+final class MethodHandleInstantiator<T> implements Instantiator<T> {
+    private final MethodHandle constructor;
+
+    MethodHandleInstantiator(final MethodHandle constructor) {
+        this.constructor = constructor.asType(MethodType.methodType(Object.class));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance() throws Exception {
+        try {
+            return (T) constructor.invokeExact();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package fulltext.accessor;
+
+import fulltext.exception.RuleViolationException;
+import java.lang.reflect.Field;
+
+/**
+ * {@link FieldAccessor} backed by plain reflection. It is used only when the runtime does not allow a {@link java.lang.invoke.MethodHandle} for the field.
+ */
+final class ReflectiveFieldAccessor implements FieldAccessor {
+    private final Field field;
+
+    ReflectiveFieldAccessor(final Field field) {
+        this.field = field;
+    }
+
+    @Override
+    public Object get(final Object instance) {
+        try {
+            return field.get(instance);
+        } catch (IllegalAccessException e) {
+            throw inaccessible();
+        }
+    }
+
+    @Override
+    public void set(final Object instance, final Object value) {
+        try {
+            field.set(instance, value);
+        } catch (IllegalAccessException e) {
+            throw inaccessible();
+        }
+    }
+
+    @Override
+    public int getInt(final Object instance) {
+        try {
+            return field.getInt(instance);
+        } catch (IllegalAccessException e) {
+            throw inaccessible();
+        }
+    }
+
+    @Override
+    public void setInt(final Object instance, final int value) {
+        try {
+            field.setInt(instance, value);
+        } catch (IllegalAccessException e) {
+            throw inaccessible();
+        }
+    }
+
+    @Override
+    public long getLong(final Object instance) {
+        try {
+            return field.getLong(instance);
+        } catch (IllegalAccessException e) {
+            throw inaccessible();
+        }
+    }
+
+    @Override
+    public void setLong(final Object instance, final long value) {
+        try {
+            field.setLong(instance, value);
+        } catch (IllegalAccessException e) {
+            throw inaccessible();
+        }
+    }
+
+    @Override
+    public double getDouble(final Object instance) {
+        try {
+            return field.getDouble(instance);
+        } catch (IllegalAccessException e) {
+            throw inaccessible();
+        }
+    }
+
+    @Override
+    public void setDouble(final Object instance, final double value) {
+        try {
+            field.setDouble(instance, value);
+        } catch (IllegalAccessException e) {
+            throw inaccessible();
+        }
+    }
+
+    private RuleViolationException inaccessible() {
+        return new RuleViolationException(field.getName() + " field is either inaccessible or final");
+    }
+}
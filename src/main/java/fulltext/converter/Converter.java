@@ -0,0 +1,48 @@
+package fulltext.converter;
+
+import fulltext.annotation.Field;
+import java.nio.charset.Charset;
+
+/**
+ * Converts the data of one {@link Field} to a value of the declared type, and the value back to the data.
+ * <p>
+ * A converter is looked up by the declared type only once, when the layout of the class is compiled, and is called with the window of the full text, after the pad is excluded. Implementations must be thread safe.
+ *
+ * @param <T> declared type of the field
+ * @see ConverterRegistry
+ */
+public interface Converter<T> {
+    /**
+     * Converts the window of the source to a value.
+     *
+     * @param source full text
+     * @param from   index of the first character of the data (inclusive)
+     * @param to     index of the last character of the data (exclusive). the window is empty if the field consists of the pad only.
+     * @return converted value
+     * @throws IllegalArgumentException occurs when the data cannot be converted. a {@link NumberFormatException} is reported with the data and the name of the field.
+     */
+    T read(CharSequence source, int from, int to);
+
+    /**
+     * Converts the window of the byte array to a value. The default implementation decodes the window with the charset, and calls {@link #read(CharSequence, int, int)}.
+     *
+     * @param source  full text
+     * @param from    index of the first byte of the data (inclusive)
+     * @param to      index of the last byte of the data (exclusive)
+     * @param charset charset of the full text
+     * @return converted value
+     * @throws IllegalArgumentException occurs when the data cannot be converted.
+     */
+    default T read(final byte[] source, final int from, final int to, final Charset charset) {
+        final String data = new String(source, from, to - from, charset);
+        return read(data, 0, data.length());
+    }
+
+    /**
+     * Converts the value to the data. The pad is added by the caller.
+     *
+     * @param value value of the field. never null.
+     * @return data of the field
+     */
+    String write(T value);
+}
@@ -0,0 +1,62 @@
+package fulltext.converter;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the {@link Converter}s keyed by the declared type of a {@link Field}. A lookup is a single hash map access.
+ * <p>
+ * A registered converter takes precedence over the built-in conversion of the type. The layout of a class is compiled once, at its first use, so register the converters before any class in which the type is declared is mapped.
+ * <p>
+ * <pre>{@code
+ * ConverterRegistry.register(boolean.class, Converters.booleanYN());
+ * ConverterRegistry.register(Grade.class, Converters.enumByCode(Grade.class, Grade::getCode));
+ * }</pre>
+ * A mapper generated by the annotation processor maps only the built-in types, so it is not used for a class which has a field of a registered type, and the class is mapped by its layout instead.
+ * <p>
+ * This class is thread safe.
+ */
+public final class ConverterRegistry {
+    private static final ConcurrentMap<Class<?>, Converter<?>> CONVERTERS = new ConcurrentHashMap<>();
+
+    private ConverterRegistry() {
+    }
+
+    /**
+     * Registers the converter of the type. The converter that was registered for the type is replaced.
+     *
+     * @param type      declared type of {@link Field}
+     * @param converter converter of the type
+     * @param <T>       declared type of {@link Field}
+     * @throws NullPointerException occurs when the type or the converter is null.
+     */
+    public static <T> void register(final Class<T> type, final Converter<T> converter) {
+        Objects.requireNonNull(type, "Class is must not be null.");
+        Objects.requireNonNull(converter, "Converter is must not be null.");
+        CONVERTERS.put(type, converter);
+    }
+
+    /**
+     * Returns the converter of the type.
+     *
+     * @param type declared type of {@link Field}
+     * @param <T>  declared type of {@link Field}
+     * @return {@link Converter}. null if no converter is registered for the type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Converter<T> find(final Class<T> type) {
+        return (Converter<T>) CONVERTERS.get(type);
+    }
+
+    /**
+     * Removes the converter of the type. A class of {@link FullText} that was already mapped keeps the converter.
+     *
+     * @param type declared type of {@link Field}
+     */
+    public static void unregister(final Class<?> type) {
+        CONVERTERS.remove(type);
+    }
+}
@@ -0,0 +1,244 @@
+package fulltext.converter;
+
+import fulltext.layout.DateCodec;
+import fulltext.layout.Digits;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Ready-made {@link Converter}s for the types that are not converted by default. Register them with {@link ConverterRegistry#register(Class, Converter)}.
+ * <p>
+ * The number and date converters read the window digit by digit, without creating a String, as the built-in conversions do.
+ */
+public final class Converters {
+    private Converters() {
+    }
+
+    /**
+     * Returns the converter of short and {@link Short}. The data is a decimal number, like {@link Short#parseShort(String)}.
+     *
+     * @return {@link Converter}
+     */
+    public static Converter<Short> shortValue() {
+        return new Converter<Short>() {
+            @Override
+            public Short read(final CharSequence source, final int from, final int to) {
+                try {
+                    return toShort(Digits.parseInt(source, from, to));
+                } catch (NumberFormatException e) {
+                    return Short.valueOf(source.subSequence(from, to).toString());
+                }
+            }
+
+            @Override
+            public Short read(final byte[] source, final int from, final int to, final Charset charset) {
+                try {
+                    return toShort(Digits.parseInt(source, from, to));
+                } catch (NumberFormatException e) {
+                    return Short.valueOf(new String(source, from, to - from, charset));
+                }
+            }
+
+            @Override
+            public String write(final Short value) {
+                return value.toString();
+            }
+        };
+    }
+
+    private static short toShort(final int value) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new NumberFormatException();
+        }
+        return (short) value;
+    }
+
+    /**
+     * Returns the converter of boolean and {@link Boolean}, whose data is Y or N.
+     *
+     * @return {@link Converter}
+     */
+    public static Converter<Boolean> booleanYN() {
+        return booleanCode("Y", "N");
+    }
+
+    /**
+     * Returns the converter of boolean and {@link Boolean}, whose data is one of the two codes.
+     *
+     * @param trueCode  data of true
+     * @param falseCode data of false
+     * @return {@link Converter}
+     * @throws IllegalArgumentException occurs when the codes are the same.
+     */
+    public static Converter<Boolean> booleanCode(final String trueCode, final String falseCode) {
+        Objects.requireNonNull(trueCode, "Code is must not be null.");
+        Objects.requireNonNull(falseCode, "Code is must not be null.");
+        if (trueCode.equals(falseCode)) {
+            throw new IllegalArgumentException("The codes of true and false must be different. code: " + trueCode);
+        }
+        return new Converter<Boolean>() {
+            @Override
+            public Boolean read(final CharSequence source, final int from, final int to) {
+                if (matches(trueCode, source, from, to)) {
+                    return Boolean.TRUE;
+                }
+                if (matches(falseCode, source, from, to)) {
+                    return Boolean.FALSE;
+                }
+                throw new IllegalArgumentException(trueCode + " or " + falseCode + " is expected, but data: " + source.subSequence(from, to));
+            }
+
+            @Override
+            public String write(final Boolean value) {
+                return value ? trueCode : falseCode;
+            }
+        };
+    }
+
+    /**
+     * Returns the converter of char and {@link Character}. The data is a single character.
+     * <p>
+     * If the character is the same as the pad, the window is empty after the pad is excluded. Then the blank is returned.
+     *
+     * @param blank character of an empty window
+     * @return {@link Converter}
+     */
+    public static Converter<Character> character(final char blank) {
+        return new Converter<Character>() {
+            @Override
+            public Character read(final CharSequence source, final int from, final int to) {
+                if (from == to) {
+                    return blank;
+                }
+                if (to - from > 1) {
+                    throw new IllegalArgumentException("A single character is expected, but data: " + source.subSequence(from, to));
+                }
+                return source.charAt(from);
+            }
+
+            @Override
+            public String write(final Character value) {
+                return value.toString();
+            }
+        };
+    }
+
+    /**
+     * Returns the converter of the enum whose data is the code of each constant. An empty window is read as null.
+     *
+     * @param type enum class
+     * @param code function that returns the code of a constant. the codes must be unique.
+     * @param <E>  enum class
+     * @return {@link Converter}
+     * @throws IllegalArgumentException occurs when the codes are not unique.
+     */
+    public static <E extends Enum<E>> Converter<E> enumByCode(final Class<E> type, final Function<E, String> code) {
+        final E[] constants = type.getEnumConstants();
+        final String[] codes = new String[constants.length];
+        for (int i = 0; i < constants.length; i++) {
+            codes[i] = Objects.requireNonNull(code.apply(constants[i]), "Code is must not be null.");
+            for (int j = 0; j < i; j++) {
+                if (codes[j].equals(codes[i])) {
+                    throw new IllegalArgumentException("The code of " + type.getName() + " is duplicated. code: " + codes[i]);
+                }
+            }
+        }
+
+        return new Converter<E>() {
+            @Override
+            public E read(final CharSequence source, final int from, final int to) {
+                for (int i = 0; i < codes.length; i++) {
+                    if (matches(codes[i], source, from, to)) {
+                        return constants[i];
+                    }
+                }
+                if (from == to) {
+                    return null;
+                }
+                throw new IllegalArgumentException("No enum constant of " + type.getName() + " for code: " + source.subSequence(from, to));
+            }
+
+            @Override
+            public String write(final E value) {
+                return codes[value.ordinal()];
+            }
+        };
+    }
+
+    /**
+     * Returns the converter of {@link BigInteger}. The data is a decimal number, like {@link BigInteger#BigInteger(String)}.
+     *
+     * @return {@link Converter}
+     */
+    public static Converter<BigInteger> bigInteger() {
+        return new Converter<BigInteger>() {
+            @Override
+            public BigInteger read(final CharSequence source, final int from, final int to) {
+                try {
+                    return BigInteger.valueOf(Digits.parseLong(source, from, to));
+                } catch (NumberFormatException e) {
+                    return new BigInteger(source.subSequence(from, to).toString());
+                }
+            }
+
+            @Override
+            public BigInteger read(final byte[] source, final int from, final int to, final Charset charset) {
+                try {
+                    return BigInteger.valueOf(Digits.parseLong(source, from, to));
+                } catch (NumberFormatException e) {
+                    return new BigInteger(new String(source, from, to - from, charset));
+                }
+            }
+
+            @Override
+            public String write(final BigInteger value) {
+                return value.toString();
+            }
+        };
+    }
+
+    /**
+     * Returns the converter of {@link Instant}. The data is a local date time of the pattern in the zone. yyyyMMddHHmmss is parsed digit by digit, as {@link LocalDateTime} fields are.
+     *
+     * @param pattern pattern of {@link java.time.format.DateTimeFormatter}
+     * @param zone    zone of the local date time
+     * @return {@link Converter}
+     */
+    public static Converter<Instant> instant(final String pattern, final ZoneId zone) {
+        final DateCodec codec = DateCodec.of(pattern);
+        Objects.requireNonNull(zone, "ZoneId is must not be null.");
+        return new Converter<Instant>() {
+            @Override
+            public Instant read(final CharSequence source, final int from, final int to) {
+                return codec.parseLocalDateTime(source, from, to).atZone(zone).toInstant();
+            }
+
+            @Override
+            public Instant read(final byte[] source, final int from, final int to, final Charset charset) {
+                return codec.parseLocalDateTime(source, from, to).atZone(zone).toInstant();
+            }
+
+            @Override
+            public String write(final Instant value) {
+                return codec.format(LocalDateTime.ofInstant(value, zone));
+            }
+        };
+    }
+
+    private static boolean matches(final String code, final CharSequence source, final int from, final int to) {
+        if (code.length() != to - from) {
+            return false;
+        }
+        for (int i = 0; i < code.length(); i++) {
+            if (code.charAt(i) != source.charAt(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
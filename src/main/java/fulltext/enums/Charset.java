@@ -15,15 +15,26 @@ public enum Charset {
         .collect(Collectors.toMap(Function.identity(), Charset::getEncoding));
 
     private final String encoding;
+    private final java.nio.charset.Charset charset;
 
     Charset(final String encoding) {
         this.encoding = encoding;
+        this.charset = java.nio.charset.Charset.forName(encoding);
     }
 
     private String getEncoding() {
         return encoding;
     }
 
+    /**
+     * Returns the {@link java.nio.charset.Charset} of this encoding. it is resolved only once.
+     *
+     * @return {@link java.nio.charset.Charset}
+     */
+    public java.nio.charset.Charset toCharset() {
+        return charset;
+    }
+
     public static String findBy(final Charset charset) {
         if (!MAP.containsKey(charset)) {
             throw new NoSuchElementException();
@@ -4,6 +4,10 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 
 public enum ClassCaster {
@@ -14,11 +18,20 @@ public enum ClassCaster {
     LONG_WRAPPER(Long.class, (data, nonArgs) -> Long.valueOf(data)),
     DOUBLE(double.class, (data, nonArgs) -> Double.valueOf(data)),
     DOUBLE_WRAPPER(Double.class, (data, nonArgs) -> Double.valueOf(data)),
-    LOCAL_DATE(LocalDate.class, (data, format) -> LocalDate.parse(data, DateTimeFormatter.ofPattern(format))),
-    LOCAL_DATE_TIME(LocalDateTime.class, (data, format) -> LocalDateTime.parse(data, DateTimeFormatter.ofPattern(format))),
+    LOCAL_DATE(LocalDate.class, (data, format) -> LocalDate.parse(data, formatter(format))),
+    LOCAL_DATE_TIME(LocalDateTime.class, (data, format) -> LocalDateTime.parse(data, formatter(format))),
     BIG_DECIMAL(BigDecimal.class, (data, nonArgs) -> new BigDecimal(data)),
     ;
 
+    private static final Map<Class<?>, ClassCaster> CASTERS = new HashMap<>();
+    private static final ConcurrentMap<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    static {
+        for (ClassCaster caster : values()) {
+            CASTERS.put(caster.clazz, caster);
+        }
+    }
+
     private final Class<?> clazz;
     private final BiFunction<String, String, ?> function;
 
@@ -27,6 +40,21 @@ public enum ClassCaster {
         this.function = function;
     }
 
+    /**
+     * Returns the caster of the class with a single hash map lookup.
+     *
+     * @param clazz declared type of a field
+     * @return {@link ClassCaster}. null if the class is not supported.
+     */
+    public static ClassCaster of(final Class<?> clazz) {
+        return CASTERS.get(clazz);
+    }
+
+    // the enum keeps its own formatters, so it does not depend on fulltext.layout
+    private static DateTimeFormatter formatter(final String pattern) {
+        return FORMATTERS.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+    }
+
     public Class<?> getClazz() {
         return clazz;
     }
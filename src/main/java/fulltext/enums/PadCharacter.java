@@ -1,5 +1,7 @@
 package fulltext.enums;
 
+import java.util.Arrays;
+
 public enum PadCharacter {
     NONE(""),
     SPACE(" "),
@@ -12,32 +14,150 @@ public enum PadCharacter {
         this.character = character;
     }
 
+    /**
+     * Returns the padding character as a single char. NONE has no padding character.
+     *
+     * @return padding character
+     * @throws UnsupportedOperationException If this is PadCharacter.NONE
+     */
+    public char toChar() {
+        if (isNone()) {
+            throw new UnsupportedOperationException("PadCharacter.NONE has no character");
+        }
+        return character.charAt(0);
+    }
+
     public boolean isNone() {
         return this == NONE;
     }
 
     public String leftPad(final String data, final int len) {
-        return pad(len) + data;
+        if (isNone()) {
+            return data;
+        }
+        final char[] chars = new char[len + data.length()];
+        Arrays.fill(chars, 0, len, toChar());
+        data.getChars(0, data.length(), chars, len);
+        return new String(chars);
     }
 
     public String rightPad(final String data, final int len) {
-        return data + pad(len);
+        if (isNone()) {
+            return data;
+        }
+        final char[] chars = new char[data.length() + len];
+        data.getChars(0, data.length(), chars, 0);
+        Arrays.fill(chars, data.length(), chars.length, toChar());
+        return new String(chars);
     }
 
     public String pad(final int len) {
-        return new StringBuilder()
-            .append(new String(new char[len]).replace("\0", character))
-            .toString();
+        if (isNone()) {
+            return "";
+        }
+        final char[] chars = new char[len];
+        Arrays.fill(chars, toChar());
+        return new String(chars);
+    }
+
+    /**
+     * Fills the range of the array with the padding character. NONE fills nothing.
+     *
+     * @param chars array to fill
+     * @param from  index of the first element to fill (inclusive)
+     * @param to    index of the last element to fill (exclusive)
+     */
+    public void fill(final char[] chars, final int from, final int to) {
+        if (!isNone()) {
+            Arrays.fill(chars, from, to, toChar());
+        }
     }
 
     public String removeLeftPad(final String data) {
-        return data.replaceFirst("^" + character + "*", "");
+        return data.substring(trimLeft(data, 0, data.length()));
     }
 
-    public String removeRightPad(String data) {
-        while (data.endsWith(character)) {
-            data = data.substring(0, data.lastIndexOf(character));
+    public String removeRightPad(final String data) {
+        return data.substring(0, trimRight(data, 0, data.length()));
+    }
+
+    /**
+     * Skips the padding characters at the beginning of the range. No String is created.
+     *
+     * @param source characters to trim
+     * @param from   index of the first character of the range (inclusive)
+     * @param to     index of the last character of the range (exclusive)
+     * @return index of the first character that is not padding. {@code to} if the range consists of padding only. NONE returns {@code from}.
+     */
+    public int trimLeft(final CharSequence source, final int from, final int to) {
+        if (isNone()) {
+            return from;
+        }
+        final char pad = toChar();
+        int index = from;
+        while (index < to && source.charAt(index) == pad) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Skips the padding characters at the end of the range. No String is created.
+     *
+     * @param source characters to trim
+     * @param from   index of the first character of the range (inclusive)
+     * @param to     index of the last character of the range (exclusive)
+     * @return index after the last character that is not padding (exclusive). {@code from} if the range consists of padding only. NONE returns {@code to}.
+     */
+    public int trimRight(final CharSequence source, final int from, final int to) {
+        if (isNone()) {
+            return to;
+        }
+        final char pad = toChar();
+        int index = to;
+        while (index > from && source.charAt(index - 1) == pad) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * Skips the padding bytes at the beginning of the range. The padding characters are ASCII, so the range may be of any ASCII compatible encoding.
+     *
+     * @param source bytes to trim
+     * @param from   index of the first byte of the range (inclusive)
+     * @param to     index of the last byte of the range (exclusive)
+     * @return index of the first byte that is not padding. {@code to} if the range consists of padding only. NONE returns {@code from}.
+     */
+    public int trimLeft(final byte[] source, final int from, final int to) {
+        if (isNone()) {
+            return from;
+        }
+        final byte pad = (byte) toChar();
+        int index = from;
+        while (index < to && source[index] == pad) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Skips the padding bytes at the end of the range. The padding characters are ASCII, so the range may be of any ASCII compatible encoding.
+     *
+     * @param source bytes to trim
+     * @param from   index of the first byte of the range (inclusive)
+     * @param to     index of the last byte of the range (exclusive)
+     * @return index after the last byte that is not padding (exclusive). {@code from} if the range consists of padding only. NONE returns {@code to}.
+     */
+    public int trimRight(final byte[] source, final int from, final int to) {
+        if (isNone()) {
+            return to;
+        }
+        final byte pad = (byte) toChar();
+        int index = to;
+        while (index > from && source[index - 1] == pad) {
+            index--;
         }
-        return data;
+        return index;
     }
 }
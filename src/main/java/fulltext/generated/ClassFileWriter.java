@@ -0,0 +1,435 @@
+package fulltext.generated;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a class file of Java 8 whose methods have no exception handler and branch only forward, to a point where the local variables are the arguments of the method and the operand stack is empty. Such a point is described by the simplest stack map frame, the same frame as the entry of the method, so this writer only counts the depth of the operand stack.
+ * <p>
+ * Names are internal names, such as {@code java/lang/String}, and types are descriptors, such as {@code Ljava/lang/String;}.
+ */
+final class ClassFileWriter {
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    private static final int VERSION = 52;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final int SAME_FRAME_EXTENDED = 251;
+
+    private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+    private final DataOutputStream poolOut = new DataOutputStream(pool);
+    private final Map<String, Integer> poolIndexes = new HashMap<>();
+    private int poolCount = 1;
+
+    private final String name;
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<Code> methods = new ArrayList<>();
+
+    ClassFileWriter(final String name, final String superName, final String... interfaceNames) {
+        this.name = name;
+        this.thisClass = classRef(name);
+        this.superClass = classRef(superName);
+        this.interfaces = new int[interfaceNames.length];
+        for (int i = 0; i < interfaceNames.length; i++) {
+            interfaces[i] = classRef(interfaceNames[i]);
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void field(final int access, final String fieldName, final String descriptor) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeShort(access);
+            out.writeShort(utf8(fieldName));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        fields.add(bytes.toByteArray());
+    }
+
+    /**
+     * Begins a method. The arguments, including {@code this} of an instance method, are already in the local variables.
+     */
+    Code method(final int access, final String methodName, final String descriptor) {
+        final int arguments = slots(descriptor.substring(1, descriptor.indexOf(')'))) + ((access & ACC_STATIC) == 0 ? 1 : 0);
+        final Code code = new Code(access, utf8(methodName), utf8(descriptor), arguments);
+        methods.add(code);
+        return code;
+    }
+
+    byte[] toByteArray() {
+        final int code = utf8("Code");
+        final int stackMapTable = utf8("StackMapTable");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(VERSION);
+            out.writeShort(poolCount);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for (int index : interfaces) {
+                out.writeShort(index);
+            }
+            out.writeShort(fields.size());
+            for (byte[] field : fields) {
+                out.write(field);
+            }
+            out.writeShort(methods.size());
+            for (Code method : methods) {
+                method.writeTo(out, code, stackMapTable);
+            }
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // ---- constant pool
+
+    private int utf8(final String value) {
+        final Integer index = poolIndexes.get("U" + value);
+        if (index != null) {
+            return index;
+        }
+        try {
+            poolOut.writeByte(CONSTANT_UTF8);
+            poolOut.writeUTF(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return add("U" + value, 1);
+    }
+
+    private int classRef(final String internalName) {
+        return constant("C" + internalName, CONSTANT_CLASS, utf8(internalName), -1);
+    }
+
+    private int string(final String value) {
+        return constant("S" + value, CONSTANT_STRING, utf8(value), -1);
+    }
+
+    private int integer(final int value) {
+        final Integer index = poolIndexes.get("I" + value);
+        if (index != null) {
+            return index;
+        }
+        try {
+            poolOut.writeByte(CONSTANT_INTEGER);
+            poolOut.writeInt(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return add("I" + value, 1);
+    }
+
+    private int member(final int tag, final String owner, final String memberName, final String descriptor) {
+        final int nameAndType = constant("N" + memberName + ':' + descriptor, CONSTANT_NAME_AND_TYPE, utf8(memberName), utf8(descriptor));
+        return constant(tag + owner + '.' + memberName + ':' + descriptor, tag, classRef(owner), nameAndType);
+    }
+
+    // a constant of one or two references to other constants
+    private int constant(final String key, final int tag, final int first, final int second) {
+        final Integer index = poolIndexes.get(key);
+        if (index != null) {
+            return index;
+        }
+        try {
+            poolOut.writeByte(tag);
+            poolOut.writeShort(first);
+            if (second >= 0) {
+                poolOut.writeShort(second);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return add(key, 1);
+    }
+
+    private int add(final String key, final int size) {
+        final int index = poolCount;
+        poolCount += size;
+        poolIndexes.put(key, index);
+        return index;
+    }
+
+    // number of local variable slots of the descriptors, where long and double take two
+    private static int slots(final String descriptors) {
+        int slots = 0;
+        for (int i = 0; i < descriptors.length(); i++) {
+            final char c = descriptors.charAt(i);
+            if (c == 'J' || c == 'D') {
+                slots += 2;
+                continue;
+            }
+            slots++;
+            while (descriptors.charAt(i) == '[') {
+                i++;
+            }
+            if (descriptors.charAt(i) == 'L') {
+                i = descriptors.indexOf(';', i);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Code of one method, written instruction by instruction.
+     */
+    final class Code {
+        private final int access;
+        private final int nameIndex;
+        private final int descriptorIndex;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final List<int[]> branches = new ArrayList<>();
+        private final List<Integer> frames = new ArrayList<>();
+        private int maxLocals;
+        private int stack;
+        private int maxStack;
+
+        private Code(final int access, final int nameIndex, final int descriptorIndex, final int arguments) {
+            this.access = access;
+            this.nameIndex = nameIndex;
+            this.descriptorIndex = descriptorIndex;
+            this.maxLocals = arguments;
+        }
+
+        Code aload(final int local) {
+            return local(0x19, local, 1);
+        }
+
+        Code astore(final int local) {
+            return local(0x3a, local, -1);
+        }
+
+        Code iload(final int local) {
+            return local(0x15, local, 1);
+        }
+
+        Code pushInt(final int value) {
+            if (value >= -1 && value <= 5) {
+                return op(0x03 + value, 1);
+            }
+            if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                return op(0x10, 1).u1(value);
+            }
+            if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                return op(0x11, 1).u2(value);
+            }
+            return op(0x13, 1).u2(integer(value));
+        }
+
+        Code pushBoolean(final boolean value) {
+            return pushInt(value ? 1 : 0);
+        }
+
+        Code pushString(final String value) {
+            return op(0x13, 1).u2(string(value));
+        }
+
+        Code pushClass(final String internalName) {
+            return op(0x13, 1).u2(classRef(internalName));
+        }
+
+        Code iadd() {
+            return op(0x60, -1);
+        }
+
+        Code i2l() {
+            return op(0x85, 1);
+        }
+
+        Code aaload() {
+            return op(0x32, -1);
+        }
+
+        Code dup() {
+            return op(0x59, 1);
+        }
+
+        Code newObject(final String internalName) {
+            return op(0xbb, 1).u2(classRef(internalName));
+        }
+
+        Code checkcast(final String internalName) {
+            return op(0xc0, 0).u2(classRef(internalName));
+        }
+
+        Code getstatic(final String owner, final String fieldName, final String descriptor) {
+            return op(0xb2, slots(descriptor)).u2(member(CONSTANT_FIELDREF, owner, fieldName, descriptor));
+        }
+
+        Code putstatic(final String owner, final String fieldName, final String descriptor) {
+            return op(0xb3, -slots(descriptor)).u2(member(CONSTANT_FIELDREF, owner, fieldName, descriptor));
+        }
+
+        Code getfield(final String owner, final String fieldName, final String descriptor) {
+            return op(0xb4, slots(descriptor) - 1).u2(member(CONSTANT_FIELDREF, owner, fieldName, descriptor));
+        }
+
+        Code putfield(final String owner, final String fieldName, final String descriptor) {
+            return op(0xb5, -slots(descriptor) - 1).u2(member(CONSTANT_FIELDREF, owner, fieldName, descriptor));
+        }
+
+        Code invokestatic(final String owner, final String methodName, final String descriptor) {
+            return op(0xb8, delta(descriptor)).u2(member(CONSTANT_METHODREF, owner, methodName, descriptor));
+        }
+
+        Code invokevirtual(final String owner, final String methodName, final String descriptor) {
+            return op(0xb6, delta(descriptor) - 1).u2(member(CONSTANT_METHODREF, owner, methodName, descriptor));
+        }
+
+        Code invokespecial(final String owner, final String methodName, final String descriptor) {
+            return op(0xb7, delta(descriptor) - 1).u2(member(CONSTANT_METHODREF, owner, methodName, descriptor));
+        }
+
+        Code invokeinterface(final String owner, final String methodName, final String descriptor) {
+            final int arguments = slots(descriptor.substring(1, descriptor.indexOf(')'))) + 1;
+            return op(0xb9, delta(descriptor) - 1).u2(member(CONSTANT_INTERFACE_METHODREF, owner, methodName, descriptor)).u1(arguments).u1(0);
+        }
+
+        Code areturn() {
+            return op(0xb0, -1);
+        }
+
+        Code ireturn() {
+            return op(0xac, -1);
+        }
+
+        Code lreturn() {
+            return op(0xad, -2);
+        }
+
+        Code dreturn() {
+            return op(0xaf, -2);
+        }
+
+        Code vreturn() {
+            return op(0xb1, 0);
+        }
+
+        /**
+         * Jumps to the target of the returned branch if the reference on the stack is null.
+         *
+         * @return branch to pass to {@link #target(int)}
+         */
+        int ifnull() {
+            final int branch = bytes.size();
+            op(0xc6, -1).u2(0);
+            return branch;
+        }
+
+        /**
+         * Marks the current point as the target of the branch. The code before it must not fall through, and the local variables must be the arguments.
+         */
+        Code target(final int branch) {
+            branches.add(new int[]{branch, bytes.size()});
+            frames.add(bytes.size());
+            stack = 0;
+            return this;
+        }
+
+        private Code local(final int opcode, final int local, final int delta) {
+            maxLocals = Math.max(maxLocals, local + 1);
+            if (local <= 3) {
+                // aload_0, astore_0 and iload_0 and the following
+                final int shortForm = opcode == 0x19 ? 0x2a : opcode == 0x3a ? 0x4b : 0x1a;
+                return op(shortForm + local, delta);
+            }
+            return op(opcode, delta).u1(local);
+        }
+
+        // stack delta of an invocation, excluding the receiver
+        private int delta(final String descriptor) {
+            final int close = descriptor.indexOf(')');
+            final String returnType = descriptor.substring(close + 1);
+            return ("V".equals(returnType) ? 0 : slots(returnType)) - slots(descriptor.substring(1, close));
+        }
+
+        private Code op(final int opcode, final int delta) {
+            bytes.write(opcode);
+            stack += delta;
+            maxStack = Math.max(maxStack, stack);
+            return this;
+        }
+
+        private Code u1(final int value) {
+            bytes.write(value);
+            return this;
+        }
+
+        private Code u2(final int value) {
+            bytes.write(value >>> 8);
+            bytes.write(value);
+            return this;
+        }
+
+        private void writeTo(final DataOutputStream out, final int codeAttribute, final int stackMapTableAttribute) throws IOException {
+            final byte[] code = bytes.toByteArray();
+            for (int[] branch : branches) {
+                final int offset = branch[1] - branch[0];
+                code[branch[0] + 1] = (byte) (offset >>> 8);
+                code[branch[0] + 2] = (byte) offset;
+            }
+            final int stackMapTableLength = frames.isEmpty() ? 0 : 8 + 3 * frames.size();
+
+            out.writeShort(access);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            out.writeShort(1);
+            out.writeShort(codeAttribute);
+            out.writeInt(12 + code.length + stackMapTableLength);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0);
+            if (frames.isEmpty()) {
+                out.writeShort(0);
+                return;
+            }
+            out.writeShort(1);
+            out.writeShort(stackMapTableAttribute);
+            out.writeInt(2 + 3 * frames.size());
+            out.writeShort(frames.size());
+            int previous = -1;
+            for (int frame : frames) {
+                // the offset of a frame is relative to the previous one
+                out.writeByte(SAME_FRAME_EXTENDED);
+                out.writeShort(frame - previous - 1);
+                previous = frame;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package fulltext.generated;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.layout.RecordBuffers;
+import java.nio.ByteBuffer;
+
+/**
+ * Mapper of one class, generated at compile time by the annotation processor of full-text-mapper-processor, or spun at runtime by {@link RuntimeMappers}. It reads and writes each {@link Field} in a straight line, without looking up the annotations at runtime.
+ * <p>
+ * Implementations generated at compile time are found by {@link GeneratedMappers}. Implementations must be thread safe.
+ *
+ * @param <T> class in which {@link FullText} and {@link Field} are declared
+ */
+public interface GeneratedMapper<T> {
+    /**
+     * Returns the class that this mapper maps.
+     *
+     * @return class in which {@link FullText} and {@link Field} are declared
+     */
+    Class<T> getType();
+
+    /**
+     * Returns the length declared in {@link FullText}.
+     *
+     * @return a total length of full text
+     */
+    int getLength();
+
+    /**
+     * Creates an instance and binds the full text between {@code start} and {@code end} of the source to it.
+     *
+     * @param source full text
+     * @param start  index of the source where the full text begins
+     * @param end    index of the source where the full text ends (exclusive)
+     * @return instance of T
+     * @throws fulltext.exception.RuleViolationException occurs when the full text is shorter or longer than {@link FullText#length()}.
+     */
+    T read(CharSequence source, int start, int end);
+
+    /**
+     * Creates an instance and binds the full text between {@code start} and {@code end} of the byte array to it. In this case, the lengths are counts of bytes in {@link FullText#encoding()}.
+     *
+     * @param source full text
+     * @param start  index of the byte array where the full text begins
+     * @param end    index of the byte array where the full text ends (exclusive)
+     * @return instance of T
+     * @throws fulltext.exception.RuleViolationException occurs when the full text is shorter or longer than {@link FullText#length()}.
+     */
+    T read(byte[] source, int start, int end);
+
+    /**
+     * Creates an instance and binds the {@link FullText#length()} bytes at the position of the buffer to it, and advances the position by exactly one record. A heap buffer is parsed in place, and a direct buffer is copied into an array of the current thread. The position is not changed if it fails.
+     *
+     * @param source full text. it may be a heap or direct buffer.
+     * @return instance of T
+     * @throws fulltext.exception.RuleViolationException occurs when the remaining of the buffer is less than {@link FullText#length()}, or the full text does not match.
+     */
+    default T read(final ByteBuffer source) {
+        return RecordBuffers.read(source, getLength(), this::read);
+    }
+
+    /**
+     * Writes the instance into exactly {@link FullText#length()} chars of the array, which start at {@code start}.
+     *
+     * @param value instance to write
+     * @param dst   array to write
+     * @param start index of the array where the full text begins
+     * @throws fulltext.exception.RuleViolationException occurs when the data of a field is longer than {@link Field#length()}.
+     */
+    void write(T value, char[] dst, int start);
+}
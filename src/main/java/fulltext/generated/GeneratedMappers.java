@@ -0,0 +1,80 @@
+package fulltext.generated;
+
+import fulltext.annotation.FullText;
+import fulltext.converter.ConverterRegistry;
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Finds the {@link GeneratedMapper} of a class. The mapper of {@code com.example.Outer$Inner} is {@code com.example.Outer_Inner_FullTextMapper}, in the same package.
+ * <p>
+ * A class is looked up only once, and the result, including the absence of a mapper, is cached for the lifetime of the class.
+ * <p>
+ * A generated mapper maps only the built-in types. So it is not used when a {@link fulltext.converter.Converter} is registered for the type of any field of the class, and the class is mapped by its layout instead, the same as without the processor.
+ */
+public final class GeneratedMappers {
+    /**
+     * Suffix of the simple name of a generated mapper.
+     */
+    public static final String SUFFIX = "_FullTextMapper";
+
+    private static final ClassValue<GeneratedMapper<?>> CACHE = new ClassValue<GeneratedMapper<?>>() {
+        @Override
+        protected GeneratedMapper<?> computeValue(final Class<?> type) {
+            return load(type);
+        }
+    };
+
+    private GeneratedMappers() {
+    }
+
+    /**
+     * Returns the generated mapper of the class.
+     *
+     * @param clazz class in which {@link FullText} is declared
+     * @param <T>   class in which {@link FullText} is declared
+     * @return {@link GeneratedMapper}. null if no mapper was generated for the class.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> GeneratedMapper<T> find(final Class<T> clazz) {
+        Objects.requireNonNull(clazz, "Class is must not be null.");
+        return (GeneratedMapper<T>) CACHE.get(clazz);
+    }
+
+    /**
+     * Returns the binary name of the generated mapper of the class.
+     *
+     * @param binaryName binary name of the class, such as {@code com.example.Outer$Inner}
+     * @return binary name of the mapper
+     */
+    public static String mapperName(final String binaryName) {
+        final int packageEnd = binaryName.lastIndexOf('.') + 1;
+        return binaryName.substring(0, packageEnd) + binaryName.substring(packageEnd).replace('$', '_') + SUFFIX;
+    }
+
+    private static GeneratedMapper<?> load(final Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getAnnotation(FullText.class) == null) {
+            return null;
+        }
+        try {
+            final Class<?> mapperClass = Class.forName(mapperName(type.getName()), true, type.getClassLoader());
+            final Object mapper = mapperClass.getConstructor().newInstance();
+            if (mapper instanceof GeneratedMapper && ((GeneratedMapper<?>) mapper).getType() == type && !hasConverter(type)) {
+                return (GeneratedMapper<?>) mapper;
+            }
+            return null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    // the declared types are checked against the registry, so the reflective layout is not compiled for a class which has a mapper
+    private static boolean hasConverter(final Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            if (ConverterRegistry.find(field.getType()) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
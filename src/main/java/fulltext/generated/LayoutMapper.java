@@ -0,0 +1,41 @@
+package fulltext.generated;
+
+import fulltext.layout.FullTextLayout;
+
+/**
+ * {@link GeneratedMapper} that maps with a {@link FullTextLayout}. {@link RuntimeMappers} returns it when a mapper can not be spun on the running JVM.
+ *
+ * @param <T> class in which {@link fulltext.annotation.FullText} is declared
+ */
+final class LayoutMapper<T> implements GeneratedMapper<T> {
+    private final FullTextLayout<T> layout;
+
+    LayoutMapper(final FullTextLayout<T> layout) {
+        this.layout = layout;
+    }
+
+    @Override
+    public Class<T> getType() {
+        return layout.getType();
+    }
+
+    @Override
+    public int getLength() {
+        return layout.getLength();
+    }
+
+    @Override
+    public T read(final CharSequence source, final int start, final int end) {
+        return layout.read(source, start, end);
+    }
+
+    @Override
+    public T read(final byte[] source, final int start, final int end) {
+        return layout.read(source, start, end);
+    }
+
+    @Override
+    public void write(final T value, final char[] dst, final int start) {
+        layout.write(value, dst, start);
+    }
+}
@@ -0,0 +1,150 @@
+package fulltext.generated;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+
+/**
+ * Ways to define a class spun at runtime, from the most to the least capable. The APIs of Java 9 and later are looked up reflectively, so this class runs on Java 8.
+ */
+enum MapperDefiner {
+    /**
+     * A hidden class of Java 15 and later, which is a nestmate of the mapped class. It accesses even private fields and constructors directly.
+     */
+    HIDDEN_CLASS {
+        @Override
+        boolean isAvailable() {
+            return DEFINE_HIDDEN_CLASS != null;
+        }
+
+        @Override
+        boolean canAccess(final int modifiers) {
+            return true;
+        }
+
+        @Override
+        Class<?> define(final Class<?> host, final String name, final byte[] bytes) throws Throwable {
+            final Object lookup = DEFINE_HIDDEN_CLASS.invoke(PRIVATE_LOOKUP_IN.invoke(host, LOOKUP), bytes, false, NESTMATE);
+            return (Class<?>) LOOKUP_CLASS.invoke(lookup);
+        }
+    },
+
+    /**
+     * A class of Java 9 and later, defined in the package of the mapped class with {@code MethodHandles.Lookup.defineClass}. It accesses the members that are not private directly.
+     */
+    PACKAGE_CLASS {
+        @Override
+        boolean isAvailable() {
+            return DEFINE_CLASS != null;
+        }
+
+        @Override
+        boolean canAccess(final int modifiers) {
+            return !Modifier.isPrivate(modifiers);
+        }
+
+        @Override
+        Class<?> define(final Class<?> host, final String name, final byte[] bytes) throws Throwable {
+            return (Class<?>) DEFINE_CLASS.invoke(PRIVATE_LOOKUP_IN.invoke(host, LOOKUP), bytes);
+        }
+    },
+
+    /**
+     * A class defined by a class loader of its own, which sees only this library. It accesses every member through the accessors, and runs on Java 8.
+     */
+    CLASS_LOADER {
+        @Override
+        boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        boolean canAccess(final int modifiers) {
+            return false;
+        }
+
+        @Override
+        Class<?> define(final Class<?> host, final String name, final byte[] bytes) {
+            return new SpunClassLoader(MapperDefiner.class.getClassLoader()).define(name.replace('/', '.'), bytes);
+        }
+    };
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle PRIVATE_LOOKUP_IN = find(MethodHandles.class, "privateLookupIn", true,
+        MethodType.methodType(MethodHandles.Lookup.class, Class.class, MethodHandles.Lookup.class));
+    private static final MethodHandle DEFINE_CLASS = PRIVATE_LOOKUP_IN == null ? null : find(MethodHandles.Lookup.class, "defineClass", false,
+        MethodType.methodType(Class.class, byte[].class));
+    private static final MethodHandle LOOKUP_CLASS = find(MethodHandles.Lookup.class, "lookupClass", false, MethodType.methodType(Class.class));
+    private static final Object NESTMATE;
+    private static final MethodHandle DEFINE_HIDDEN_CLASS;
+
+    static {
+        Object nestmate = null;
+        MethodHandle defineHiddenClass = null;
+        try {
+            final Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            nestmate = Array.newInstance(classOption, 1);
+            Array.set(nestmate, 0, classOption.getField("NESTMATE").get(null));
+            defineHiddenClass = find(MethodHandles.Lookup.class, "defineHiddenClass", false,
+                MethodType.methodType(MethodHandles.Lookup.class, byte[].class, boolean.class, nestmate.getClass()));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // before Java 15
+        }
+        NESTMATE = nestmate;
+        DEFINE_HIDDEN_CLASS = PRIVATE_LOOKUP_IN == null ? null : defineHiddenClass;
+    }
+
+    /**
+     * Returns whether the running JVM supports this way.
+     */
+    abstract boolean isAvailable();
+
+    /**
+     * Returns whether a class defined this way accesses a member of the mapped class with the modifiers directly, without an accessor.
+     */
+    abstract boolean canAccess(int modifiers);
+
+    /**
+     * Defines the class.
+     *
+     * @param host  mapped class
+     * @param name  internal name of the class to define
+     * @param bytes class file
+     * @return defined class. it is not initialized yet.
+     * @throws Throwable occurs when the class can not be defined.
+     */
+    abstract Class<?> define(Class<?> host, String name, byte[] bytes) throws Throwable;
+
+    /**
+     * Returns the most capable way that the running JVM supports.
+     */
+    static MapperDefiner best() {
+        for (MapperDefiner definer : values()) {
+            if (definer.isAvailable()) {
+                return definer;
+            }
+        }
+        return CLASS_LOADER;
+    }
+
+    private static MethodHandle find(final Class<?> owner, final String name, final boolean isStatic, final MethodType type) {
+        try {
+            // defineHiddenClass takes varargs, which must not collect the array of options again
+            return (isStatic ? LOOKUP.findStatic(owner, name, type) : LOOKUP.findVirtual(owner, name, type)).asFixedArity();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class SpunClassLoader extends ClassLoader {
+        private SpunClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        private Class<?> define(final String name, final byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
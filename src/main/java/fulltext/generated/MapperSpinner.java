@@ -0,0 +1,288 @@
+package fulltext.generated;
+
+import fulltext.enums.ClassCaster;
+import fulltext.layout.FieldLayout;
+import fulltext.layout.FullTextLayout;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spins the class of a {@link GeneratedMapper} from a compiled {@link FullTextLayout} at runtime.
+ * <p>
+ * The spun class has the same shape as a mapper generated by the annotation processor. Each field is read and written by one call to {@link MapperSupport}, and its offset, length and pad are pushed as constants, so the JIT can inline the whole record. The accessors and date codecs are held in static final fields.
+ * <p>
+ * A field is assigned directly when the {@link MapperDefiner} allows it, and otherwise through its {@link fulltext.accessor.FieldAccessor}. A field of a type other than the built-in types, or with a {@link fulltext.converter.Converter}, is mapped by its {@link FieldLayout}.
+ */
+final class MapperSpinner {
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String SUPPORT = "fulltext/generated/MapperSupport";
+    private static final String ACCESSOR = "fulltext/accessor/FieldAccessor";
+    private static final String FIELD_LAYOUT = "fulltext/layout/FieldLayout";
+    private static final String LAYOUT = "fulltext/layout/FullTextLayout";
+    private static final String PAD = "fulltext/enums/PadCharacter";
+    private static final String CHARSET = "Ljava/nio/charset/Charset;";
+    private static final String PAD_ARGS = "IIL" + PAD + ";Z";
+
+    private final FullTextLayout<?> layout;
+    private final String typeName;
+    private final ClassFileWriter writer;
+    private final List<Object> constants = new ArrayList<>();
+    private final List<String> constantTypes = new ArrayList<>();
+    private final boolean constructorAccessible;
+    private final boolean[] direct;
+    private boolean anyDirect;
+
+    private MapperSpinner(final FullTextLayout<?> layout, final MapperDefiner definer) {
+        this.layout = layout;
+        this.typeName = internalName(layout.getType());
+        this.writer = new ClassFileWriter(internalName(GeneratedMappers.mapperName(layout.getType().getName())) + "$Spun" + SEQUENCE.incrementAndGet(), OBJECT,
+            "fulltext/generated/GeneratedMapper");
+        this.constructorAccessible = isConstructorAccessible(layout.getType(), definer);
+
+        final List<FieldLayout> fields = layout.getFields();
+        this.direct = new boolean[fields.size()];
+        for (int i = 0; i < direct.length; i++) {
+            final int modifiers = fields.get(i).getField().getModifiers();
+            direct[i] = SupportKind.of(fields.get(i)) != null && definer.canAccess(modifiers) && !Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers);
+            anyDirect |= direct[i];
+        }
+    }
+
+    /**
+     * Spins, defines and instantiates the mapper of the layout.
+     *
+     * @param layout  compiled layout of the class
+     * @param definer way to define the mapper
+     * @param <T>     class in which {@link fulltext.annotation.FullText} is declared
+     * @return {@link GeneratedMapper}
+     * @throws Throwable occurs when the mapper can not be defined on this JVM.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> GeneratedMapper<T> spin(final FullTextLayout<T> layout, final MapperDefiner definer) throws Throwable {
+        final MapperSpinner spinner = new MapperSpinner(layout, definer);
+        final byte[] bytes = spinner.write();
+        final Class<?> mapperClass = definer.define(layout.getType(), spinner.writer.getName(), bytes);
+
+        MapperSupport.prepareConstants(mapperClass, spinner.constants.toArray());
+        try {
+            return (GeneratedMapper<T>) mapperClass.getConstructor().newInstance();
+        } finally {
+            MapperSupport.discardConstants(mapperClass);
+        }
+    }
+
+    private static boolean isConstructorAccessible(final Class<?> type, final MapperDefiner definer) {
+        if (Modifier.isAbstract(type.getModifiers()) || (type.isMemberClass() && !Modifier.isStatic(type.getModifiers()))) {
+            return false;
+        }
+        try {
+            final Constructor<?> constructor = type.getDeclaredConstructor();
+            return definer.canAccess(constructor.getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private byte[] write() {
+        final String type = constant(layout.getType(), "Ljava/lang/Class;");
+        final String charset = constant(layout.getCharset(), CHARSET);
+        final String fullTextLayout = constructorAccessible ? null : constant(layout, "L" + LAYOUT + ";");
+
+        writer.method(ClassFileWriter.ACC_PUBLIC, "<init>", "()V")
+            .aload(0)
+            .invokespecial(OBJECT, "<init>", "()V")
+            .vreturn();
+
+        writer.method(ClassFileWriter.ACC_PUBLIC, "getType", "()Ljava/lang/Class;")
+            .getstatic(writer.getName(), type, "Ljava/lang/Class;")
+            .areturn();
+
+        writer.method(ClassFileWriter.ACC_PUBLIC, "getLength", "()I")
+            .pushInt(layout.getLength())
+            .ireturn();
+
+        final List<FieldLayout> fields = layout.getFields();
+        final String[] accessors = new String[fields.size()];
+        final String[] codecs = new String[fields.size()];
+        final String[] fieldLayouts = new String[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            final FieldLayout field = fields.get(i);
+            final SupportKind kind = SupportKind.of(field);
+            if (kind == null) {
+                fieldLayouts[i] = constant(field, "L" + FIELD_LAYOUT + ";");
+                continue;
+            }
+            if (!direct[i]) {
+                accessors[i] = constant(field.getAccessor(), "L" + ACCESSOR + ";");
+            }
+            if (kind.date) {
+                codecs[i] = constant(field.getDateCodec(), "Lfulltext/layout/DateCodec;");
+            }
+        }
+
+        writeRead(false, charset, fullTextLayout, accessors, codecs, fieldLayouts);
+        writeRead(true, charset, fullTextLayout, accessors, codecs, fieldLayouts);
+        writeWrite(accessors, codecs, fieldLayouts);
+        writeStaticInitializer();
+        return writer.toByteArray();
+    }
+
+    // read(CharSequence source, int start, int end) or read(byte[] source, int start, int end)
+    private void writeRead(final boolean bytes, final String charset, final String fullTextLayout, final String[] accessors, final String[] codecs, final String[] fieldLayouts) {
+        final String source = bytes ? "[B" : "Ljava/lang/CharSequence;";
+        final ClassFileWriter.Code code = writer.method(ClassFileWriter.ACC_PUBLIC, "read", "(" + source + "II)Ljava/lang/Object;");
+        final int instance = 4;
+
+        code.aload(1).iload(2).iload(3).pushInt(layout.getLength());
+        if (bytes) {
+            code.getstatic(writer.getName(), charset, CHARSET).invokestatic(SUPPORT, "checkLength", "([BIII" + CHARSET + ")V");
+        } else {
+            code.invokestatic(SUPPORT, "checkLength", "(Ljava/lang/CharSequence;III)V");
+        }
+
+        if (constructorAccessible) {
+            code.newObject(typeName).dup().invokespecial(typeName, "<init>", "()V");
+        } else {
+            code.getstatic(writer.getName(), fullTextLayout, "L" + LAYOUT + ";").invokevirtual(LAYOUT, "newInstance", "()Ljava/lang/Object;");
+            if (anyDirect) {
+                code.checkcast(typeName);
+            }
+        }
+        code.astore(instance);
+
+        final List<FieldLayout> fields = layout.getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            final FieldLayout field = fields.get(i);
+            final SupportKind kind = SupportKind.of(field);
+            if (kind == null) {
+                code.getstatic(writer.getName(), fieldLayouts[i], "L" + FIELD_LAYOUT + ";").aload(instance).aload(1).iload(2).pushInt(field.getOffset()).iadd();
+                if (bytes) {
+                    code.getstatic(writer.getName(), charset, CHARSET).invokevirtual(FIELD_LAYOUT, "read", "(Ljava/lang/Object;[BI" + CHARSET + ")V");
+                } else {
+                    code.invokevirtual(FIELD_LAYOUT, "read", "(Ljava/lang/Object;Ljava/lang/CharSequence;I)V");
+                }
+                continue;
+            }
+
+            if (direct[i]) {
+                code.aload(instance);
+            } else {
+                code.getstatic(writer.getName(), accessors[i], "L" + ACCESSOR + ";").aload(instance);
+            }
+
+            code.aload(1).iload(2).pushInt(field.getOffset()).iadd()
+                .pushInt(field.getLength())
+                .getstatic(PAD, field.getPadCharacter().name(), "L" + PAD + ";")
+                .pushBoolean(field.getPadPosition().isLeft());
+            final String argument;
+            if (kind.date) {
+                code.getstatic(writer.getName(), codecs[i], "Lfulltext/layout/DateCodec;");
+                argument = "Lfulltext/layout/DateCodec;";
+            } else if (kind.named) {
+                code.pushString(field.getName());
+                argument = "Ljava/lang/String;";
+            } else if (bytes) {
+                code.getstatic(writer.getName(), charset, CHARSET);
+                argument = CHARSET;
+            } else {
+                argument = "";
+            }
+            code.invokestatic(SUPPORT, kind.readMethod, "(" + source + PAD_ARGS + argument + ")" + kind.descriptor);
+
+            if (direct[i]) {
+                code.putfield(typeName, field.getName(), kind.descriptor);
+            } else if (kind.primitive != null) {
+                code.invokeinterface(ACCESSOR, "set" + kind.primitive, "(Ljava/lang/Object;" + kind.descriptor + ")V");
+            } else {
+                code.invokeinterface(ACCESSOR, "set", "(Ljava/lang/Object;Ljava/lang/Object;)V");
+            }
+        }
+        code.aload(instance).areturn();
+    }
+
+    // write(Object value, char[] dst, int start)
+    private void writeWrite(final String[] accessors, final String[] codecs, final String[] fieldLayouts) {
+        final ClassFileWriter.Code code = writer.method(ClassFileWriter.ACC_PUBLIC, "write", "(Ljava/lang/Object;[CI)V");
+        final int instance = 4;
+
+        code.aload(2).iload(3).pushInt(layout.getLength()).invokestatic(SUPPORT, "checkRoom", "([CII)V");
+        if (anyDirect) {
+            code.aload(1).checkcast(typeName).astore(instance);
+        }
+
+        final List<FieldLayout> fields = layout.getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            final FieldLayout field = fields.get(i);
+            final SupportKind kind = SupportKind.of(field);
+            if (kind == null) {
+                code.getstatic(writer.getName(), fieldLayouts[i], "L" + FIELD_LAYOUT + ";").aload(1).aload(2).iload(3).pushInt(field.getOffset()).iadd()
+                    .invokevirtual(FIELD_LAYOUT, "write", "(Ljava/lang/Object;[CI)V");
+                continue;
+            }
+
+            code.aload(2).iload(3).pushInt(field.getOffset()).iadd()
+                .pushInt(field.getLength())
+                .getstatic(PAD, field.getPadCharacter().name(), "L" + PAD + ";")
+                .pushBoolean(field.getPadPosition().isLeft());
+
+            if (direct[i]) {
+                code.aload(instance).getfield(typeName, field.getName(), kind.descriptor);
+            } else if (kind.primitive != null) {
+                code.getstatic(writer.getName(), accessors[i], "L" + ACCESSOR + ";").aload(1).invokeinterface(ACCESSOR, "get" + kind.primitive, "(Ljava/lang/Object;)" + kind.descriptor);
+            } else {
+                code.getstatic(writer.getName(), accessors[i], "L" + ACCESSOR + ";").aload(1).invokeinterface(ACCESSOR, "get", "(Ljava/lang/Object;)Ljava/lang/Object;")
+                    .checkcast(kind.writeType.substring(1, kind.writeType.length() - 1));
+            }
+            if (kind.caster == ClassCaster.INT) {
+                code.i2l();
+            }
+
+            if (kind.date) {
+                code.getstatic(writer.getName(), codecs[i], "Lfulltext/layout/DateCodec;");
+            }
+            code.pushString(field.getName())
+                .invokestatic(SUPPORT, kind.writeMethod, "([C" + PAD_ARGS + kind.writeType + (kind.date ? "Lfulltext/layout/DateCodec;" : "") + "Ljava/lang/String;)V");
+        }
+        code.vreturn();
+    }
+
+    // takes over the constants into the static final fields
+    private void writeStaticInitializer() {
+        final ClassFileWriter.Code code = writer.method(ClassFileWriter.ACC_STATIC, "<clinit>", "()V")
+            .pushClass(writer.getName())
+            .invokestatic(SUPPORT, "constants", "(Ljava/lang/Class;)[Ljava/lang/Object;")
+            .astore(0);
+        for (int i = 0; i < constants.size(); i++) {
+            final String descriptor = constantTypes.get(i);
+            code.aload(0).pushInt(i).aaload()
+                .checkcast(descriptor.substring(1, descriptor.length() - 1))
+                .putstatic(writer.getName(), constantName(i), descriptor);
+        }
+        code.vreturn();
+    }
+
+    private String constant(final Object value, final String descriptor) {
+        final String name = constantName(constants.size());
+        constants.add(value);
+        constantTypes.add(descriptor);
+        writer.field(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_STATIC | ClassFileWriter.ACC_FINAL, name, descriptor);
+        return name;
+    }
+
+    private static String constantName(final int index) {
+        return "CONSTANT" + index;
+    }
+
+    private static String internalName(final Class<?> type) {
+        return internalName(type.getName());
+    }
+
+    private static String internalName(final String binaryName) {
+        return binaryName.replace('.', '/');
+    }
+}
@@ -0,0 +1,374 @@
+package fulltext.generated;
+
+import fulltext.accessor.Accessors;
+import fulltext.accessor.FieldAccessor;
+import fulltext.accessor.Instantiator;
+import fulltext.enums.PadCharacter;
+import fulltext.exception.RuleViolationException;
+import fulltext.layout.DateCodec;
+import fulltext.layout.Digits;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reads and writes a single field for {@link GeneratedMapper}s. Each method takes the offset, length and pad of the field as arguments, which the generated code passes as constants, and behaves the same as the runtime mapping of {@link fulltext.layout.FieldLayout}.
+ * <p>
+ * This class is a part of the contract with the generated code. It is not meant to be called directly.
+ */
+public final class MapperSupport {
+    private static final ConcurrentMap<Class<?>, Object[]> CONSTANTS = new ConcurrentHashMap<>();
+
+    private MapperSupport() {
+    }
+
+    /**
+     * Returns the accessor of a private field.
+     *
+     * @param type class in which the field is declared
+     * @param name name of the field
+     * @return {@link FieldAccessor}
+     */
+    public static FieldAccessor accessor(final Class<?> type, final String name) {
+        try {
+            return Accessors.fieldAccessor(type.getDeclaredField(name));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("The generated mapper of " + type.getName() + " is outdated. Recompile the class.", e);
+        }
+    }
+
+    /**
+     * Returns the instantiator of a private default constructor.
+     *
+     * @param type class to instantiate
+     * @param <T>  class to instantiate
+     * @return {@link Instantiator}
+     */
+    public static <T> Instantiator<T> instantiator(final Class<T> type) {
+        try {
+            return Accessors.instantiator(type);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("The generated mapper of " + type.getName() + " is outdated. Recompile the class.", e);
+        }
+    }
+
+    /**
+     * Returns the constants of a mapper spun at runtime, such as accessors and date codecs. The static initializer of the mapper calls it once, to take over the constants that {@link RuntimeMappers} put before the initialization.
+     *
+     * @param mapperClass class of the mapper
+     * @return constants in the order of the static fields of the mapper
+     */
+    public static Object[] constants(final Class<?> mapperClass) {
+        final Object[] constants = CONSTANTS.remove(mapperClass);
+        if (constants == null) {
+            throw new IllegalStateException("No constants are prepared for " + mapperClass.getName());
+        }
+        return constants;
+    }
+
+    static void prepareConstants(final Class<?> mapperClass, final Object[] constants) {
+        CONSTANTS.put(mapperClass, constants);
+    }
+
+    static void discardConstants(final Class<?> mapperClass) {
+        CONSTANTS.remove(mapperClass);
+    }
+
+    public static <T> T newInstance(final Instantiator<T> instantiator) {
+        try {
+            return instantiator.newInstance();
+        } catch (Exception e) {
+            throw new RuleViolationException("No suitable constructor. Make sure " + e.getLocalizedMessage() + " has a default constructor");
+        }
+    }
+
+    public static void checkLength(final CharSequence source, final int start, final int end, final int length) {
+        if (end - start < length) {
+            throw new RuleViolationException("Parsing has been failed. @FullText: " + length + ", but data length: " + (end - start));
+        }
+        if (end - start > length) {
+            throw new RuleViolationException("Parsing has been completed. but remaining data exists. current data: " + source.subSequence(start + length, end));
+        }
+    }
+
+    public static void checkLength(final byte[] source, final int start, final int end, final int length, final Charset charset) {
+        if (end - start < length) {
+            throw new RuleViolationException("Parsing has been failed. @FullText: " + length + ", but data length: " + (end - start));
+        }
+        if (end - start > length) {
+            throw new RuleViolationException("Parsing has been completed. but remaining data exists. current data: " + new String(source, start + length, end - start - length, charset));
+        }
+    }
+
+    public static void checkRoom(final char[] dst, final int start, final int length) {
+        if (start < 0 || dst.length - start < length) {
+            throw new IndexOutOfBoundsException("The array has no room for @FullText: " + length + ", from index: " + start);
+        }
+    }
+
+    // ---- reading chars
+
+    public static String readString(final CharSequence source, final int start, final int length, final PadCharacter pad, final boolean left) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        return source.subSequence(from, to).toString();
+    }
+
+    public static int readInt(final CharSequence source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        try {
+            return Digits.parseInt(source, from, to);
+        } catch (NumberFormatException e) {
+            return parseInt(source.subSequence(from, to).toString(), name);
+        }
+    }
+
+    public static Integer readInteger(final CharSequence source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        return from == to ? 0 : readInt(source, start, length, pad, left, name);
+    }
+
+    public static long readLong(final CharSequence source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        try {
+            return Digits.parseLong(source, from, to);
+        } catch (NumberFormatException e) {
+            return parseLong(source.subSequence(from, to).toString(), name);
+        }
+    }
+
+    public static Long readLongWrapper(final CharSequence source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        return from == to ? 0L : readLong(source, start, length, pad, left, name);
+    }
+
+    public static double readDouble(final CharSequence source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        return parseDouble(readString(source, start, length, pad, left), name);
+    }
+
+    public static Double readDoubleWrapper(final CharSequence source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final String value = readString(source, start, length, pad, left);
+        return value.isEmpty() ? 0D : parseDouble(value, name);
+    }
+
+    public static BigDecimal readBigDecimal(final CharSequence source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        try {
+            return Digits.parseDecimal(source, from, to);
+        } catch (NumberFormatException e) {
+            return parseBigDecimal(source.subSequence(from, to).toString(), name);
+        }
+    }
+
+    public static LocalDate readLocalDate(final CharSequence source, final int start, final int length, final PadCharacter pad, final boolean left, final DateCodec codec) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        return codec.parseLocalDate(source, from, to);
+    }
+
+    public static LocalDateTime readLocalDateTime(final CharSequence source, final int start, final int length, final PadCharacter pad, final boolean left, final DateCodec codec) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        return codec.parseLocalDateTime(source, from, to);
+    }
+
+    // ---- reading bytes
+
+    public static String readString(final byte[] source, final int start, final int length, final PadCharacter pad, final boolean left, final Charset charset) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        return from == to ? "" : new String(source, from, to - from, charset);
+    }
+
+    public static int readInt(final byte[] source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        try {
+            return Digits.parseInt(source, from, to);
+        } catch (NumberFormatException e) {
+            return parseInt(ascii(source, from, to), name);
+        }
+    }
+
+    public static Integer readInteger(final byte[] source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        return from == to ? 0 : readInt(source, start, length, pad, left, name);
+    }
+
+    public static long readLong(final byte[] source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        try {
+            return Digits.parseLong(source, from, to);
+        } catch (NumberFormatException e) {
+            return parseLong(ascii(source, from, to), name);
+        }
+    }
+
+    public static Long readLongWrapper(final byte[] source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        return from == to ? 0L : readLong(source, start, length, pad, left, name);
+    }
+
+    public static double readDouble(final byte[] source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        return parseDouble(readString(source, start, length, pad, left, StandardCharsets.ISO_8859_1), name);
+    }
+
+    public static Double readDoubleWrapper(final byte[] source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final String value = readString(source, start, length, pad, left, StandardCharsets.ISO_8859_1);
+        return value.isEmpty() ? 0D : parseDouble(value, name);
+    }
+
+    public static BigDecimal readBigDecimal(final byte[] source, final int start, final int length, final PadCharacter pad, final boolean left, final String name) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        try {
+            return Digits.parseDecimal(source, from, to);
+        } catch (NumberFormatException e) {
+            return parseBigDecimal(ascii(source, from, to), name);
+        }
+    }
+
+    public static LocalDate readLocalDate(final byte[] source, final int start, final int length, final PadCharacter pad, final boolean left, final DateCodec codec) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        return codec.parseLocalDate(source, from, to);
+    }
+
+    public static LocalDateTime readLocalDateTime(final byte[] source, final int start, final int length, final PadCharacter pad, final boolean left, final DateCodec codec) {
+        final int end = start + length;
+        final int from = left ? pad.trimLeft(source, start, end) : start;
+        final int to = left ? end : pad.trimRight(source, start, end);
+        return codec.parseLocalDateTime(source, from, to);
+    }
+
+    // ---- writing
+
+    public static void writeString(final char[] dst, final int start, final int length, final PadCharacter pad, final boolean left, final String value, final String name) {
+        if (value == null) {
+            pad.fill(dst, start, start + length);
+            return;
+        }
+        value.getChars(0, value.length(), dst, beginData(dst, start, length, pad, left, value.length(), name));
+    }
+
+    public static void writeLong(final char[] dst, final int start, final int length, final PadCharacter pad, final boolean left, final long value, final String name) {
+        final int dataLength = Digits.length(value);
+        Digits.write(value, dst, beginData(dst, start, length, pad, left, dataLength, name) + dataLength);
+    }
+
+    public static void writeDouble(final char[] dst, final int start, final int length, final PadCharacter pad, final boolean left, final double value, final String name) {
+        writeString(dst, start, length, pad, left, Double.toString(value), name);
+    }
+
+    /**
+     * Writes a wrapper number or a BigDecimal. null is written as the pad only.
+     */
+    public static void writeNumber(final char[] dst, final int start, final int length, final PadCharacter pad, final boolean left, final Number value, final String name) {
+        if (value == null) {
+            pad.fill(dst, start, start + length);
+        } else if (value instanceof Integer || value instanceof Long) {
+            writeLong(dst, start, length, pad, left, value.longValue(), name);
+        } else if (value instanceof BigDecimal && Digits.length((BigDecimal) value) >= 0) {
+            final int dataLength = Digits.length((BigDecimal) value);
+            Digits.write((BigDecimal) value, dst, beginData(dst, start, length, pad, left, dataLength, name), dataLength);
+        } else {
+            writeString(dst, start, length, pad, left, value.toString(), name);
+        }
+    }
+
+    public static void writeDate(final char[] dst, final int start, final int length, final PadCharacter pad, final boolean left, final TemporalAccessor value, final DateCodec codec,
+        final String name) {
+        if (value == null) {
+            pad.fill(dst, start, start + length);
+            return;
+        }
+        final int dataLength = codec.length(value);
+        if (dataLength < 0) {
+            writeString(dst, start, length, pad, left, codec.format(value), name);
+            return;
+        }
+        codec.write(value, dst, beginData(dst, start, length, pad, left, dataLength, name));
+    }
+
+    // fills the pad around the data, and returns the index where the data begins
+    private static int beginData(final char[] dst, final int start, final int length, final PadCharacter pad, final boolean left, final int dataLength, final String name) {
+        if (dataLength > length) {
+            throw new RuleViolationException("The data of " + name + " field is longer than @Field.length: " + length);
+        }
+        final int end = start + length;
+        if (left) {
+            pad.fill(dst, start, end - dataLength);
+            return end - dataLength;
+        }
+        pad.fill(dst, start + dataLength, end);
+        return start;
+    }
+
+    private static String ascii(final byte[] source, final int from, final int to) {
+        return new String(source, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+    private static int parseInt(final String value, final String name) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw invalid(value, name);
+        }
+    }
+
+    private static long parseLong(final String value, final String name) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw invalid(value, name);
+        }
+    }
+
+    private static double parseDouble(final String value, final String name) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw invalid(value, name);
+        }
+    }
+
+    private static BigDecimal parseBigDecimal(final String value, final String name) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw invalid(value, name);
+        }
+    }
+
+    private static NumberFormatException invalid(final String value, final String name) {
+        return new NumberFormatException("Exception while assigning " + value + " to " + name);
+    }
+}
@@ -0,0 +1,133 @@
+package fulltext.generated;
+
+import fulltext.layout.FieldLayout;
+import fulltext.layout.FullTextLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * View behind a {@link Proxy} of the interface, for a JVM on which the class of a view can not be spun. Each getter is decoded by the {@link FieldLayout} of its field, and a default method of the interface is called through a special method handle, as a spun view calls it.
+ * <p>
+ * {@code MethodHandles.privateLookupIn} of Java 9 and later is looked up reflectively, so this class runs on Java 8.
+ */
+final class ProxyView extends ViewSupport implements InvocationHandler {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle PRIVATE_LOOKUP_IN = privateLookupIn();
+
+    private final Class<?> viewType;
+    private final FullTextLayout<?> layout;
+    private final Map<String, FieldLayout> getters;
+    private final Map<Method, MethodHandle> defaults;
+    private final Object proxy;
+
+    private ProxyView(final Class<?> viewType, final FullTextLayout<?> layout, final Map<String, FieldLayout> getters, final Map<Method, MethodHandle> defaults) {
+        super(layout.getLength(), layout.getCharset());
+        this.viewType = viewType;
+        this.layout = layout;
+        this.getters = getters;
+        this.defaults = defaults;
+        final Class<?>[] interfaces = RecordView.class.isAssignableFrom(viewType) ? new Class<?>[]{viewType} : new Class<?>[]{viewType, RecordView.class};
+        this.proxy = Proxy.newProxyInstance(viewType.getClassLoader(), interfaces, this);
+    }
+
+    /**
+     * @throws IllegalArgumentException occurs when a default method of the interface can not be called through a method handle, such as in a module which is not open.
+     */
+    static ProxyView of(final Class<?> viewType, final FullTextLayout<?> layout, final Map<Method, FieldLayout> getters) {
+        return new ProxyView(viewType, layout, byName(getters), defaults(viewType));
+    }
+
+    // the handles are resolved once for a layout, and shared by its views
+    private static Map<Method, MethodHandle> defaults(final Class<?> viewType) {
+        final Map<Method, MethodHandle> defaults = new HashMap<>();
+        for (Method method : viewType.getMethods()) {
+            if (method.isDefault()) {
+                try {
+                    defaults.put(method, special(method));
+                } catch (Throwable e) {
+                    throw new IllegalArgumentException(method + " can't be called on a view which is not spun. " + e.getMessage(), e);
+                }
+            }
+        }
+        return defaults;
+    }
+
+    private static MethodHandle special(final Method method) throws Throwable {
+        final Class<?> declaring = method.getDeclaringClass();
+        final MethodHandles.Lookup lookup;
+        if (PRIVATE_LOOKUP_IN != null) {
+            lookup = (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(declaring, LOOKUP);
+        } else {
+            // Java 8 has no privateLookupIn, but a lookup with private access can be created in the interface
+            final Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+            constructor.setAccessible(true);
+            lookup = constructor.newInstance(declaring, MethodHandles.Lookup.PRIVATE);
+        }
+        return lookup.unreflectSpecial(method, declaring);
+    }
+
+    private static MethodHandle privateLookupIn() {
+        try {
+            return LOOKUP.findStatic(MethodHandles.class, "privateLookupIn", MethodType.methodType(MethodHandles.Lookup.class, Class.class, MethodHandles.Lookup.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // before Java 9
+            return null;
+        }
+    }
+
+    // getters have no parameters, so a name identifies a getter even if it is inherited from several interfaces
+    private static Map<String, FieldLayout> byName(final Map<Method, FieldLayout> getters) {
+        final Map<String, FieldLayout> byName = new HashMap<>();
+        for (Map.Entry<Method, FieldLayout> getter : getters.entrySet()) {
+            byName.put(getter.getKey().getName(), getter.getValue());
+        }
+        return byName;
+    }
+
+    @Override
+    protected ViewSupport newView() {
+        return new ProxyView(viewType, layout, getters, defaults);
+    }
+
+    @Override
+    protected Object view() {
+        return proxy;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final FieldLayout field = method.getParameterCount() == 0 ? getters.get(method.getName()) : null;
+        if (field != null) {
+            return bytes != null ? field.decode(bytes, start + field.getOffset(), charset) : field.decode(chars, start + field.getOffset());
+        }
+        if (method.getDeclaringClass() == RecordView.class) {
+            if (args[0] instanceof byte[]) {
+                point((byte[]) args[0], (Integer) args[1], (Integer) args[2]);
+            } else {
+                point((CharSequence) args[0], (Integer) args[1], (Integer) args[2]);
+            }
+            return null;
+        }
+        final MethodHandle handle = defaults.get(method);
+        if (handle != null) {
+            return handle.bindTo(proxy).invokeWithArguments(args == null ? new Object[0] : args);
+        }
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return viewType.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            default:
+                throw new UnsupportedOperationException(method + " can't be called on a view which is not spun. only the getters of fields and default methods can be.");
+        }
+    }
+}
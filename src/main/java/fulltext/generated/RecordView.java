@@ -0,0 +1,26 @@
+package fulltext.generated;
+
+/**
+ * View of a full text record, which is created by {@link ViewLayout}. Every view implements this interface, so a view can be pointed at another record without a new allocation. An interface of a view may extend this interface to point it without a cast.
+ */
+public interface RecordView {
+    /**
+     * Points this view at the full text between {@code start} and {@code end} of the byte array. Nothing is decoded until a getter is called, and the array is not copied, so it must not be changed while this view points at it.
+     *
+     * @param source full text
+     * @param start  index of the byte array where the full text begins
+     * @param end    index of the byte array where the full text ends (exclusive)
+     * @throws fulltext.exception.RuleViolationException occurs when the full text is shorter or longer than {@link fulltext.annotation.FullText#length()}.
+     */
+    void point(byte[] source, int start, int end);
+
+    /**
+     * Points this view at the full text between {@code start} and {@code end} of the source. Nothing is decoded until a getter is called, and the source is not copied, so it must not be changed while this view points at it.
+     *
+     * @param source full text
+     * @param start  index of the source where the full text begins
+     * @param end    index of the source where the full text ends (exclusive)
+     * @throws fulltext.exception.RuleViolationException occurs when the full text is shorter or longer than {@link fulltext.annotation.FullText#length()}.
+     */
+    void point(CharSequence source, int start, int end);
+}
@@ -0,0 +1,61 @@
+package fulltext.generated;
+
+import fulltext.annotation.FullText;
+import fulltext.layout.FullTextLayout;
+import java.util.Objects;
+
+/**
+ * Spins a {@link GeneratedMapper} of a class at runtime, for classes that are not compiled with full-text-mapper-processor, such as classes in a third-party jar.
+ * <p>
+ * The mapper is defined as a hidden class on Java 15 and later, with {@code MethodHandles.Lookup.defineClass} on Java 9 and later, and in a class loader of its own on Java 8. If none of them works on the running JVM, the {@link FullTextLayout} of the class is used as is.
+ * <p>
+ * A class is spun only once, at its first use, and the mapper is cached for the lifetime of the class.
+ */
+public final class RuntimeMappers {
+    private static final MapperDefiner DEFINER = MapperDefiner.best();
+
+    private static final ClassValue<GeneratedMapper<?>> CACHE = new ClassValue<GeneratedMapper<?>>() {
+        @Override
+        protected GeneratedMapper<?> computeValue(final Class<?> type) {
+            return spin(FullTextLayout.of(type));
+        }
+    };
+
+    private RuntimeMappers() {
+    }
+
+    /**
+     * Returns the mapper of the class, spun at runtime.
+     *
+     * @param clazz class in which {@link FullText} is declared
+     * @param <T>   class in which {@link FullText} is declared
+     * @return {@link GeneratedMapper}
+     * @throws NullPointerException          occurs when the argument is null.
+     * @throws IllegalArgumentException      occurs when the sum of the length of {@link FullText} and the length of all {@link fulltext.annotation.Field} is different.
+     * @throws UnsupportedOperationException occurs when both {@link FullText} and {@link fulltext.annotation.Field} have a NONE property.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> GeneratedMapper<T> of(final Class<T> clazz) {
+        Objects.requireNonNull(clazz, "Class is must not be null.");
+        return (GeneratedMapper<T>) CACHE.get(clazz);
+    }
+
+    private static <T> GeneratedMapper<T> spin(final FullTextLayout<T> layout) {
+        try {
+            return MapperSpinner.spin(layout, DEFINER);
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable e) {
+            if (DEFINER != MapperDefiner.CLASS_LOADER) {
+                try {
+                    return MapperSpinner.spin(layout, MapperDefiner.CLASS_LOADER);
+                } catch (VirtualMachineError error) {
+                    throw error;
+                } catch (Throwable ignored) {
+                    // falls back to the layout
+                }
+            }
+            return new LayoutMapper<>(layout);
+        }
+    }
+}
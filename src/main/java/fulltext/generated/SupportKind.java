@@ -0,0 +1,58 @@
+package fulltext.generated;
+
+import fulltext.enums.ClassCaster;
+import fulltext.layout.FieldLayout;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Built-in types, and the methods of {@link MapperSupport} for each of them.
+ */
+enum SupportKind {
+    STRING(ClassCaster.STRING, "Ljava/lang/String;", "readString", "writeString", "Ljava/lang/String;", null),
+    INT(ClassCaster.INT, "I", "readInt", "writeLong", "J", "Int"),
+    INT_WRAPPER(ClassCaster.INT_WRAPPER, "Ljava/lang/Integer;", "readInteger", "writeNumber", "Ljava/lang/Number;", null),
+    LONG(ClassCaster.LONG, "J", "readLong", "writeLong", "J", "Long"),
+    LONG_WRAPPER(ClassCaster.LONG_WRAPPER, "Ljava/lang/Long;", "readLongWrapper", "writeNumber", "Ljava/lang/Number;", null),
+    DOUBLE(ClassCaster.DOUBLE, "D", "readDouble", "writeDouble", "D", "Double"),
+    DOUBLE_WRAPPER(ClassCaster.DOUBLE_WRAPPER, "Ljava/lang/Double;", "readDoubleWrapper", "writeNumber", "Ljava/lang/Number;", null),
+    BIG_DECIMAL(ClassCaster.BIG_DECIMAL, "Ljava/math/BigDecimal;", "readBigDecimal", "writeNumber", "Ljava/lang/Number;", null),
+    LOCAL_DATE(ClassCaster.LOCAL_DATE, "Ljava/time/LocalDate;", "readLocalDate", "writeDate", "Ljava/time/temporal/TemporalAccessor;", null),
+    LOCAL_DATE_TIME(ClassCaster.LOCAL_DATE_TIME, "Ljava/time/LocalDateTime;", "readLocalDateTime", "writeDate", "Ljava/time/temporal/TemporalAccessor;", null),
+    ;
+
+    private static final Map<ClassCaster, SupportKind> KINDS = new EnumMap<>(ClassCaster.class);
+
+    static {
+        for (SupportKind kind : values()) {
+            KINDS.put(kind.caster, kind);
+        }
+    }
+
+    final ClassCaster caster;
+    final String descriptor;
+    final String readMethod;
+    final String writeMethod;
+    final String writeType;
+    final String primitive;
+    final boolean named;
+    final boolean date;
+
+    SupportKind(final ClassCaster caster, final String descriptor, final String readMethod, final String writeMethod, final String writeType, final String primitive) {
+        this.caster = caster;
+        this.descriptor = descriptor;
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+        this.writeType = writeType;
+        this.primitive = primitive;
+        this.date = caster == ClassCaster.LOCAL_DATE || caster == ClassCaster.LOCAL_DATE_TIME;
+        this.named = !date && caster != ClassCaster.STRING;
+    }
+
+    /**
+     * Returns the kind of the field. null if the field has a {@link fulltext.converter.Converter} or its type is not built-in, in which case the field is mapped by its {@link FieldLayout}.
+     */
+    static SupportKind of(final FieldLayout field) {
+        return field.getConverter() != null || field.getCaster() == null ? null : KINDS.get(field.getCaster());
+    }
+}
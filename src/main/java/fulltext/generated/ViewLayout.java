@@ -0,0 +1,198 @@
+package fulltext.generated;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.layout.FieldLayout;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordLayout;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Layout that maps a full text record to a view, an implementation of an interface whose getters decode their fields only when they are called.
+ * <p>
+ * Each getter of the interface is bound to the {@link Field} of the same name, {@code getName()} or {@code name()} to {@code name}, and returns the value that {@link fulltext.FullTextMapper#readValue(byte[], Class)} would bind to the field. A view wraps the full text without copying it, so the fields which are never read cost nothing. A view can be pointed at the next record through {@link RecordView}, without a new allocation.
+ * <p>
+ * The implementation of the interface is spun at runtime, like {@link RuntimeMappers}, and each getter pushes the offset, length and pad of its field as constants. If it can not be defined on the running JVM, a {@link java.lang.reflect.Proxy} is used instead.
+ * <p>
+ * This class is immutable and thread safe, but a view is not.
+ *
+ * @param <V> interface of the view
+ */
+public final class ViewLayout<V> implements RecordLayout<V> {
+    private static final MapperDefiner DEFINER = MapperDefiner.best();
+
+    private static final ClassValue<ConcurrentMap<Class<?>, ViewLayout<?>>> CACHE = new ClassValue<ConcurrentMap<Class<?>, ViewLayout<?>>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, ViewLayout<?>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<V> viewType;
+    private final FullTextLayout<?> layout;
+    private final ViewSupport prototype;
+
+    private ViewLayout(final Class<V> viewType, final FullTextLayout<?> layout, final ViewSupport prototype) {
+        this.viewType = viewType;
+        this.layout = layout;
+        this.prototype = prototype;
+    }
+
+    /**
+     * Returns the layout of views of the class. The layout is compiled on the first call and cached for the lifetime of the interface.
+     *
+     * @param viewType interface of the view. its getters have no parameter, and each of them is named after a {@link Field} of the class.
+     * @param clazz    class in which {@link FullText} and {@link Field} are declared
+     * @param <V>      interface of the view
+     * @return {@link ViewLayout}
+     * @throws NullPointerException     occurs when an argument is null.
+     * @throws IllegalArgumentException occurs when the view type is not an interface, or a getter does not match a field of the class.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> ViewLayout<V> of(final Class<V> viewType, final Class<?> clazz) {
+        Objects.requireNonNull(viewType, "View type must not be null.");
+        Objects.requireNonNull(clazz, "Class is must not be null.");
+        return (ViewLayout<V>) CACHE.get(viewType).computeIfAbsent(clazz, type -> compile(viewType, FullTextLayout.of(type)));
+    }
+
+    private static <V> ViewLayout<V> compile(final Class<V> viewType, final FullTextLayout<?> layout) {
+        final Map<Method, FieldLayout> getters = getters(viewType, layout);
+        return new ViewLayout<>(viewType, layout, spin(viewType, layout, getters));
+    }
+
+    /**
+     * Binds the abstract methods of the interface to the fields of the layout.
+     */
+    static Map<Method, FieldLayout> getters(final Class<?> viewType, final FullTextLayout<?> layout) {
+        if (!viewType.isInterface()) {
+            throw new IllegalArgumentException(viewType.getName() + " is not an interface. A view must be an interface.");
+        }
+        final Map<String, FieldLayout> fields = new LinkedHashMap<>();
+        for (FieldLayout field : layout.getFields()) {
+            fields.put(field.getName(), field);
+        }
+
+        final Map<Method, FieldLayout> getters = new LinkedHashMap<>();
+        for (Method method : viewType.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isDefault() || method.getDeclaringClass() == RecordView.class || isObjectMethod(method)) {
+                continue;
+            }
+            final String getter = viewType.getName() + "." + method.getName() + "()";
+            final FieldLayout field = fields.get(propertyName(method.getName()));
+            if (method.getParameterCount() != 0 || field == null) {
+                throw new IllegalArgumentException("Could not find @Field of the view method: " + getter + ". please name a getter without parameters after a field of " + layout.getType().getName());
+            }
+            if (field.getCaster() == null && field.getConverter() == null) {
+                throw new IllegalArgumentException(field.getName() + " field is neither a built-in type nor converted. " + getter + " can't be viewed.");
+            }
+            final Class<?> returnType = method.getReturnType();
+            final boolean matches = returnType.isPrimitive()
+                ? returnType == field.getType() && SupportKind.of(field) != null
+                : returnType.isAssignableFrom(field.getType());
+            if (!matches) {
+                throw new IllegalArgumentException(getter + " returns " + returnType.getName() + ", but " + field.getName() + " field is " + field.getType().getName());
+            }
+            getters.put(method, field);
+        }
+        return getters;
+    }
+
+    private static boolean isObjectMethod(final Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    static String propertyName(final String methodName) {
+        if (methodName.length() > 3 && methodName.startsWith("get") && Character.isUpperCase(methodName.charAt(3))) {
+            return Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+        }
+        return methodName;
+    }
+
+    private static ViewSupport spin(final Class<?> viewType, final FullTextLayout<?> layout, final Map<Method, FieldLayout> getters) {
+        try {
+            return ViewSpinner.spin(viewType, layout, getters, DEFINER);
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable e) {
+            if (DEFINER != MapperDefiner.CLASS_LOADER) {
+                try {
+                    return ViewSpinner.spin(viewType, layout, getters, MapperDefiner.CLASS_LOADER);
+                } catch (VirtualMachineError error) {
+                    throw error;
+                } catch (Throwable ignored) {
+                    // falls back to a proxy
+                }
+            }
+            return ProxyView.of(viewType, layout, getters);
+        }
+    }
+
+    /**
+     * Returns a new view which points at the full text between {@code start} and {@code end} of the source. Nothing is decoded yet.
+     *
+     * @throws fulltext.exception.RuleViolationException occurs when the full text is shorter or longer than {@link FullText#length()}.
+     */
+    @Override
+    public V read(final CharSequence source, final int start, final int end) {
+        final ViewSupport view = prototype.newView();
+        view.point(source, start, end);
+        return viewType.cast(view.view());
+    }
+
+    /**
+     * Returns a new view which points at the full text between {@code start} and {@code end} of the byte array. Nothing is decoded yet, and the array is not copied.
+     *
+     * @throws fulltext.exception.RuleViolationException occurs when the full text is shorter or longer than {@link FullText#length()}.
+     */
+    @Override
+    public V read(final byte[] source, final int start, final int end) {
+        final ViewSupport view = prototype.newView();
+        view.point(source, start, end);
+        return viewType.cast(view.view());
+    }
+
+    /**
+     * Returns true, because a view points at the source it is read from. So a heap buffer is not copied, and a direct buffer or the reused buffer of a reader is copied into a new array for each view.
+     *
+     * @return true
+     */
+    @Override
+    public boolean retainsSource() {
+        return true;
+    }
+
+    public Class<V> getViewType() {
+        return viewType;
+    }
+
+    /**
+     * Returns the compiled layout of the class whose fields the views decode.
+     *
+     * @return {@link FullTextLayout}
+     */
+    public FullTextLayout<?> getLayout() {
+        return layout;
+    }
+
+    @Override
+    public int getLength() {
+        return layout.getLength();
+    }
+
+    @Override
+    public Charset getCharset() {
+        return layout.getCharset();
+    }
+}
@@ -0,0 +1,194 @@
+package fulltext.generated;
+
+import fulltext.layout.FieldLayout;
+import fulltext.layout.FullTextLayout;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spins the class of a view from the getters of its interface at runtime.
+ * <p>
+ * The spun class extends {@link ViewSupport} and implements the interface. Each getter checks once whether the view points at bytes or chars, and calls the same method of {@link MapperSupport} as a spun mapper, with the offset, length and pad of its field pushed as constants. A field with a {@link fulltext.converter.Converter} is decoded by its {@link FieldLayout}.
+ */
+final class ViewSpinner {
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private static final String VIEW_SUPPORT = "fulltext/generated/ViewSupport";
+    private static final String SUPPORT = "fulltext/generated/MapperSupport";
+    private static final String FIELD_LAYOUT = "fulltext/layout/FieldLayout";
+    private static final String PAD = "fulltext/enums/PadCharacter";
+    private static final String CHARSET = "Ljava/nio/charset/Charset;";
+    private static final String CHAR_SEQUENCE = "Ljava/lang/CharSequence;";
+    private static final String PAD_ARGS = "IIL" + PAD + ";Z";
+
+    private final FullTextLayout<?> layout;
+    private final Map<Method, FieldLayout> getters;
+    private final ClassFileWriter writer;
+    private final List<Object> constants = new ArrayList<>();
+    private final List<String> constantTypes = new ArrayList<>();
+
+    private ViewSpinner(final Class<?> viewType, final FullTextLayout<?> layout, final Map<Method, FieldLayout> getters) {
+        this.layout = layout;
+        this.getters = getters;
+        this.writer = new ClassFileWriter(internalName(viewType) + "$Spun" + SEQUENCE.incrementAndGet(), VIEW_SUPPORT, internalName(viewType));
+    }
+
+    /**
+     * Spins, defines and instantiates the view.
+     *
+     * @param viewType interface of the view
+     * @param layout   compiled layout of the class
+     * @param getters  fields by the getters of the interface
+     * @param definer  way to define the view
+     * @return view which points at nothing yet, to create the other views
+     * @throws Throwable occurs when the view can not be defined on this JVM.
+     */
+    static ViewSupport spin(final Class<?> viewType, final FullTextLayout<?> layout, final Map<Method, FieldLayout> getters, final MapperDefiner definer) throws Throwable {
+        final ViewSpinner spinner = new ViewSpinner(viewType, layout, getters);
+        final byte[] bytes = spinner.write();
+        final Class<?> viewClass = definer.define(viewType, spinner.writer.getName(), bytes);
+
+        MapperSupport.prepareConstants(viewClass, spinner.constants.toArray());
+        try {
+            return (ViewSupport) viewClass.getConstructor().newInstance();
+        } finally {
+            MapperSupport.discardConstants(viewClass);
+        }
+    }
+
+    private byte[] write() {
+        final String charset = constant(layout.getCharset(), CHARSET);
+
+        writer.method(ClassFileWriter.ACC_PUBLIC, "<init>", "()V")
+            .aload(0)
+            .pushInt(layout.getLength())
+            .getstatic(writer.getName(), charset, CHARSET)
+            .invokespecial(VIEW_SUPPORT, "<init>", "(I" + CHARSET + ")V")
+            .vreturn();
+
+        writer.method(ClassFileWriter.ACC_PUBLIC, "newView", "()L" + VIEW_SUPPORT + ";")
+            .newObject(writer.getName())
+            .dup()
+            .invokespecial(writer.getName(), "<init>", "()V")
+            .areturn();
+
+        for (Map.Entry<Method, FieldLayout> getter : getters.entrySet()) {
+            writeGetter(getter.getKey(), getter.getValue(), charset);
+        }
+        writeStaticInitializer();
+        return writer.toByteArray();
+    }
+
+    // decodes from the bytes if the view points at bytes, and otherwise from the chars
+    private void writeGetter(final Method method, final FieldLayout field, final String charset) {
+        final String returnType = descriptor(method.getReturnType());
+        final ClassFileWriter.Code code = writer.method(ClassFileWriter.ACC_PUBLIC, method.getName(), "()" + returnType);
+        final SupportKind kind = SupportKind.of(field);
+        final String codec = kind != null && kind.date ? constant(field.getDateCodec(), "Lfulltext/layout/DateCodec;") : null;
+        final String fieldLayout = kind == null ? constant(field, "L" + FIELD_LAYOUT + ";") : null;
+
+        code.aload(0).getfield(VIEW_SUPPORT, "bytes", "[B");
+        final int chars = code.ifnull();
+        writeDecode(code, true, field, kind, charset, codec, fieldLayout);
+        writeReturn(code, method.getReturnType());
+        code.target(chars);
+        writeDecode(code, false, field, kind, charset, codec, fieldLayout);
+        writeReturn(code, method.getReturnType());
+    }
+
+    private void writeDecode(final ClassFileWriter.Code code, final boolean bytes, final FieldLayout field, final SupportKind kind, final String charset, final String codec,
+        final String fieldLayout) {
+        final String source = bytes ? "[B" : CHAR_SEQUENCE;
+        if (kind == null) {
+            code.getstatic(writer.getName(), fieldLayout, "L" + FIELD_LAYOUT + ";")
+                .aload(0).getfield(VIEW_SUPPORT, bytes ? "bytes" : "chars", source)
+                .aload(0).getfield(VIEW_SUPPORT, "start", "I").pushInt(field.getOffset()).iadd();
+            if (bytes) {
+                code.getstatic(writer.getName(), charset, CHARSET).invokevirtual(FIELD_LAYOUT, "decode", "([BI" + CHARSET + ")Ljava/lang/Object;");
+            } else {
+                code.invokevirtual(FIELD_LAYOUT, "decode", "(" + CHAR_SEQUENCE + "I)Ljava/lang/Object;");
+            }
+            code.checkcast(internalName(field.getType()));
+            return;
+        }
+
+        code.aload(0).getfield(VIEW_SUPPORT, bytes ? "bytes" : "chars", source)
+            .aload(0).getfield(VIEW_SUPPORT, "start", "I").pushInt(field.getOffset()).iadd()
+            .pushInt(field.getLength())
+            .getstatic(PAD, field.getPadCharacter().name(), "L" + PAD + ";")
+            .pushBoolean(field.getPadPosition().isLeft());
+        final String argument;
+        if (kind.date) {
+            code.getstatic(writer.getName(), codec, "Lfulltext/layout/DateCodec;");
+            argument = "Lfulltext/layout/DateCodec;";
+        } else if (kind.named) {
+            code.pushString(field.getName());
+            argument = "Ljava/lang/String;";
+        } else if (bytes) {
+            code.getstatic(writer.getName(), charset, CHARSET);
+            argument = CHARSET;
+        } else {
+            argument = "";
+        }
+        code.invokestatic(SUPPORT, kind.readMethod, "(" + source + PAD_ARGS + argument + ")" + kind.descriptor);
+    }
+
+    private static void writeReturn(final ClassFileWriter.Code code, final Class<?> returnType) {
+        if (returnType == int.class) {
+            code.ireturn();
+        } else if (returnType == long.class) {
+            code.lreturn();
+        } else if (returnType == double.class) {
+            code.dreturn();
+        } else {
+            code.areturn();
+        }
+    }
+
+    // takes over the constants into the static final fields
+    private void writeStaticInitializer() {
+        final ClassFileWriter.Code code = writer.method(ClassFileWriter.ACC_STATIC, "<clinit>", "()V")
+            .pushClass(writer.getName())
+            .invokestatic(SUPPORT, "constants", "(Ljava/lang/Class;)[Ljava/lang/Object;")
+            .astore(0);
+        for (int i = 0; i < constants.size(); i++) {
+            final String descriptor = constantTypes.get(i);
+            code.aload(0).pushInt(i).aaload()
+                .checkcast(descriptor.substring(1, descriptor.length() - 1))
+                .putstatic(writer.getName(), constantName(i), descriptor);
+        }
+        code.vreturn();
+    }
+
+    private String constant(final Object value, final String descriptor) {
+        final String name = constantName(constants.size());
+        constants.add(value);
+        constantTypes.add(descriptor);
+        writer.field(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_STATIC | ClassFileWriter.ACC_FINAL, name, descriptor);
+        return name;
+    }
+
+    private static String constantName(final int index) {
+        return "CONSTANT" + index;
+    }
+
+    private static String descriptor(final Class<?> type) {
+        if (type == int.class) {
+            return "I";
+        }
+        if (type == long.class) {
+            return "J";
+        }
+        if (type == double.class) {
+            return "D";
+        }
+        return type.isArray() ? internalName(type) : "L" + internalName(type) + ";";
+    }
+
+    private static String internalName(final Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+}
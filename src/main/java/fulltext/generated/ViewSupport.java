@@ -0,0 +1,66 @@
+package fulltext.generated;
+
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * Base class of the views that {@link ViewLayout} creates. It holds the full text which a view points at, and the getters of a view decode their fields from it.
+ * <p>
+ * This class is a part of the contract with the generated code. It is not meant to be extended directly.
+ */
+public abstract class ViewSupport implements RecordView {
+    /**
+     * Full text of bytes which this view points at. null if this view points at a CharSequence.
+     */
+    protected byte[] bytes;
+    /**
+     * Full text of chars which this view points at. null if this view points at a byte array.
+     */
+    protected CharSequence chars;
+    /**
+     * Index of the full text where the record begins.
+     */
+    protected int start;
+
+    final int length;
+    final Charset charset;
+
+    protected ViewSupport(final int length, final Charset charset) {
+        this.length = length;
+        this.charset = charset;
+    }
+
+    @Override
+    public final void point(final byte[] source, final int start, final int end) {
+        Objects.requireNonNull(source, "Full text must not be null.");
+        MapperSupport.checkLength(source, start, end, length, charset);
+        this.bytes = source;
+        this.chars = null;
+        this.start = start;
+    }
+
+    @Override
+    public final void point(final CharSequence source, final int start, final int end) {
+        Objects.requireNonNull(source, "Full text must not be null.");
+        MapperSupport.checkLength(source, start, end, length);
+        this.bytes = null;
+        this.chars = source;
+        this.start = start;
+    }
+
+    /**
+     * Returns a new view of the same kind, which points at nothing yet.
+     *
+     * @return {@link ViewSupport}
+     */
+    protected abstract ViewSupport newView();
+
+    /**
+     * Returns the object which implements the interface of the view.
+     *
+     * @return this view, or the proxy in front of it
+     */
+    protected Object view() {
+        return this;
+    }
+}
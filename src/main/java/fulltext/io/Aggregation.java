@@ -0,0 +1,92 @@
+package fulltext.io;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Result of {@link GroupAggregator}, the count and the sum of each group. The groups are in the order their keys first appear in the full text, even when they are aggregated in parallel.
+ */
+public final class Aggregation {
+    private final Map<String, Long> counts;
+    private final Map<String, BigDecimal> sums;
+    private final long totalCount;
+
+    Aggregation(final Map<String, Long> counts, final Map<String, BigDecimal> sums, final long totalCount) {
+        this.counts = Collections.unmodifiableMap(counts);
+        this.sums = sums == null ? null : Collections.unmodifiableMap(sums);
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Returns the number of groups.
+     *
+     * @return number of groups
+     */
+    public int size() {
+        return counts.size();
+    }
+
+    /**
+     * Returns the keys of the groups, the windows of the key field without their pad.
+     *
+     * @return unmodifiable set of keys
+     */
+    public Set<String> getKeys() {
+        return counts.keySet();
+    }
+
+    /**
+     * Returns the number of records of the group.
+     *
+     * @param key key of the group
+     * @return number of records. 0 if there is no such group.
+     */
+    public long getCount(final String key) {
+        final Long count = counts.get(key);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Returns the sum of the value field of the group.
+     *
+     * @param key key of the group
+     * @return sum. null if there is no such group.
+     * @throws IllegalStateException occurs when no field was summed.
+     */
+    public BigDecimal getSum(final String key) {
+        return getSums().get(key);
+    }
+
+    /**
+     * Returns the number of records aggregated, which passed the filter if there was one.
+     *
+     * @return number of records
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the counts by the keys.
+     *
+     * @return unmodifiable map of the counts
+     */
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    /**
+     * Returns the sums by the keys.
+     *
+     * @return unmodifiable map of the sums
+     * @throws IllegalStateException occurs when no field was summed.
+     */
+    public Map<String, BigDecimal> getSums() {
+        if (sums == null) {
+            throw new IllegalStateException("No field was summed. Give the field to sum to the builder of GroupAggregator.");
+        }
+        return sums;
+    }
+}
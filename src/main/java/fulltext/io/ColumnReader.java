@@ -0,0 +1,214 @@
+package fulltext.io;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.ClassCaster;
+import fulltext.enums.PadCharacter;
+import fulltext.exception.RuleViolationException;
+import fulltext.generated.MapperSupport;
+import fulltext.layout.FieldLayout;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.Projection;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Extracts fields of the full text records in a byte buffer or a file straight into primitive columns, without creating an instance for each record.
+ * <p>
+ * The windows of the fields are located by the offsets compiled by {@link FullTextLayout}, and parsed the same as {@link fulltext.FullTextMapper#readValue(byte[], Class)} would bind them, so int and long fields are parsed digit by digit into int[] and long[]. An int or Integer field is extracted into int[], a long or Long field into long[], a double or Double field into double[], and a BigDecimal field into BigDecimal[]. An empty wrapper is zero.
+ * <p>
+ * Every record has the same length, so the number of records is known before reading, and each column is allocated once. In parallel, the records are cut into chunks which fill disjoint ranges of the columns, on the {@link java.util.concurrent.ForkJoinPool} that runs the parallel stream. To use a pool other than the common pool, call this inside {@link java.util.concurrent.ForkJoinPool#submit(java.util.concurrent.Callable)}.
+ */
+public final class ColumnReader {
+    private ColumnReader() {
+    }
+
+    /**
+     * Extracts the fields of the records between the position and the limit of the buffer. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param buffer     full text. it may be a heap, direct or mapped buffer. the position of the buffer is not changed.
+     * @param clazz      class in which {@link FullText} and {@link Field} are declared
+     * @param separator  separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param parallel   whether the records are extracted in parallel
+     * @param fieldNames names of the fields to extract
+     * @return {@link Columns}
+     * @throws IllegalArgumentException occurs when a name is not a {@link Field} of the class, or the field is of a type which has no column or is converted.
+     * @throws RuleViolationException   occurs when the size of the buffer is not a multiple of the record length.
+     * @throws NumberFormatException    occurs when the data of a field is not a number.
+     */
+    public static Columns read(final ByteBuffer buffer, final Class<?> clazz, final String separator, final boolean parallel, final String... fieldNames) {
+        Objects.requireNonNull(buffer, "ByteBuffer must not be null.");
+        final Projection<?> projection = Projection.of(clazz, fieldNames);
+        final byte[] separatorBytes = RecordSpliterator.separatorBytes(projection, separator);
+        return read(Frames.of(buffer, projection.getLength(), separatorBytes.length), projection, separatorBytes, parallel);
+    }
+
+    /**
+     * Extracts the fields of the records in the file. The file is mapped into memory, and each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param path       full text file
+     * @param clazz      class in which {@link FullText} and {@link Field} are declared
+     * @param separator  separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param parallel   whether the records are extracted in parallel
+     * @param fieldNames names of the fields to extract
+     * @return {@link Columns}
+     * @throws IllegalArgumentException occurs when a name is not a {@link Field} of the class, or the field is of a type which has no column or is converted.
+     * @throws UncheckedIOException     occurs when the file cannot be mapped.
+     * @throws RuleViolationException   occurs when the file size is not a multiple of the record length.
+     * @throws NumberFormatException    occurs when the data of a field is not a number.
+     */
+    public static Columns read(final Path path, final Class<?> clazz, final String separator, final boolean parallel, final String... fieldNames) {
+        Objects.requireNonNull(path, "Path must not be null.");
+        final Projection<?> projection = Projection.of(clazz, fieldNames);
+        final byte[] separatorBytes = RecordSpliterator.separatorBytes(projection, separator);
+        return read(Frames.map(path, projection.getLength(), separatorBytes.length), projection, separatorBytes, parallel);
+    }
+
+    private static Columns read(final Frames frames, final Projection<?> projection, final byte[] separator, final boolean parallel) {
+        if (frames.count() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many records to extract into an array. records: " + frames.count());
+        }
+        final int size = (int) frames.count();
+        final List<FieldLayout> fields = projection.getFields();
+        final Column[] columns = new Column[fields.size()];
+        final Map<String, Object> arrays = new LinkedHashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Column.of(fields.get(i), size);
+            arrays.put(fields.get(i).getName(), columns[i].array);
+        }
+
+        final int recordLength = projection.getLength();
+        final Frames.Visitor visitor = (source, start, index) -> {
+            for (Column column : columns) {
+                column.read(source, start, (int) index);
+            }
+        };
+        if (!parallel || size <= frames.chunkSize()) {
+            frames.forEach(0, size, separator, recordLength, visitor);
+        } else {
+            final long chunk = frames.chunkSize();
+            final int chunks = (int) ((size + chunk - 1) / chunk);
+            IntStream.range(0, chunks).parallel()
+                .forEach(i -> frames.forEach(i * chunk, Math.min(i * chunk + chunk, size), separator, recordLength, visitor));
+        }
+        return new Columns(arrays, size);
+    }
+
+    /**
+     * Array of one field, filled by index.
+     */
+    private abstract static class Column {
+        final Object array;
+        final int offset;
+        final int length;
+        final PadCharacter pad;
+        final boolean left;
+        final String name;
+
+        Column(final FieldLayout field, final Object array) {
+            this.array = array;
+            this.offset = field.getOffset();
+            this.length = field.getLength();
+            this.pad = field.getPadCharacter();
+            this.left = field.getPadPosition().isLeft();
+            this.name = field.getName();
+        }
+
+        static Column of(final FieldLayout field, final int size) {
+            if (field.getConverter() != null) {
+                throw new IllegalArgumentException(field.getName() + " field is converted by a Converter. A converted field can't be extracted into a column.");
+            }
+            final ClassCaster caster = field.getCaster();
+            if (caster == ClassCaster.INT || caster == ClassCaster.INT_WRAPPER) {
+                return new IntColumn(field, new int[size]);
+            }
+            if (caster == ClassCaster.LONG || caster == ClassCaster.LONG_WRAPPER) {
+                return new LongColumn(field, new long[size]);
+            }
+            if (caster == ClassCaster.DOUBLE || caster == ClassCaster.DOUBLE_WRAPPER) {
+                return new DoubleColumn(field, new double[size]);
+            }
+            if (caster == ClassCaster.BIG_DECIMAL) {
+                return new DecimalColumn(field, new BigDecimal[size]);
+            }
+            throw new IllegalArgumentException(field.getName() + " field is " + field.getType().getName() + ". Only int, long, double and BigDecimal fields and their wrappers can be extracted into a column.");
+        }
+
+        abstract void read(byte[] source, int start, int index);
+
+        // an empty window is zero, like an empty wrapper. a primitive is never empty, or the mapper would reject it too.
+        final boolean isEmpty(final byte[] source, final int start) {
+            final int from = start + offset;
+            return left ? pad.trimLeft(source, from, from + length) == from + length : pad.trimRight(source, from, from + length) == from;
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        private final int[] values;
+        private final boolean wrapper;
+
+        IntColumn(final FieldLayout field, final int[] values) {
+            super(field, values);
+            this.values = values;
+            this.wrapper = field.getCaster() == ClassCaster.INT_WRAPPER;
+        }
+
+        @Override
+        void read(final byte[] source, final int start, final int index) {
+            values[index] = wrapper && isEmpty(source, start) ? 0 : MapperSupport.readInt(source, start + offset, length, pad, left, name);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        private final long[] values;
+        private final boolean wrapper;
+
+        LongColumn(final FieldLayout field, final long[] values) {
+            super(field, values);
+            this.values = values;
+            this.wrapper = field.getCaster() == ClassCaster.LONG_WRAPPER;
+        }
+
+        @Override
+        void read(final byte[] source, final int start, final int index) {
+            values[index] = wrapper && isEmpty(source, start) ? 0L : MapperSupport.readLong(source, start + offset, length, pad, left, name);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        private final double[] values;
+        private final boolean wrapper;
+
+        DoubleColumn(final FieldLayout field, final double[] values) {
+            super(field, values);
+            this.values = values;
+            this.wrapper = field.getCaster() == ClassCaster.DOUBLE_WRAPPER;
+        }
+
+        @Override
+        void read(final byte[] source, final int start, final int index) {
+            values[index] = wrapper && isEmpty(source, start) ? 0D : MapperSupport.readDouble(source, start + offset, length, pad, left, name);
+        }
+    }
+
+    private static final class DecimalColumn extends Column {
+        private final BigDecimal[] values;
+
+        DecimalColumn(final FieldLayout field, final BigDecimal[] values) {
+            super(field, values);
+            this.values = values;
+        }
+
+        @Override
+        void read(final byte[] source, final int start, final int index) {
+            values[index] = MapperSupport.readBigDecimal(source, start + offset, length, pad, left, name);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package fulltext.io;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Columns extracted by {@link ColumnReader}, one array for each field. The N-th element of every array belongs to the N-th record.
+ * <p>
+ * The arrays are not copied, so they belong to the caller.
+ */
+public final class Columns {
+    private final Map<String, Object> arrays;
+    private final int size;
+
+    Columns(final Map<String, Object> arrays, final int size) {
+        this.arrays = arrays;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of records, which is the length of every column.
+     *
+     * @return number of records
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the column of an int or Integer field.
+     *
+     * @param name name of the field
+     * @return column
+     * @throws IllegalArgumentException occurs when the field was not extracted, or its column is not int[].
+     */
+    public int[] getInts(final String name) {
+        return get(name, int[].class);
+    }
+
+    /**
+     * Returns the column of a long or Long field.
+     *
+     * @param name name of the field
+     * @return column
+     * @throws IllegalArgumentException occurs when the field was not extracted, or its column is not long[].
+     */
+    public long[] getLongs(final String name) {
+        return get(name, long[].class);
+    }
+
+    /**
+     * Returns the column of a double or Double field.
+     *
+     * @param name name of the field
+     * @return column
+     * @throws IllegalArgumentException occurs when the field was not extracted, or its column is not double[].
+     */
+    public double[] getDoubles(final String name) {
+        return get(name, double[].class);
+    }
+
+    /**
+     * Returns the column of a BigDecimal field.
+     *
+     * @param name name of the field
+     * @return column
+     * @throws IllegalArgumentException occurs when the field was not extracted, or its column is not BigDecimal[].
+     */
+    public BigDecimal[] getDecimals(final String name) {
+        return get(name, BigDecimal[].class);
+    }
+
+    private <A> A get(final String name, final Class<A> type) {
+        Objects.requireNonNull(name, "Field name must not be null.");
+        final Object array = arrays.get(name);
+        if (array == null) {
+            throw new IllegalArgumentException("Could not find the column named " + name + ". extracted: " + arrays.keySet());
+        }
+        if (!type.isInstance(array)) {
+            throw new IllegalArgumentException(name + " column is " + array.getClass().getSimpleName() + ", not " + type.getSimpleName());
+        }
+        return type.cast(array);
+    }
+}
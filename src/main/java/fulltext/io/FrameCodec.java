@@ -0,0 +1,235 @@
+package fulltext.io;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.exception.RuleViolationException;
+import fulltext.layout.Digits;
+import fulltext.layout.RecordEncoder;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Framing of full text telegrams on a stream socket, where each telegram is sent as a fixed width header of ASCII digits followed by the body. The header holds the length of the body in bytes, or the length of the whole frame if the header counts itself.
+ * <p>
+ * A header is written with leading zeros, such as "0100", and read with leading zeros or spaces. Frames are decoded by a {@link FrameDecoder}, which keeps the bytes of a partial frame between reads.
+ * <p>
+ * This class is immutable and thread safe.
+ */
+public final class FrameCodec {
+    private static final int DEFAULT_MAX_BODY_LENGTH = 1024 * 1024;
+
+    private final int headerLength;
+    private final boolean headerIncluded;
+    private final int maxBodyLength;
+
+    private FrameCodec(final int headerLength, final boolean headerIncluded, final int maxBodyLength) {
+        this.headerLength = headerLength;
+        this.headerIncluded = headerIncluded;
+        this.maxBodyLength = maxBodyLength;
+    }
+
+    /**
+     * Returns a builder of a codec whose header has the number of digits.
+     *
+     * @param headerLength number of the ASCII digits of the header, from 1 to 9
+     * @return {@link Builder}
+     * @throws IllegalArgumentException occurs when the header length is out of range.
+     */
+    public static Builder builder(final int headerLength) {
+        if (headerLength < 1 || headerLength > 9) {
+            throw new IllegalArgumentException("The length of a frame header must be between 1 and 9. but it was " + headerLength);
+        }
+        return new Builder(headerLength);
+    }
+
+    /**
+     * Returns a new decoder of frames. A decoder keeps the partial frame of one stream, so use one decoder for each connection.
+     *
+     * @return {@link FrameDecoder}
+     */
+    public FrameDecoder newDecoder() {
+        return new FrameDecoder(this);
+    }
+
+    /**
+     * Writes the frame of the object at the position of the buffer, and advances the position. The body is the full text of the object, {@link FullText#length()} bytes.
+     *
+     * @param object want to output in full text
+     * @param dst    buffer to write. it may be a heap or direct buffer.
+     * @throws BufferOverflowException occurs when the remaining of the buffer is less than the frame.
+     * @throws RuleViolationException  occurs when the data of a field is longer than {@link Field#length()}, or the body is longer than the header can hold.
+     */
+    @SuppressWarnings("unchecked")
+    public void encode(final Object object, final ByteBuffer dst) {
+        Objects.requireNonNull(object, "Object must not be null.");
+        final RecordEncoder<Object> encoder = (RecordEncoder<Object>) RecordEncoder.ofThread(object.getClass());
+        encode(dst, body -> encoder.encode(object, body));
+    }
+
+    /**
+     * Writes a frame at the position of the buffer, and advances the position. The writer writes the body right after the space of the header, and the header is computed from the number of bytes it wrote. The position is not changed if it fails.
+     *
+     * @param dst  buffer to write. it may be a heap or direct buffer.
+     * @param body writer of the body, which writes at the position of the buffer and advances it
+     * @throws BufferOverflowException occurs when the remaining of the buffer is less than the frame.
+     * @throws RuleViolationException  occurs when the body is longer than the header can hold, or than the max body length.
+     */
+    public void encode(final ByteBuffer dst, final Consumer<ByteBuffer> body) {
+        Objects.requireNonNull(body, "Body writer must not be null.");
+        final int start = dst.position();
+        if (dst.remaining() < headerLength) {
+            throw new BufferOverflowException();
+        }
+        dst.position(start + headerLength);
+        try {
+            body.accept(dst);
+        } catch (RuntimeException e) {
+            dst.position(start);
+            throw e;
+        }
+
+        final int bodyLength = dst.position() - start - headerLength;
+        if (bodyLength > maxBodyLength) {
+            dst.position(start);
+            throw new RuleViolationException("The body of a frame is longer than the max body length: " + maxBodyLength + ", but body length: " + bodyLength);
+        }
+        final long length = headerIncluded ? bodyLength + headerLength : bodyLength;
+        final int digits = Digits.length(length);
+        for (int i = start; i < start + headerLength - digits; i++) {
+            dst.put(i, (byte) '0');
+        }
+        Digits.write(length, dst, start + headerLength);
+    }
+
+    /**
+     * Returns the length of the body whose header begins at the index of the buffer. The position of the buffer is not changed.
+     *
+     * @throws RuleViolationException occurs when the header is not a number, or the length is out of range.
+     */
+    int bodyLength(final ByteBuffer source, final int index) {
+        int cursor = index;
+        final int end = index + headerLength;
+        while (cursor < end && source.get(cursor) == ' ') {
+            cursor++;
+        }
+        if (cursor == end) {
+            throw invalidHeader(source, index);
+        }
+        int length = 0;
+        for (; cursor < end; cursor++) {
+            final int digit = source.get(cursor) - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalidHeader(source, index);
+            }
+            length = length * 10 + digit;
+        }
+
+        final int bodyLength = headerIncluded ? length - headerLength : length;
+        if (bodyLength < 0 || bodyLength > maxBodyLength) {
+            throw new RuleViolationException("The length of a frame is out of range. max body length: " + maxBodyLength + ", but header: " + header(source, index));
+        }
+        return bodyLength;
+    }
+
+    private RuleViolationException invalidHeader(final ByteBuffer source, final int index) {
+        return new RuleViolationException("The header of a frame is not a number. header: " + header(source, index));
+    }
+
+    private String header(final ByteBuffer source, final int index) {
+        final StringBuilder header = new StringBuilder(headerLength);
+        for (int i = index; i < index + headerLength; i++) {
+            header.append((char) (source.get(i) & 0xFF));
+        }
+        return header.toString();
+    }
+
+    /**
+     * Returns the number of the ASCII digits of the header.
+     *
+     * @return length of the header
+     */
+    public int getHeaderLength() {
+        return headerLength;
+    }
+
+    /**
+     * Returns whether the length in the header counts the header itself.
+     *
+     * @return true if the header holds the length of the whole frame, false if it holds the length of the body
+     */
+    public boolean isHeaderIncluded() {
+        return headerIncluded;
+    }
+
+    /**
+     * Returns the max length of a body, which bounds the memory a decoder keeps for a partial frame.
+     *
+     * @return max length of a body in bytes
+     */
+    public int getMaxBodyLength() {
+        return maxBodyLength;
+    }
+
+    /**
+     * Builder of {@link FrameCodec}.
+     */
+    public static final class Builder {
+        private final int headerLength;
+        private boolean headerIncluded;
+        private int maxBodyLength = -1;
+
+        private Builder(final int headerLength) {
+            this.headerLength = headerLength;
+        }
+
+        /**
+         * Sets whether the length in the header counts the header itself. It does not by default.
+         *
+         * @param headerIncluded true if the header holds the length of the whole frame
+         * @return this builder
+         */
+        public Builder headerIncluded(final boolean headerIncluded) {
+            this.headerIncluded = headerIncluded;
+            return this;
+        }
+
+        /**
+         * Sets the max length of a body. By default, it is 1MB or what the header can hold, whichever is less.
+         *
+         * @param maxBodyLength max length of a body in bytes
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the length is negative, or longer than the header can hold.
+         */
+        public Builder maxBodyLength(final int maxBodyLength) {
+            if (maxBodyLength < 0 || maxBodyLength > capacity()) {
+                throw new IllegalArgumentException("The max body length must be between 0 and " + capacity() + ". but it was " + maxBodyLength);
+            }
+            this.maxBodyLength = maxBodyLength;
+            return this;
+        }
+
+        /**
+         * Returns the codec.
+         *
+         * @return {@link FrameCodec}
+         * @throws IllegalArgumentException occurs when the max body length is longer than the header can hold.
+         */
+        public FrameCodec build() {
+            if (maxBodyLength > capacity()) {
+                throw new IllegalArgumentException("The max body length must be between 0 and " + capacity() + ". but it was " + maxBodyLength);
+            }
+            return new FrameCodec(headerLength, headerIncluded, maxBodyLength < 0 ? Math.min(DEFAULT_MAX_BODY_LENGTH, capacity()) : maxBodyLength);
+        }
+
+        // the longest body that the header can hold
+        private int capacity() {
+            int max = 1;
+            for (int i = 0; i < headerLength; i++) {
+                max *= 10;
+            }
+            return max - 1 - (headerIncluded ? headerLength : 0);
+        }
+    }
+}
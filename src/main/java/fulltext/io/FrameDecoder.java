@@ -0,0 +1,177 @@
+package fulltext.io;
+
+import fulltext.exception.RuleViolationException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Incremental decoder of the frames of one stream, created by {@link FrameCodec#newDecoder()}.
+ * <p>
+ * Bytes may arrive in any pieces. The complete frames in a piece are passed to the handler straight from the piece without copying, and only the partial frame at its end is kept by the decoder until the rest arrives. The body passed to the handler is a buffer whose position and limit are the body of one frame, so it can be mapped with {@link fulltext.FullTextMapper#readValue(ByteBuffer, Class)}. The buffer and its content are valid only during the call, so the handler must not keep it.
+ * <p>
+ * Once a header is found invalid, the stream can not be resynchronized, and the decoder should be discarded with its connection.
+ * <p>
+ * This class is not thread safe.
+ */
+public final class FrameDecoder {
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_PENDING_SIZE = 1024;
+
+    private final FrameCodec codec;
+    private final int headerLength;
+    private ByteBuffer pending;
+    private int frameLength;
+    private ByteBuffer input;
+
+    FrameDecoder(final FrameCodec codec) {
+        this.codec = codec;
+        this.headerLength = codec.getHeaderLength();
+        // a partial frame is rare, so a decoder starts small and grows only for a long frame
+        this.pending = ByteBuffer.allocate(Math.min(INITIAL_PENDING_SIZE, headerLength + codec.getMaxBodyLength()));
+        this.frameLength = -1;
+    }
+
+    /**
+     * Decodes the bytes between the position and the limit of the buffer, and passes the body of each complete frame to the handler. All the remaining bytes are consumed, and the bytes of a partial frame are kept for the next call.
+     *
+     * @param source  bytes of the stream. it may be a heap or direct buffer.
+     * @param handler handler of the body of each frame
+     * @return the number of frames decoded
+     * @throws RuleViolationException occurs when a header is not a number, or the length is out of range.
+     */
+    public int decode(final ByteBuffer source, final Consumer<ByteBuffer> handler) {
+        Objects.requireNonNull(source, "ByteBuffer must not be null.");
+        Objects.requireNonNull(handler, "Handler must not be null.");
+        int count = 0;
+        if (pending.position() > 0 && completePending(source, handler)) {
+            count++;
+        }
+        if (pending.position() > 0) {
+            return count;
+        }
+
+        final ByteBuffer body = source.duplicate();
+        int position = source.position();
+        final int limit = source.limit();
+        while (limit - position >= headerLength) {
+            final int bodyLength = codec.bodyLength(source, position);
+            final int bodyStart = position + headerLength;
+            if (limit - bodyStart < bodyLength) {
+                break;
+            }
+            body.limit(bodyStart + bodyLength);
+            body.position(bodyStart);
+            position = bodyStart + bodyLength;
+            // the handler sees the frames so far as consumed, even if it throws
+            source.position(position);
+            handler.accept(body);
+            count++;
+        }
+        source.position(position);
+        if (source.hasRemaining()) {
+            ensureCapacity(source.remaining());
+            pending.put(source);
+        }
+        return count;
+    }
+
+    // moves the bytes of the partial frame from the source into the pending buffer, and passes the frame to the handler once it is complete
+    private boolean completePending(final ByteBuffer source, final Consumer<ByteBuffer> handler) {
+        if (frameLength < 0) {
+            if (!fill(source, headerLength)) {
+                return false;
+            }
+            frameLength = headerLength + codec.bodyLength(pending, 0);
+            ensureCapacity(frameLength);
+        }
+        if (!fill(source, frameLength)) {
+            return false;
+        }
+
+        pending.flip();
+        pending.position(headerLength);
+        frameLength = -1;
+        try {
+            handler.accept(pending);
+        } finally {
+            pending.clear();
+        }
+        return true;
+    }
+
+    // fills the pending buffer up to the length, and returns whether it is filled. the buffer may already hold more than the header.
+    private boolean fill(final ByteBuffer source, final int length) {
+        final int count = Math.max(0, Math.min(length - pending.position(), source.remaining()));
+        final int limit = source.limit();
+        source.limit(source.position() + count);
+        pending.put(source);
+        source.limit(limit);
+        return pending.position() >= length;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (pending.capacity() < capacity) {
+            final ByteBuffer grown = ByteBuffer.allocate(Math.max(capacity, Math.min(pending.capacity() * 2, headerLength + codec.getMaxBodyLength())));
+            pending.flip();
+            grown.put(pending);
+            pending = grown;
+        }
+    }
+
+    /**
+     * Reads the channel once, and passes the body of each complete frame read to the handler. The bytes are read into a buffer which is allocated on the first call and reused after that.
+     *
+     * @param channel stream of frames, such as a socket channel. it may be non-blocking.
+     * @param handler handler of the body of each frame
+     * @return the number of frames decoded, or -1 if the channel has reached end of stream
+     * @throws EOFException           occurs when the channel reaches end of stream in the middle of a frame.
+     * @throws IOException            occurs when the channel fails to read.
+     * @throws RuleViolationException occurs when a header is not a number, or the length is out of range.
+     */
+    public int read(final ReadableByteChannel channel, final Consumer<ByteBuffer> handler) throws IOException {
+        Objects.requireNonNull(channel, "Channel must not be null.");
+        if (input == null) {
+            input = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        }
+        input.clear();
+        final int read = channel.read(input);
+        if (read < 0) {
+            if (hasPartialFrame()) {
+                throw new EOFException("The stream has ended in the middle of a frame. remaining bytes: " + pending.position());
+            }
+            return -1;
+        }
+        input.flip();
+        return decode(input, handler);
+    }
+
+    /**
+     * Returns whether the decoder keeps bytes of a frame which is not complete yet.
+     *
+     * @return true if a partial frame is kept
+     */
+    public boolean hasPartialFrame() {
+        return pending.position() > 0;
+    }
+
+    /**
+     * Discards the partial frame, to decode a new stream.
+     */
+    public void reset() {
+        pending.clear();
+        frameLength = -1;
+    }
+
+    /**
+     * Returns the codec of the frames.
+     *
+     * @return {@link FrameCodec}
+     */
+    public FrameCodec getCodec() {
+        return codec;
+    }
+}
@@ -0,0 +1,159 @@
+package fulltext.io;
+
+import fulltext.exception.RuleViolationException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fixed-length frames, a record followed by an optional separator, stored in one or more byte buffers. Every buffer starts at a frame boundary and holds whole frames, so the location of the N-th frame is computed without scanning.
+ */
+final class Frames {
+    // records per parallel chunk, below which a task costs more than it saves
+    private static final long MIN_CHUNK = 16 * 1024;
+
+    private final ByteBuffer[] segments;
+    private final long count;
+    private final long segmentFrames;
+    private final int frameLength;
+
+    private Frames(final ByteBuffer[] segments, final long count, final long segmentFrames, final int frameLength) {
+        this.segments = segments;
+        this.count = count;
+        this.segmentFrames = segmentFrames;
+        this.frameLength = frameLength;
+    }
+
+    /**
+     * Returns the frames between the position and the limit of the buffer. The position of the buffer is not changed.
+     */
+    static Frames of(final ByteBuffer buffer, final int recordLength, final int separatorLength) {
+        final int frameLength = recordLength + separatorLength;
+        final long count = count(buffer.remaining(), frameLength, separatorLength);
+        return new Frames(new ByteBuffer[]{buffer.slice()}, count, Math.max(1, count), frameLength);
+    }
+
+    /**
+     * Maps the file read only. The file is mapped in segments of less than 2GB, each of which holds whole frames.
+     */
+    static Frames map(final Path path, final int recordLength, final int separatorLength) {
+        final int frameLength = recordLength + separatorLength;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final long count = count(size, frameLength, separatorLength);
+            final long segmentFrames = Integer.MAX_VALUE / frameLength;
+            final long segmentBytes = segmentFrames * frameLength;
+
+            final int segmentCount = (int) ((size + segmentBytes - 1) / segmentBytes);
+            final ByteBuffer[] segments = new ByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                final long position = i * segmentBytes;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(segmentBytes, size - position));
+            }
+            // The mapping stays valid after the channel is closed.
+            return new Frames(segments, count, segmentFrames, frameLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long count(final long size, final int frameLength, final int separatorLength) {
+        if (size % frameLength == 0) {
+            return size / frameLength;
+        }
+        if (separatorLength > 0 && (size + separatorLength) % frameLength == 0) {
+            // the separator after the last record is omitted.
+            return (size + separatorLength) / frameLength;
+        }
+        throw new RuleViolationException("The size of full text is not a multiple of the record length. size: " + size + ", record length: " + frameLength);
+    }
+
+    /**
+     * Checks the separator after the record which ends at {@code position} of the segment. The separator after the last record may be omitted.
+     */
+    static void checkSeparator(final ByteBuffer segment, final int position, final byte[] separator, final int recordLength) {
+        for (int i = 0; i < separator.length && position + i < segment.limit(); i++) {
+            if (segment.get(position + i) != separator[i]) {
+                throw new RuleViolationException("Record separator does not match at the end of the record. @FullText: " + recordLength);
+            }
+        }
+    }
+
+    /**
+     * Passes the records from {@code from} to {@code to} to the visitor, checking the separator after each of them. A record of a segment with an accessible array is passed in place, and the others are copied into one buffer, which is reused for every record.
+     */
+    void forEach(final long from, final long to, final byte[] separator, final int recordLength, final Visitor visitor) {
+        SegmentReader reader = null;
+        byte[] record = null;
+        for (long i = from; i < to; i++) {
+            final ByteBuffer segment = segment(i);
+            final int position = position(i);
+            if (segment.hasArray()) {
+                visitor.visit(segment.array(), segment.arrayOffset() + position, i);
+            } else {
+                if (record == null) {
+                    reader = new SegmentReader(this);
+                    record = new byte[recordLength];
+                }
+                reader.read(i, record, recordLength);
+                visitor.visit(record, 0, i);
+            }
+            checkSeparator(segment, position + recordLength, separator, recordLength);
+        }
+    }
+
+    /**
+     * Returns the number of records in each chunk of a parallel run, a few chunks for each thread of the common pool.
+     */
+    long chunkSize() {
+        return Math.max(MIN_CHUNK, count / (ForkJoinPool.getCommonPoolParallelism() * 4L));
+    }
+
+    long count() {
+        return count;
+    }
+
+    int frameLength() {
+        return frameLength;
+    }
+
+    int segments() {
+        return segments.length;
+    }
+
+    /**
+     * Returns the buffer which holds the frame. the position and the limit of the returned buffer must not be changed.
+     */
+    ByteBuffer segment(final long index) {
+        return segments[(int) (index / segmentFrames)];
+    }
+
+    int segmentIndex(final long index) {
+        return (int) (index / segmentFrames);
+    }
+
+    /**
+     * Returns the position of the frame in its segment.
+     */
+    int position(final long index) {
+        return (int) (index % segmentFrames) * frameLength;
+    }
+
+    /**
+     * Receives each record of {@link #forEach(long, long, byte[], int, Visitor)}.
+     */
+    interface Visitor {
+        /**
+         * Visits one record.
+         *
+         * @param source array which holds the record. it is valid only during the call.
+         * @param start  index of the array where the record begins
+         * @param index  index of the record
+         */
+        void visit(byte[] source, int start, long index);
+    }
+}
@@ -0,0 +1,281 @@
+package fulltext.io;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.exception.RuleViolationException;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordFilter;
+import fulltext.layout.RecordLayout;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads full text records of {@link FullText#length()} bytes one after another from an {@link InputStream} or a {@link ReadableByteChannel}, and maps each record to an instance of T.
+ * <p>
+ * One read buffer is allocated when the reader is created and reused for every record, so the memory does not grow with the size of the input. Records are parsed from the buffer with byte-accurate lengths, like {@link fulltext.FullTextMapper#readValue(byte[], Class)}.
+ * <p>
+ * With a {@link RecordFilter}, each raw record is tested in the buffer, and the records that do not pass it are skipped without being mapped.
+ * <p>
+ * The input is read in blocking mode, so a selectable channel such as a socket channel must be blocking. Use {@link FrameDecoder} to read a non-blocking channel.
+ * <p>
+ * This class is not thread safe. Closing the reader closes the underlying input.
+ *
+ * @param <T> class in which {@link FullText} and {@link Field} are declared
+ */
+public final class FullTextReader<T> implements Iterator<T>, Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final ReadableByteChannel channel;
+    private final RecordLayout<T> layout;
+    private final RecordFilter filter;
+    private final byte[] separator;
+    private final int recordLength;
+    private final boolean copyRecords;
+    private final ByteBuffer buffer;
+    private boolean eof;
+
+    private FullTextReader(final ReadableByteChannel channel, final RecordLayout<T> layout, final String separator, final RecordFilter filter) {
+        this.channel = Objects.requireNonNull(channel, "Channel must not be null.");
+        // a non-blocking channel reads 0 bytes instead of waiting, and the reader would spin on it
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalBlockingModeException();
+        }
+        this.layout = layout;
+        this.filter = filter;
+        this.separator = separator == null ? new byte[0] : separator.getBytes(layout.getCharset());
+        this.recordLength = layout.getLength();
+        this.copyRecords = layout.retainsSource();
+
+        final int frameLength = recordLength + this.separator.length;
+        this.buffer = ByteBuffer.allocate(Math.max(DEFAULT_BUFFER_SIZE, frameLength) / frameLength * frameLength);
+        this.buffer.flip();
+    }
+
+    /**
+     * Returns a reader of records written back to back without any separator.
+     *
+     * @param in    input of full text
+     * @param clazz class to map each record
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return {@link FullTextReader}
+     */
+    public static <T> FullTextReader<T> of(final InputStream in, final Class<T> clazz) {
+        return of(in, clazz, null);
+    }
+
+    /**
+     * Returns a reader of records each followed by the separator. The separator after the last record may be omitted.
+     *
+     * @param in        input of full text
+     * @param clazz     class to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param <T>       class in which {@link FullText} and {@link Field} are declared
+     * @return {@link FullTextReader}
+     */
+    public static <T> FullTextReader<T> of(final InputStream in, final Class<T> clazz, final String separator) {
+        Objects.requireNonNull(in, "InputStream must not be null.");
+        return of(new InputStreamChannel(in), clazz, separator);
+    }
+
+    /**
+     * Returns a reader of records written back to back without any separator.
+     *
+     * @param channel input of full text
+     * @param clazz   class to map each record
+     * @param <T>     class in which {@link FullText} and {@link Field} are declared
+     * @return {@link FullTextReader}
+     * @throws IllegalBlockingModeException occurs when the channel is a selectable channel in non-blocking mode.
+     */
+    public static <T> FullTextReader<T> of(final ReadableByteChannel channel, final Class<T> clazz) {
+        return of(channel, clazz, null);
+    }
+
+    /**
+     * Returns a reader of records each followed by the separator. The separator after the last record may be omitted.
+     *
+     * @param channel   input of full text
+     * @param clazz     class to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param <T>       class in which {@link FullText} and {@link Field} are declared
+     * @return {@link FullTextReader}
+     * @throws IllegalBlockingModeException occurs when the channel is a selectable channel in non-blocking mode.
+     */
+    public static <T> FullTextReader<T> of(final ReadableByteChannel channel, final Class<T> clazz, final String separator) {
+        return of(channel, FullTextLayout.of(clazz), separator);
+    }
+
+    /**
+     * Returns a reader of records mapped by the layout, such as a {@link fulltext.layout.DispatchLayout} of a header, data and a trailer. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param in        input of full text
+     * @param layout    layout to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param <T>       type of the mapped records
+     * @return {@link FullTextReader}
+     */
+    public static <T> FullTextReader<T> of(final InputStream in, final RecordLayout<T> layout, final String separator) {
+        Objects.requireNonNull(in, "InputStream must not be null.");
+        return of(new InputStreamChannel(in), layout, separator);
+    }
+
+    /**
+     * Returns a reader of records mapped by the layout, such as a {@link fulltext.layout.DispatchLayout} of a header, data and a trailer. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param channel   input of full text
+     * @param layout    layout to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param <T>       type of the mapped records
+     * @return {@link FullTextReader}
+     * @throws IllegalBlockingModeException occurs when the channel is a selectable channel in non-blocking mode.
+     */
+    public static <T> FullTextReader<T> of(final ReadableByteChannel channel, final RecordLayout<T> layout, final String separator) {
+        return of(channel, layout, separator, null);
+    }
+
+    /**
+     * Returns a reader of the records which pass the filter. The records that do not pass it are skipped without being mapped. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param in        input of full text
+     * @param layout    layout to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param filter    filter to test each raw record. null means every record.
+     * @param <T>       type of the mapped records
+     * @return {@link FullTextReader}
+     * @throws IllegalArgumentException occurs when the length of the filter is not the length of the layout.
+     */
+    public static <T> FullTextReader<T> of(final InputStream in, final RecordLayout<T> layout, final String separator, final RecordFilter filter) {
+        Objects.requireNonNull(in, "InputStream must not be null.");
+        return of(new InputStreamChannel(in), layout, separator, filter);
+    }
+
+    /**
+     * Returns a reader of the records which pass the filter. The records that do not pass it are skipped without being mapped. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param channel   input of full text
+     * @param layout    layout to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param filter    filter to test each raw record. null means every record.
+     * @param <T>       type of the mapped records
+     * @return {@link FullTextReader}
+     * @throws IllegalBlockingModeException occurs when the channel is a selectable channel in non-blocking mode.
+     * @throws IllegalArgumentException occurs when the length of the filter is not the length of the layout.
+     */
+    public static <T> FullTextReader<T> of(final ReadableByteChannel channel, final RecordLayout<T> layout, final String separator, final RecordFilter filter) {
+        Objects.requireNonNull(layout, "Layout must not be null.");
+        RecordSpliterator.checkFilter(layout, filter);
+        return new FullTextReader<>(channel, layout, separator, filter);
+    }
+
+    @Override
+    public boolean hasNext() {
+        fill();
+        while (filter != null && buffer.remaining() >= recordLength) {
+            final int start = buffer.arrayOffset() + buffer.position();
+            if (filter.test(buffer.array(), start, start + recordLength)) {
+                break;
+            }
+            buffer.position(buffer.position() + recordLength);
+            skipSeparator();
+            fill();
+        }
+        return buffer.hasRemaining();
+    }
+
+    /**
+     * Maps the next record.
+     *
+     * @return instance of T
+     * @throws NoSuchElementException occurs when there are no more records.
+     * @throws RuleViolationException occurs when the input ends in the middle of a record or a separator does not match.
+     * @throws UncheckedIOException   occurs when reading the input fails.
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (buffer.remaining() < recordLength) {
+            throw new RuleViolationException("Reading has been completed. but remaining data exists. remaining bytes: " + buffer.remaining());
+        }
+
+        final int start = buffer.arrayOffset() + buffer.position();
+        // the buffer is reused, so a layout which keeps its source gets a copy of the record
+        final T instance = copyRecords
+            ? layout.read(Arrays.copyOfRange(buffer.array(), start, start + recordLength), 0, recordLength)
+            : layout.read(buffer.array(), start, start + recordLength);
+        buffer.position(buffer.position() + recordLength);
+        skipSeparator();
+        return instance;
+    }
+
+    private void skipSeparator() {
+        if (separator.length == 0 || !buffer.hasRemaining()) {
+            return;
+        }
+        if (buffer.remaining() < separator.length) {
+            throw new RuleViolationException("Reading has been completed. but remaining data exists. remaining bytes: " + buffer.remaining());
+        }
+        for (byte b : separator) {
+            if (buffer.get() != b) {
+                throw new RuleViolationException("Record separator does not match at the end of the record. @FullText: " + recordLength);
+            }
+        }
+    }
+
+    private void fill() {
+        final int frameLength = recordLength + separator.length;
+        if (eof || buffer.remaining() >= frameLength) {
+            return;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < frameLength) {
+                if (channel.read(buffer) < 0) {
+                    eof = true;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    /**
+     * Returns the remaining records as a lazy sequential stream. Closing the stream closes this reader.
+     *
+     * @return {@link Stream}
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(this::closeUnchecked);
+    }
+
+    private void closeUnchecked() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,172 @@
+package fulltext.io;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.exception.RuleViolationException;
+import fulltext.layout.RecordEncoder;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Writes instances of T as full text records of {@link FullText#length()} bytes to an {@link OutputStream} or a {@link WritableByteChannel}.
+ * <p>
+ * Each record is encoded straight into one write buffer in {@link FullText#encoding()}, and the buffer is written to the output only when it is full. The buffer is allocated when the writer is created and reused for every record.
+ * <p>
+ * This class is not thread safe. Closing the writer flushes the buffer and closes the underlying output.
+ *
+ * @param <T> class in which {@link FullText} and {@link Field} are declared
+ */
+public final class FullTextWriter<T> implements Flushable, Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final RecordEncoder<T> encoder;
+    private final byte[] separator;
+    private final ByteBuffer buffer;
+
+    private FullTextWriter(final WritableByteChannel channel, final RecordEncoder<T> encoder, final String separator) {
+        this.channel = Objects.requireNonNull(channel, "Channel must not be null.");
+        this.encoder = encoder;
+        this.separator = separator == null ? new byte[0] : separator.getBytes(encoder.getLayout().getCharset());
+
+        final int frameLength = encoder.getLayout().getLength() + this.separator.length;
+        this.buffer = ByteBuffer.allocate(Math.max(DEFAULT_BUFFER_SIZE, frameLength) / frameLength * frameLength);
+    }
+
+    /**
+     * Returns a writer of records written back to back without any separator.
+     *
+     * @param out   output of full text
+     * @param clazz class of the instances to write
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return {@link FullTextWriter}
+     */
+    public static <T> FullTextWriter<T> of(final OutputStream out, final Class<T> clazz) {
+        return of(out, clazz, null);
+    }
+
+    /**
+     * Returns a writer of records each followed by the separator.
+     *
+     * @param out       output of full text
+     * @param clazz     class of the instances to write
+     * @param separator separator after each record, such as "\n" or "\r\n". null means no separator.
+     * @param <T>       class in which {@link FullText} and {@link Field} are declared
+     * @return {@link FullTextWriter}
+     */
+    public static <T> FullTextWriter<T> of(final OutputStream out, final Class<T> clazz, final String separator) {
+        Objects.requireNonNull(out, "OutputStream must not be null.");
+        return of(new OutputStreamChannel(out), clazz, separator);
+    }
+
+    /**
+     * Returns a writer of records written back to back without any separator.
+     *
+     * @param channel output of full text
+     * @param clazz   class of the instances to write
+     * @param <T>     class in which {@link FullText} and {@link Field} are declared
+     * @return {@link FullTextWriter}
+     */
+    public static <T> FullTextWriter<T> of(final WritableByteChannel channel, final Class<T> clazz) {
+        return of(channel, clazz, null);
+    }
+
+    /**
+     * Returns a writer of records each followed by the separator.
+     *
+     * @param channel   output of full text
+     * @param clazz     class of the instances to write
+     * @param separator separator after each record, such as "\n" or "\r\n". null means no separator.
+     * @param <T>       class in which {@link FullText} and {@link Field} are declared
+     * @return {@link FullTextWriter}
+     */
+    public static <T> FullTextWriter<T> of(final WritableByteChannel channel, final Class<T> clazz, final String separator) {
+        return new FullTextWriter<>(channel, RecordEncoder.of(clazz), separator);
+    }
+
+    /**
+     * Encodes the instance into the write buffer. The buffer is written to the output when it is full.
+     *
+     * @param value instance to write
+     * @throws RuleViolationException occurs when the data of a field is longer than {@link Field#length()}.
+     * @throws UncheckedIOException   occurs when writing the output fails.
+     */
+    public void write(final T value) {
+        Objects.requireNonNull(value, "Value must not be null.");
+        if (buffer.remaining() < encoder.getLayout().getLength() + separator.length) {
+            drain();
+        }
+
+        final int position = buffer.position();
+        try {
+            encoder.encode(value, buffer);
+        } catch (RuntimeException e) {
+            // Discard the partially encoded record.
+            buffer.position(position);
+            throw e;
+        }
+        buffer.put(separator);
+    }
+
+    /**
+     * Writes all instances in order.
+     *
+     * @param values instances to write
+     * @throws RuleViolationException occurs when the data of a field is longer than {@link Field#length()}.
+     * @throws UncheckedIOException   occurs when writing the output fails.
+     */
+    public void writeAll(final Iterable<? extends T> values) {
+        Objects.requireNonNull(values, "Values must not be null.");
+        for (T value : values) {
+            write(value);
+        }
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.compact();
+        }
+    }
+
+    /**
+     * Writes the buffered records to the output.
+     *
+     * @throws IOException occurs when writing the output fails.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            drain();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (channel instanceof OutputStreamChannel) {
+            ((OutputStreamChannel) channel).flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package fulltext.io;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.ClassCaster;
+import fulltext.exception.RuleViolationException;
+import fulltext.layout.FieldLayout;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordFilter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * Counts the full text records in a byte buffer or a file by the key field, and sums the value field of each group, without creating an instance for each record.
+ * <p>
+ * The key of a record is the window of the key field without its pad, so the groups are told apart without decoding the keys, and a key is decoded into a String only once for each group. The value field is parsed straight from its window the same as {@link fulltext.FullTextMapper#readValue(byte[], Class)} would bind it. int, long and BigDecimal values are summed exactly as decimals, and double values as doubles.
+ * <p>
+ * In parallel, each chunk of records is aggregated into its own table, and the tables are merged in the order of the chunks.
+ * <p>
+ * This class is immutable and thread safe.
+ */
+public final class GroupAggregator {
+    private final FullTextLayout<?> layout;
+    private final FieldLayout key;
+    private final FieldLayout value;
+    private final RecordFilter filter;
+
+    private GroupAggregator(final FullTextLayout<?> layout, final FieldLayout key, final FieldLayout value, final RecordFilter filter) {
+        this.layout = layout;
+        this.key = key;
+        this.value = value;
+        this.filter = filter;
+    }
+
+    /**
+     * Returns a builder of an aggregator of the records of the class.
+     *
+     * @param clazz class in which {@link FullText} and {@link Field} are declared
+     * @return {@link Builder}
+     * @throws IllegalArgumentException occurs when the class is not valid.
+     */
+    public static Builder builder(final Class<?> clazz) {
+        return new Builder(FullTextLayout.of(clazz));
+    }
+
+    /**
+     * Aggregates the records between the position and the limit of the buffer. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param buffer    full text. it may be a heap, direct or mapped buffer. the position of the buffer is not changed.
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param parallel  whether the records are aggregated in parallel
+     * @return {@link Aggregation}
+     * @throws RuleViolationException occurs when the size of the buffer is not a multiple of the record length.
+     * @throws NumberFormatException  occurs when the data of the value field is not a number.
+     */
+    public Aggregation aggregate(final ByteBuffer buffer, final String separator, final boolean parallel) {
+        Objects.requireNonNull(buffer, "ByteBuffer must not be null.");
+        final byte[] separatorBytes = RecordSpliterator.separatorBytes(layout, separator);
+        return aggregate(Frames.of(buffer, layout.getLength(), separatorBytes.length), separatorBytes, parallel);
+    }
+
+    /**
+     * Aggregates the records in the file. The file is mapped into memory, and each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param path      full text file
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param parallel  whether the records are aggregated in parallel
+     * @return {@link Aggregation}
+     * @throws UncheckedIOException   occurs when the file cannot be mapped.
+     * @throws RuleViolationException occurs when the file size is not a multiple of the record length.
+     * @throws NumberFormatException  occurs when the data of the value field is not a number.
+     */
+    public Aggregation aggregate(final Path path, final String separator, final boolean parallel) {
+        Objects.requireNonNull(path, "Path must not be null.");
+        final byte[] separatorBytes = RecordSpliterator.separatorBytes(layout, separator);
+        return aggregate(Frames.map(path, layout.getLength(), separatorBytes.length), separatorBytes, parallel);
+    }
+
+    private Aggregation aggregate(final Frames frames, final byte[] separator, final boolean parallel) {
+        final long count = frames.count();
+        final long chunk = frames.chunkSize();
+        final GroupTable table;
+        if (!parallel || count <= chunk) {
+            table = aggregate(frames, separator, 0, count);
+        } else {
+            table = LongStream.range(0, (count + chunk - 1) / chunk).parallel()
+                .mapToObj(i -> aggregate(frames, separator, i * chunk, Math.min(i * chunk + chunk, count)))
+                .reduce(GroupTable::merge)
+                .orElseGet(() -> new GroupTable(isDouble()));
+        }
+
+        final Charset charset = layout.getCharset();
+        final Map<String, Long> counts = new LinkedHashMap<>();
+        final Map<String, BigDecimal> sums = value == null ? null : new LinkedHashMap<>();
+        long totalCount = 0;
+        for (int group = 0; group < table.size(); group++) {
+            final String groupKey = table.key(group, charset);
+            counts.put(groupKey, table.count(group));
+            totalCount += table.count(group);
+            if (sums != null) {
+                sums.put(groupKey, table.sum(group));
+            }
+        }
+        return new Aggregation(counts, sums, totalCount);
+    }
+
+    private GroupTable aggregate(final Frames frames, final byte[] separator, final long from, final long to) {
+        final GroupTable table = new GroupTable(isDouble());
+        final int recordLength = layout.getLength();
+        frames.forEach(from, to, separator, recordLength, (source, start, index) -> {
+            if (filter == null || filter.test(source, start, start + recordLength)) {
+                accumulate(table, source, start);
+            }
+        });
+        return table;
+    }
+
+    private void accumulate(final GroupTable table, final byte[] source, final int start) {
+        final int keyStart = start + key.getOffset();
+        final int keyEnd = keyStart + key.getLength();
+        final int group = key.getPadPosition().isLeft()
+            ? table.group(source, key.getPadCharacter().trimLeft(source, keyStart, keyEnd), keyEnd)
+            : table.group(source, keyStart, key.getPadCharacter().trimRight(source, keyStart, keyEnd));
+        table.count(group, 1);
+        if (value != null) {
+            sum(table, group, source, start + value.getOffset());
+        }
+    }
+
+    // parses a plain decimal of at most 18 digits into an unscaled long. anything else is decoded by the field, for the same result and message as the mapper.
+    private void sum(final GroupTable table, final int group, final byte[] source, final int start) {
+        if (isDouble()) {
+            table.add(group, ((Number) value.decode(source, start, layout.getCharset())).doubleValue());
+            return;
+        }
+        final int end = start + value.getLength();
+        final boolean left = value.getPadPosition().isLeft();
+        final int from = left ? value.getPadCharacter().trimLeft(source, start, end) : start;
+        final int to = left ? end : value.getPadCharacter().trimRight(source, start, end);
+
+        final boolean negative = from < to && source[from] == '-';
+        int index = from < to && (negative || source[from] == '+') ? from + 1 : from;
+        final boolean decimal = value.getCaster() == ClassCaster.BIG_DECIMAL;
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; index < to; index++) {
+            final int b = source[index];
+            if (b >= '0' && b <= '9' && digits < 18) {
+                unscaled = unscaled * 10 + (b - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && decimal && scale < 0) {
+                scale = 0;
+            } else {
+                break;
+            }
+        }
+        if (index == to && digits > 0) {
+            table.add(group, negative ? -unscaled : unscaled, Math.max(scale, 0));
+            return;
+        }
+
+        final Object decoded = value.decode(source, start, layout.getCharset());
+        if (decoded instanceof BigDecimal) {
+            table.add(group, (BigDecimal) decoded);
+        } else {
+            table.add(group, ((Number) decoded).longValue(), 0);
+        }
+    }
+
+    private boolean isDouble() {
+        return value != null && (value.getCaster() == ClassCaster.DOUBLE || value.getCaster() == ClassCaster.DOUBLE_WRAPPER);
+    }
+
+    /**
+     * Builder of {@link GroupAggregator}.
+     */
+    public static final class Builder {
+        private final FullTextLayout<?> layout;
+        private FieldLayout key;
+        private FieldLayout value;
+        private RecordFilter filter;
+
+        private Builder(final FullTextLayout<?> layout) {
+            this.layout = layout;
+        }
+
+        /**
+         * Groups the records by the window of the field.
+         *
+         * @param name name of the key field
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the class has no such field.
+         */
+        public Builder groupBy(final String name) {
+            this.key = field(name);
+            return this;
+        }
+
+        /**
+         * Sums the field in each group.
+         *
+         * @param name name of the value field
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the class has no such field, or the field is not a number or is converted.
+         */
+        public Builder sum(final String name) {
+            final FieldLayout field = field(name);
+            if (field.getConverter() != null) {
+                throw new IllegalArgumentException(name + " field is converted by a Converter. A converted field can't be summed.");
+            }
+            final ClassCaster caster = field.getCaster();
+            if (caster != ClassCaster.INT && caster != ClassCaster.INT_WRAPPER && caster != ClassCaster.LONG && caster != ClassCaster.LONG_WRAPPER
+                && caster != ClassCaster.DOUBLE && caster != ClassCaster.DOUBLE_WRAPPER && caster != ClassCaster.BIG_DECIMAL) {
+                throw new IllegalArgumentException(name + " field is " + field.getType().getName() + ". Only int, long, double and BigDecimal fields and their wrappers can be summed.");
+            }
+            this.value = field;
+            return this;
+        }
+
+        /**
+         * Aggregates only the records which pass the filter.
+         *
+         * @param filter filter to test each raw record. null means every record.
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the length of the filter is not the length of the class.
+         */
+        public Builder filter(final RecordFilter filter) {
+            RecordSpliterator.checkFilter(layout, filter);
+            this.filter = filter;
+            return this;
+        }
+
+        /**
+         * Returns the aggregator.
+         *
+         * @return {@link GroupAggregator}
+         * @throws IllegalArgumentException occurs when the field to group by is not given.
+         */
+        public GroupAggregator build() {
+            if (key == null) {
+                throw new IllegalArgumentException("Give the field to group by.");
+            }
+            return new GroupAggregator(layout, key, value, filter);
+        }
+
+        private FieldLayout field(final String name) {
+            Objects.requireNonNull(name, "Field name must not be null.");
+            for (FieldLayout field : layout.getFields()) {
+                if (field.getName().equals(name)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Could not find @Field named " + name + " in " + layout.getType().getName());
+        }
+    }
+}
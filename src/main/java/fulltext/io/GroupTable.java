@@ -0,0 +1,232 @@
+package fulltext.io;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table of groups keyed by byte windows, for {@link GroupAggregator}.
+ * <p>
+ * The keys are copied into one byte array, and the count and the sum of each group are kept in primitive arrays indexed by the group, so no object is created for a record. A decimal sum is kept as an unscaled long at the largest scale added, and moves to a {@link BigDecimal} only if it overflows. Groups are numbered in the order their keys are first added.
+ * <p>
+ * An instance belongs to one thread and is not thread safe.
+ */
+final class GroupTable {
+    private static final int INITIAL_GROUPS = 64;
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+        10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private final boolean doubles;
+    private int[] slots;
+    private int size;
+    private int[] hashes;
+    private int[] keyOffsets;
+    private int[] keyLengths;
+    private byte[] keys;
+    private int keysLength;
+    private long[] counts;
+    private long[] unscaled;
+    private int[] scales;
+    private BigDecimal[] spilled;
+    private double[] sums;
+
+    /**
+     * @param doubles whether the sums are of doubles, rather than of decimals
+     */
+    GroupTable(final boolean doubles) {
+        this.doubles = doubles;
+        this.slots = new int[INITIAL_GROUPS * 2];
+        this.hashes = new int[INITIAL_GROUPS];
+        this.keyOffsets = new int[INITIAL_GROUPS];
+        this.keyLengths = new int[INITIAL_GROUPS];
+        this.keys = new byte[INITIAL_GROUPS * 16];
+        this.counts = new long[INITIAL_GROUPS];
+        if (doubles) {
+            this.sums = new double[INITIAL_GROUPS];
+        } else {
+            this.unscaled = new long[INITIAL_GROUPS];
+            this.scales = new int[INITIAL_GROUPS];
+        }
+    }
+
+    /**
+     * Returns the group of the key between {@code from} and {@code to} of the array, adding a group if the key is new.
+     */
+    int group(final byte[] source, final int from, final int to) {
+        final int hash = hash(source, from, to);
+        final int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (true) {
+            final int group = slots[slot] - 1;
+            if (group < 0) {
+                return add(slot, hash, source, from, to);
+            }
+            if (hashes[group] == hash && equals(group, source, from, to)) {
+                return group;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int add(final int slot, final int hash, final byte[] source, final int from, final int to) {
+        if (size == hashes.length) {
+            growGroups();
+        }
+        final int length = to - from;
+        if (keysLength + length > keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(keys.length * 2, keysLength + length));
+        }
+        System.arraycopy(source, from, keys, keysLength, length);
+
+        final int group = size++;
+        hashes[group] = hash;
+        keyOffsets[group] = keysLength;
+        keyLengths[group] = length;
+        keysLength += length;
+        slots[slot] = group + 1;
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return group;
+    }
+
+    private void growGroups() {
+        final int capacity = hashes.length * 2;
+        hashes = Arrays.copyOf(hashes, capacity);
+        keyOffsets = Arrays.copyOf(keyOffsets, capacity);
+        keyLengths = Arrays.copyOf(keyLengths, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        if (doubles) {
+            sums = Arrays.copyOf(sums, capacity);
+        } else {
+            unscaled = Arrays.copyOf(unscaled, capacity);
+            scales = Arrays.copyOf(scales, capacity);
+            if (spilled != null) {
+                spilled = Arrays.copyOf(spilled, capacity);
+            }
+        }
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        final int mask = slots.length - 1;
+        for (int group = 0; group < size; group++) {
+            int slot = hashes[group] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = group + 1;
+        }
+    }
+
+    private static int hash(final byte[] source, final int from, final int to) {
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + source[i];
+        }
+        // spreads the high bits, because the slot is taken from the low bits
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean equals(final int group, final byte[] source, final int from, final int to) {
+        final int length = keyLengths[group];
+        if (length != to - from) {
+            return false;
+        }
+        final int offset = keyOffsets[group];
+        for (int i = 0; i < length; i++) {
+            if (keys[offset + i] != source[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void count(final int group, final long count) {
+        counts[group] += count;
+    }
+
+    /**
+     * Adds {@code unscaled * 10^-scale} to the sum of the group.
+     */
+    void add(final int group, final long value, final int scale) {
+        if (spilled != null && spilled[group] != null) {
+            spilled[group] = spilled[group].add(BigDecimal.valueOf(value, scale));
+            return;
+        }
+        try {
+            long sum = unscaled[group];
+            long addend = value;
+            if (scale > scales[group]) {
+                sum = Math.multiplyExact(sum, POWERS_OF_TEN[scale - scales[group]]);
+            } else if (scale < scales[group]) {
+                addend = Math.multiplyExact(addend, POWERS_OF_TEN[scales[group] - scale]);
+            }
+            unscaled[group] = Math.addExact(sum, addend);
+            scales[group] = Math.max(scale, scales[group]);
+        } catch (ArithmeticException e) {
+            spill(group, BigDecimal.valueOf(value, scale));
+        }
+    }
+
+    void add(final int group, final BigDecimal value) {
+        if (spilled != null && spilled[group] != null) {
+            spilled[group] = spilled[group].add(value);
+            return;
+        }
+        spill(group, value);
+    }
+
+    private void spill(final int group, final BigDecimal value) {
+        if (spilled == null) {
+            spilled = new BigDecimal[hashes.length];
+        }
+        spilled[group] = BigDecimal.valueOf(unscaled[group], scales[group]).add(value);
+    }
+
+    void add(final int group, final double value) {
+        sums[group] += value;
+    }
+
+    /**
+     * Adds the groups of the other table to this table, and returns this table. The groups new to this table are numbered after the groups of this table.
+     */
+    GroupTable merge(final GroupTable other) {
+        for (int i = 0; i < other.size; i++) {
+            final int group = group(other.keys, other.keyOffsets[i], other.keyOffsets[i] + other.keyLengths[i]);
+            count(group, other.counts[i]);
+            if (doubles) {
+                add(group, other.sums[i]);
+            } else if (other.spilled != null && other.spilled[i] != null) {
+                add(group, other.spilled[i]);
+            } else {
+                add(group, other.unscaled[i], other.scales[i]);
+            }
+        }
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String key(final int group, final Charset charset) {
+        return new String(keys, keyOffsets[group], keyLengths[group], charset);
+    }
+
+    long count(final int group) {
+        return counts[group];
+    }
+
+    BigDecimal sum(final int group) {
+        if (doubles) {
+            return BigDecimal.valueOf(sums[group]);
+        }
+        if (spilled != null && spilled[group] != null) {
+            return spilled[group];
+        }
+        return BigDecimal.valueOf(unscaled[group], scales[group]);
+    }
+}
@@ -0,0 +1,46 @@
+package fulltext.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * {@link ReadableByteChannel} over an {@link InputStream}. Unlike {@link java.nio.channels.Channels#newChannel(InputStream)}, it reads straight into the array of a heap buffer without an intermediate copy.
+ */
+final class InputStreamChannel implements ReadableByteChannel {
+    private final InputStream in;
+    private boolean open = true;
+
+    InputStreamChannel(final InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        if (!dst.hasArray()) {
+            final byte[] bytes = new byte[dst.remaining()];
+            final int read = in.read(bytes);
+            if (read > 0) {
+                dst.put(bytes, 0, read);
+            }
+            return read;
+        }
+        final int read = in.read(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+        if (read > 0) {
+            dst.position(dst.position() + read);
+        }
+        return read;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        open = false;
+        in.close();
+    }
+}
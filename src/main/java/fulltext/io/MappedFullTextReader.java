@@ -0,0 +1,88 @@
+package fulltext.io;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.exception.RuleViolationException;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordFilter;
+import fulltext.layout.RecordLayout;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Maps a full text file into memory and parses it in parallel.
+ * <p>
+ * Every record has the same length, {@link FullText#length()} plus the separator, so the byte offset of the N-th record is known without scanning. The file is split at record boundaries by {@link RecordSpliterator}, and the parts are parsed by the {@link java.util.concurrent.ForkJoinPool} that runs the parallel stream.
+ * <p>
+ * To use a pool other than the common pool, run the terminal operation of the stream inside {@link java.util.concurrent.ForkJoinPool#submit(java.util.concurrent.Callable)}.
+ */
+public final class MappedFullTextReader {
+    private MappedFullTextReader() {
+    }
+
+    /**
+     * Returns an ordered parallel stream of the records in the file. The records are written back to back without any separator.
+     *
+     * @param path  full text file
+     * @param clazz class to map each record
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return parallel {@link Stream}
+     * @throws UncheckedIOException   occurs when the file cannot be mapped.
+     * @throws RuleViolationException occurs when the file size is not a multiple of the record length.
+     */
+    public static <T> Stream<T> stream(final Path path, final Class<T> clazz) {
+        return stream(path, clazz, null, true);
+    }
+
+    /**
+     * Returns a parallel stream of the records in the file. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param path      full text file
+     * @param clazz     class to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param ordered   whether the stream keeps the order of the records in the file. an unordered stream is cheaper to collect.
+     * @param <T>       class in which {@link FullText} and {@link Field} are declared
+     * @return parallel {@link Stream}
+     * @throws UncheckedIOException   occurs when the file cannot be mapped.
+     * @throws RuleViolationException occurs when the file size is not a multiple of the record length.
+     */
+    public static <T> Stream<T> stream(final Path path, final Class<T> clazz, final String separator, final boolean ordered) {
+        return stream(path, FullTextLayout.of(clazz), separator, ordered);
+    }
+
+    /**
+     * Returns a parallel stream of the records in the file, mapped by the layout, such as a {@link fulltext.layout.DispatchLayout} of a header, data and a trailer. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param path      full text file
+     * @param layout    layout to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param ordered   whether the stream keeps the order of the records in the file. an unordered stream is cheaper to collect.
+     * @param <T>       type of the mapped records
+     * @return parallel {@link Stream}
+     * @throws UncheckedIOException   occurs when the file cannot be mapped.
+     * @throws RuleViolationException occurs when the file size is not a multiple of the record length.
+     */
+    public static <T> Stream<T> stream(final Path path, final RecordLayout<T> layout, final String separator, final boolean ordered) {
+        return stream(path, layout, separator, null, ordered);
+    }
+
+    /**
+     * Returns a parallel stream of the records in the file which pass the filter. Each raw record is tested first, and the records that do not pass it are not mapped.
+     *
+     * @param path      full text file
+     * @param layout    layout to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param filter    filter to test each raw record. null means every record.
+     * @param ordered   whether the stream keeps the order of the records in the file. an unordered stream is cheaper to collect.
+     * @param <T>       type of the mapped records
+     * @return parallel {@link Stream}
+     * @throws IllegalArgumentException occurs when the length of the filter is not the length of the layout.
+     * @throws UncheckedIOException     occurs when the file cannot be mapped.
+     * @throws RuleViolationException   occurs when the file size is not a multiple of the record length.
+     */
+    public static <T> Stream<T> stream(final Path path, final RecordLayout<T> layout, final String separator, final RecordFilter filter, final boolean ordered) {
+        final Stream<T> stream = RecordSpliterator.of(path, layout, separator, filter).stream(true);
+        return ordered ? stream : stream.unordered();
+    }
+}
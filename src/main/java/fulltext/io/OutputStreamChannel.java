@@ -0,0 +1,47 @@
+package fulltext.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@link WritableByteChannel} over an {@link OutputStream}. Unlike {@link java.nio.channels.Channels#newChannel(OutputStream)}, it writes straight from the array of a heap buffer without an intermediate copy.
+ */
+final class OutputStreamChannel implements WritableByteChannel {
+    private final OutputStream out;
+    private boolean open = true;
+
+    OutputStreamChannel(final OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) throws IOException {
+        final int length = src.remaining();
+        if (src.hasArray()) {
+            out.write(src.array(), src.arrayOffset() + src.position(), length);
+            src.position(src.limit());
+            return length;
+        }
+        final byte[] bytes = new byte[length];
+        src.get(bytes);
+        out.write(bytes);
+        return length;
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        open = false;
+        out.close();
+    }
+}
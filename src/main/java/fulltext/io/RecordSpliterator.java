@@ -0,0 +1,257 @@
+package fulltext.io;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.exception.RuleViolationException;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordFilter;
+import fulltext.layout.RecordLayout;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Spliterator} over the full text records in a byte buffer or a file.
+ * <p>
+ * Every record has the same length, {@link FullText#length()} plus the separator, so {@link #trySplit()} cuts the remaining records exactly in half at a record boundary. It reports {@link #SIZED} and {@link #SUBSIZED}, and a parallel stream gets balanced splits without scanning the data.
+ * <p>
+ * Records are parsed with byte-accurate lengths, like {@link fulltext.FullTextMapper#readValue(byte[], Class)}. A heap buffer is parsed in place, and a direct or mapped buffer is copied one record at a time into a buffer owned by each spliterator.
+ * <p>
+ * With a {@link RecordFilter}, each raw record is tested first, and only the records that pass it are mapped. The number of records that pass is not known in advance, so the spliterator no longer reports {@link #SIZED} and {@link #SUBSIZED}, but it still splits at record boundaries.
+ *
+ * @param <T> class in which {@link FullText} and {@link Field} are declared, or the type of the records mapped by a {@link RecordLayout}
+ */
+public final class RecordSpliterator<T> implements Spliterator<T> {
+    private final RecordLayout<T> layout;
+    private final RecordFilter filter;
+    private final Frames frames;
+    private final byte[] separator;
+    private SegmentReader reader;
+    private byte[] record;
+    private long index;
+    private final long fence;
+
+    private RecordSpliterator(final RecordLayout<T> layout, final RecordFilter filter, final Frames frames, final byte[] separator, final long index, final long fence) {
+        this.layout = layout;
+        this.filter = filter;
+        this.frames = frames;
+        this.separator = separator;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Returns a spliterator over the records between the position and the limit of the buffer. The records are written back to back without any separator.
+     *
+     * @param buffer full text. it may be a heap, direct or mapped buffer. the position of the buffer is not changed.
+     * @param clazz  class to map each record
+     * @param <T>    class in which {@link FullText} and {@link Field} are declared
+     * @return {@link RecordSpliterator}
+     * @throws RuleViolationException occurs when the size of the buffer is not a multiple of the record length.
+     */
+    public static <T> RecordSpliterator<T> of(final ByteBuffer buffer, final Class<T> clazz) {
+        return of(buffer, clazz, null);
+    }
+
+    /**
+     * Returns a spliterator over the records between the position and the limit of the buffer. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param buffer    full text. it may be a heap, direct or mapped buffer. the position of the buffer is not changed.
+     * @param clazz     class to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param <T>       class in which {@link FullText} and {@link Field} are declared
+     * @return {@link RecordSpliterator}
+     * @throws RuleViolationException occurs when the size of the buffer is not a multiple of the record length.
+     */
+    public static <T> RecordSpliterator<T> of(final ByteBuffer buffer, final Class<T> clazz, final String separator) {
+        return of(buffer, FullTextLayout.of(clazz), separator);
+    }
+
+    /**
+     * Returns a spliterator over the records between the position and the limit of the buffer, mapped by the layout, such as a {@link fulltext.layout.DispatchLayout} of a header, data and a trailer. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param buffer    full text. it may be a heap, direct or mapped buffer. the position of the buffer is not changed.
+     * @param layout    layout to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param <T>       type of the mapped records
+     * @return {@link RecordSpliterator}
+     * @throws RuleViolationException occurs when the size of the buffer is not a multiple of the record length.
+     */
+    public static <T> RecordSpliterator<T> of(final ByteBuffer buffer, final RecordLayout<T> layout, final String separator) {
+        return of(buffer, layout, separator, null);
+    }
+
+    /**
+     * Returns a spliterator over the records between the position and the limit of the buffer which pass the filter. The records that do not pass it are not mapped. Each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param buffer    full text. it may be a heap, direct or mapped buffer. the position of the buffer is not changed.
+     * @param layout    layout to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param filter    filter to test each raw record. null means every record.
+     * @param <T>       type of the mapped records
+     * @return {@link RecordSpliterator}
+     * @throws IllegalArgumentException occurs when the length of the filter is not the length of the layout.
+     * @throws RuleViolationException   occurs when the size of the buffer is not a multiple of the record length.
+     */
+    public static <T> RecordSpliterator<T> of(final ByteBuffer buffer, final RecordLayout<T> layout, final String separator, final RecordFilter filter) {
+        Objects.requireNonNull(buffer, "ByteBuffer must not be null.");
+        Objects.requireNonNull(layout, "Layout must not be null.");
+        checkFilter(layout, filter);
+        final byte[] separatorBytes = separatorBytes(layout, separator);
+        final Frames frames = Frames.of(buffer, layout.getLength(), separatorBytes.length);
+        return new RecordSpliterator<>(layout, filter, frames, separatorBytes, 0, frames.count());
+    }
+
+    /**
+     * Returns a spliterator over the records in the file. The file is mapped into memory, and each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param path      full text file
+     * @param clazz     class to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param <T>       class in which {@link FullText} and {@link Field} are declared
+     * @return {@link RecordSpliterator}
+     * @throws java.io.UncheckedIOException occurs when the file cannot be mapped.
+     * @throws RuleViolationException       occurs when the file size is not a multiple of the record length.
+     */
+    public static <T> RecordSpliterator<T> of(final Path path, final Class<T> clazz, final String separator) {
+        return of(path, FullTextLayout.of(clazz), separator);
+    }
+
+    /**
+     * Returns a spliterator over the records in the file, mapped by the layout, such as a {@link fulltext.layout.DispatchLayout} of a header, data and a trailer. The file is mapped into memory, and each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param path      full text file
+     * @param layout    layout to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param <T>       type of the mapped records
+     * @return {@link RecordSpliterator}
+     * @throws java.io.UncheckedIOException occurs when the file cannot be mapped.
+     * @throws RuleViolationException       occurs when the file size is not a multiple of the record length.
+     */
+    public static <T> RecordSpliterator<T> of(final Path path, final RecordLayout<T> layout, final String separator) {
+        return of(path, layout, separator, null);
+    }
+
+    /**
+     * Returns a spliterator over the records in the file which pass the filter. The records that do not pass it are not mapped. The file is mapped into memory, and each record is followed by the separator, except that the separator after the last record may be omitted.
+     *
+     * @param path      full text file
+     * @param layout    layout to map each record
+     * @param separator separator between records, such as "\n" or "\r\n". null means no separator.
+     * @param filter    filter to test each raw record. null means every record.
+     * @param <T>       type of the mapped records
+     * @return {@link RecordSpliterator}
+     * @throws IllegalArgumentException     occurs when the length of the filter is not the length of the layout.
+     * @throws java.io.UncheckedIOException occurs when the file cannot be mapped.
+     * @throws RuleViolationException       occurs when the file size is not a multiple of the record length.
+     */
+    public static <T> RecordSpliterator<T> of(final Path path, final RecordLayout<T> layout, final String separator, final RecordFilter filter) {
+        Objects.requireNonNull(path, "Path must not be null.");
+        Objects.requireNonNull(layout, "Layout must not be null.");
+        checkFilter(layout, filter);
+        final byte[] separatorBytes = separatorBytes(layout, separator);
+        final Frames frames = Frames.map(path, layout.getLength(), separatorBytes.length);
+        return new RecordSpliterator<>(layout, filter, frames, separatorBytes, 0, frames.count());
+    }
+
+    static void checkFilter(final RecordLayout<?> layout, final RecordFilter filter) {
+        if (filter != null && filter.getLength() != layout.getLength()) {
+            throw new IllegalArgumentException("The filter and the layout must have the same @FullText length. filter: " + filter.getLength() + ", layout: " + layout.getLength());
+        }
+    }
+
+    static byte[] separatorBytes(final RecordLayout<?> layout, final String separator) {
+        return separator == null ? new byte[0] : separator.getBytes(layout.getCharset());
+    }
+
+    /**
+     * Returns a stream of the remaining records.
+     *
+     * @param parallel whether the stream is parallel
+     * @return {@link Stream}
+     */
+    public Stream<T> stream(final boolean parallel) {
+        return StreamSupport.stream(this, parallel);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        while (index < fence) {
+            if (read(index++, action)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        final long end = fence;
+        for (long i = index; i < end; i++) {
+            index = i + 1;
+            read(i, action);
+        }
+    }
+
+    // maps the record and passes it to the action, unless the filter rejects it
+    private boolean read(final long i, final Consumer<? super T> action) {
+        final ByteBuffer segment = frames.segment(i);
+        final int position = frames.position(i);
+        final int recordLength = layout.getLength();
+
+        final byte[] source;
+        final int start;
+        if (segment.hasArray()) {
+            source = segment.array();
+            start = segment.arrayOffset() + position;
+        } else {
+            if (record == null || layout.retainsSource()) {
+                // a layout which keeps its source gets a new array for each record, rather than the reused one
+                if (reader == null) {
+                    reader = new SegmentReader(frames);
+                }
+                record = new byte[recordLength];
+            }
+            reader.read(i, record, recordLength);
+            source = record;
+            start = 0;
+        }
+        final boolean accepted = filter == null || filter.test(source, start, start + recordLength);
+        final T instance = accepted ? layout.read(source, start, start + recordLength) : null;
+        Frames.checkSeparator(segment, position + recordLength, separator, recordLength);
+        if (accepted) {
+            action.accept(instance);
+        }
+        return accepted;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final long mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        final RecordSpliterator<T> prefix = new RecordSpliterator<>(layout, filter, frames, separator, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    /**
+     * Returns the number of the remaining records. With a filter, it is the upper bound of the records that pass it.
+     */
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return filter == null ? ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE : ORDERED | NONNULL | IMMUTABLE;
+    }
+}
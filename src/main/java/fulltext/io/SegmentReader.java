@@ -0,0 +1,35 @@
+package fulltext.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Copies records out of the segments of {@link Frames} that have no accessible array, such as memory-mapped buffers. This is the implementation for Java 8, which keeps a duplicate of each segment to move its position without affecting other readers. The multi-release jar replaces it with one that uses the absolute bulk get of Java 13 and later.
+ * <p>
+ * An instance belongs to one reader and is not thread safe.
+ */
+final class SegmentReader {
+    private final Frames frames;
+    private final ByteBuffer[] views;
+
+    SegmentReader(final Frames frames) {
+        this.frames = frames;
+        this.views = new ByteBuffer[frames.segments()];
+    }
+
+    /**
+     * Copies {@code length} bytes of the frame into the array.
+     *
+     * @param index  index of the frame
+     * @param dst    array to copy into
+     * @param length number of bytes to copy from the beginning of the frame
+     */
+    void read(final long index, final byte[] dst, final int length) {
+        final int segmentIndex = frames.segmentIndex(index);
+        if (views[segmentIndex] == null) {
+            views[segmentIndex] = frames.segment(index).duplicate();
+        }
+        final ByteBuffer view = views[segmentIndex];
+        view.position(frames.position(index));
+        view.get(dst, 0, length);
+    }
+}
@@ -0,0 +1,294 @@
+package fulltext.layout;
+
+import fulltext.annotation.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Parses and prints dates of one pattern. The {@link DateTimeFormatter} of each pattern is compiled only once and shared.
+ * <p>
+ * The default patterns of {@link Field#localDateFormat()} and {@link Field#localDateTimeFormat()}, yyyyMMdd and yyyyMMddHHmmss, are parsed and printed digit by digit without the {@link DateTimeFormatter}. Whatever the fast path cannot handle, such as a non-digit or an invalid date, is passed to the {@link DateTimeFormatter}, so the result and the exception are the same as {@link LocalDate#parse(CharSequence, DateTimeFormatter)}.
+ * <p>
+ * This class is immutable and thread safe.
+ */
+public final class DateCodec {
+    private static final String BASIC_DATE = "yyyyMMdd";
+    private static final String BASIC_DATE_TIME = "yyyyMMddHHmmss";
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
+    private static final ConcurrentMap<String, DateCodec> CACHE = new ConcurrentHashMap<>();
+
+    private final String pattern;
+    private final DateTimeFormatter formatter;
+    private final int fixedLength;
+
+    private DateCodec(final String pattern) {
+        this.pattern = pattern;
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
+        if (BASIC_DATE.equals(pattern)) {
+            this.fixedLength = BASIC_DATE.length();
+        } else if (BASIC_DATE_TIME.equals(pattern)) {
+            this.fixedLength = BASIC_DATE_TIME.length();
+        } else {
+            this.fixedLength = -1;
+        }
+    }
+
+    /**
+     * Returns the codec of the pattern. The same instance is returned for the same pattern.
+     *
+     * @param pattern pattern of {@link DateTimeFormatter}
+     * @return {@link DateCodec}
+     * @throws IllegalArgumentException occurs when the pattern is invalid.
+     */
+    public static DateCodec of(final String pattern) {
+        final DateCodec codec = CACHE.get(pattern);
+        if (codec != null) {
+            return codec;
+        }
+        return CACHE.computeIfAbsent(pattern, DateCodec::new);
+    }
+
+    /**
+     * Parses the range of the source into a {@link LocalDate}.
+     *
+     * @param source characters to parse
+     * @param from   index of the first character (inclusive)
+     * @param to     index of the last character (exclusive)
+     * @return {@link LocalDate}
+     * @throws java.time.format.DateTimeParseException occurs when the range does not match the pattern.
+     */
+    public LocalDate parseLocalDate(final CharSequence source, final int from, final int to) {
+        if (fixedLength == BASIC_DATE.length() && to - from == fixedLength) {
+            final int year = digits(source, from, 4);
+            final int month = digits(source, from + 4, 2);
+            final int day = digits(source, from + 6, 2);
+            final LocalDate date = toLocalDate(year, month, day);
+            if (date != null) {
+                return date;
+            }
+        }
+        return LocalDate.parse(source.subSequence(from, to), formatter);
+    }
+
+    /**
+     * Parses the range of the source into a {@link LocalDate}. The date consists of ASCII characters, so the range may be of any ASCII compatible encoding.
+     *
+     * @param source bytes to parse
+     * @param from   index of the first byte (inclusive)
+     * @param to     index of the last byte (exclusive)
+     * @return {@link LocalDate}
+     * @throws java.time.format.DateTimeParseException occurs when the range does not match the pattern.
+     */
+    public LocalDate parseLocalDate(final byte[] source, final int from, final int to) {
+        if (fixedLength == BASIC_DATE.length() && to - from == fixedLength) {
+            final int yyyyMMdd = EightDigits.parse(source, from);
+            final LocalDate date = yyyyMMdd < 0 ? null : toLocalDate(yyyyMMdd / 10000, yyyyMMdd / 100 % 100, yyyyMMdd % 100);
+            if (date != null) {
+                return date;
+            }
+        }
+        return LocalDate.parse(new String(source, from, to - from, StandardCharsets.ISO_8859_1), formatter);
+    }
+
+    /**
+     * Parses the range of the source into a {@link LocalDateTime}.
+     *
+     * @param source characters to parse
+     * @param from   index of the first character (inclusive)
+     * @param to     index of the last character (exclusive)
+     * @return {@link LocalDateTime}
+     * @throws java.time.format.DateTimeParseException occurs when the range does not match the pattern.
+     */
+    public LocalDateTime parseLocalDateTime(final CharSequence source, final int from, final int to) {
+        if (fixedLength == BASIC_DATE_TIME.length() && to - from == fixedLength) {
+            final LocalDateTime dateTime = toLocalDateTime(
+                digits(source, from, 4), digits(source, from + 4, 2), digits(source, from + 6, 2),
+                digits(source, from + 8, 2), digits(source, from + 10, 2), digits(source, from + 12, 2)
+            );
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+        return LocalDateTime.parse(source.subSequence(from, to), formatter);
+    }
+
+    /**
+     * Parses the range of the source into a {@link LocalDateTime}. The date consists of ASCII characters, so the range may be of any ASCII compatible encoding.
+     *
+     * @param source bytes to parse
+     * @param from   index of the first byte (inclusive)
+     * @param to     index of the last byte (exclusive)
+     * @return {@link LocalDateTime}
+     * @throws java.time.format.DateTimeParseException occurs when the range does not match the pattern.
+     */
+    public LocalDateTime parseLocalDateTime(final byte[] source, final int from, final int to) {
+        if (fixedLength == BASIC_DATE_TIME.length() && to - from == fixedLength) {
+            final int yyyyMMdd = EightDigits.parse(source, from);
+            final LocalDateTime dateTime = yyyyMMdd < 0 ? null : toLocalDateTime(
+                yyyyMMdd / 10000, yyyyMMdd / 100 % 100, yyyyMMdd % 100,
+                digits(source, from + 8, 2), digits(source, from + 10, 2), digits(source, from + 12, 2)
+            );
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+        return LocalDateTime.parse(new String(source, from, to - from, StandardCharsets.ISO_8859_1), formatter);
+    }
+
+    /**
+     * Returns the number of characters that {@link #write(TemporalAccessor, char[], int)} prints for the value.
+     *
+     * @param value date to print
+     * @return the number of characters. -1 if the value can only be printed by {@link #format(TemporalAccessor)}.
+     */
+    public int length(final TemporalAccessor value) {
+        if (fixedLength == BASIC_DATE.length() && value instanceof LocalDate) {
+            return inRange(((LocalDate) value).getYear()) ? fixedLength : -1;
+        }
+        if (fixedLength == BASIC_DATE_TIME.length() && value instanceof LocalDateTime) {
+            return inRange(((LocalDateTime) value).getYear()) ? fixedLength : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Prints the value digit by digit from {@code start}. {@link #length(TemporalAccessor)} must not be -1.
+     *
+     * @param value date to print
+     * @param dst   array to write
+     * @param start index of the first character
+     */
+    public void write(final TemporalAccessor value, final char[] dst, final int start) {
+        if (value instanceof LocalDateTime) {
+            final LocalDateTime dateTime = (LocalDateTime) value;
+            writeDate(dateTime.toLocalDate(), dst, start);
+            writeDigits(dateTime.getHour(), 2, dst, start + 8);
+            writeDigits(dateTime.getMinute(), 2, dst, start + 10);
+            writeDigits(dateTime.getSecond(), 2, dst, start + 12);
+            return;
+        }
+        writeDate((LocalDate) value, dst, start);
+    }
+
+    /**
+     * Prints the value digit by digit from {@code start}. {@link #length(TemporalAccessor)} must not be -1. The position of the buffer is not changed.
+     *
+     * @param value date to print
+     * @param dst   buffer to write
+     * @param start index of the first byte
+     */
+    public void write(final TemporalAccessor value, final ByteBuffer dst, final int start) {
+        if (value instanceof LocalDateTime) {
+            final LocalDateTime dateTime = (LocalDateTime) value;
+            writeDate(dateTime.toLocalDate(), dst, start);
+            writeDigits(dateTime.getHour(), 2, dst, start + 8);
+            writeDigits(dateTime.getMinute(), 2, dst, start + 10);
+            writeDigits(dateTime.getSecond(), 2, dst, start + 12);
+            return;
+        }
+        writeDate((LocalDate) value, dst, start);
+    }
+
+    /**
+     * Prints the value with the {@link DateTimeFormatter}.
+     *
+     * @param value date to print
+     * @return printed date
+     */
+    public String format(final TemporalAccessor value) {
+        return formatter.format(value);
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    private static boolean inRange(final int year) {
+        return year >= MIN_YEAR && year <= MAX_YEAR;
+    }
+
+    // returns null to fall back on the formatter, which resolves or rejects the value in its own way
+    private static LocalDate toLocalDate(final int year, final int month, final int day) {
+        if (year < MIN_YEAR || month < 0 || day < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(final int year, final int month, final int day, final int hour, final int minute, final int second) {
+        final LocalDate date = toLocalDate(year, month, day);
+        if (date == null || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return date.atTime(hour, minute, second);
+    }
+
+    // returns -1 if any of the characters is not a digit
+    private static int digits(final CharSequence source, final int from, final int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            final int digit = source.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int digits(final byte[] source, final int from, final int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            final int digit = source[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void writeDate(final LocalDate date, final char[] dst, final int start) {
+        writeDigits(date.getYear(), 4, dst, start);
+        writeDigits(date.getMonthValue(), 2, dst, start + 4);
+        writeDigits(date.getDayOfMonth(), 2, dst, start + 6);
+    }
+
+    private static void writeDate(final LocalDate date, final ByteBuffer dst, final int start) {
+        writeDigits(date.getYear(), 4, dst, start);
+        writeDigits(date.getMonthValue(), 2, dst, start + 4);
+        writeDigits(date.getDayOfMonth(), 2, dst, start + 6);
+    }
+
+    private static void writeDigits(final int value, final int count, final char[] dst, final int start) {
+        int rest = value;
+        for (int i = start + count - 1; i >= start; i--) {
+            dst[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+    }
+
+    private static void writeDigits(final int value, final int count, final ByteBuffer dst, final int start) {
+        int rest = value;
+        for (int i = start + count - 1; i >= start; i--) {
+            dst.put(i, (byte) ('0' + rest % 10));
+            rest /= 10;
+        }
+    }
+}
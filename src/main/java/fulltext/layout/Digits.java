@@ -0,0 +1,318 @@
+package fulltext.layout;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+/**
+ * Formats numbers straight into a char array or a byte buffer, and parses numbers straight from a window of chars or bytes, without creating a String. The output is the same as {@link Long#toString(long)} and {@link BigDecimal#toString()}.
+ * <p>
+ * The parsers accept only an optional sign followed by ASCII digits, and for BigDecimal a single decimal point. Anything else, such as an exponent, throws {@link NumberFormatException}, so that the caller can fall back on the parsers of the JDK.
+ */
+public final class Digits {
+    private static final int MAX_LONG_PRECISION = 18;
+    private static final long MIN_BEFORE_EIGHT_DIGITS = (Long.MIN_VALUE + 99_999_999) / 100_000_000;
+
+    private Digits() {
+    }
+
+    /**
+     * Returns the number of characters of the value, including the minus sign.
+     *
+     * @param value number to format
+     * @return the number of characters
+     */
+    public static int length(final long value) {
+        int length = value < 0 ? 2 : 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Writes the value so that its last digit is placed right before {@code end}.
+     *
+     * @param value number to format
+     * @param dst   array to write
+     * @param end   index after the last digit (exclusive)
+     */
+    public static void write(final long value, final char[] dst, final int end) {
+        int index = end;
+        long rest = value;
+        do {
+            dst[--index] = (char) ('0' + Math.abs(rest % 10));
+            rest /= 10;
+        } while (rest != 0);
+        if (value < 0) {
+            dst[--index] = '-';
+        }
+    }
+
+    /**
+     * Writes the value so that its last digit is placed right before {@code end}. The position of the buffer is not changed.
+     *
+     * @param value number to format
+     * @param dst   buffer to write
+     * @param end   index after the last digit (exclusive)
+     */
+    public static void write(final long value, final ByteBuffer dst, final int end) {
+        int index = end;
+        long rest = value;
+        do {
+            dst.put(--index, (byte) ('0' + Math.abs(rest % 10)));
+            rest /= 10;
+        } while (rest != 0);
+        if (value < 0) {
+            dst.put(--index, (byte) '-');
+        }
+    }
+
+    /**
+     * Returns the number of characters of the value, if it can be formatted directly. A value that {@link BigDecimal#toString()} prints in scientific notation, or whose unscaled value does not fit in a long, can not.
+     *
+     * @param value number to format
+     * @return the number of characters. -1 if the value can not be formatted directly.
+     */
+    public static int length(final BigDecimal value) {
+        final int scale = value.scale();
+        final int precision = value.precision();
+        if (scale < 0 || precision > MAX_LONG_PRECISION || precision - 1 - scale < -6) {
+            return -1;
+        }
+        if (scale == 0) {
+            return length(value.longValue());
+        }
+        final int sign = value.signum() < 0 ? 1 : 0;
+        return sign + Math.max(precision, scale + 1) + 1;
+    }
+
+    /**
+     * Writes the value from {@code start}. {@link #length(BigDecimal)} must not be -1.
+     *
+     * @param value  number to format
+     * @param dst    array to write
+     * @param start  index of the first character
+     * @param length result of {@link #length(BigDecimal)}
+     */
+    public static void write(final BigDecimal value, final char[] dst, final int start, final int length) {
+        final int scale = value.scale();
+        if (scale == 0) {
+            write(value.longValue(), dst, start + length);
+            return;
+        }
+
+        long rest = Math.abs(value.unscaledValue().longValue());
+        final int pointIndex = start + length - scale - 1;
+        for (int index = start + length - 1; index > pointIndex; index--) {
+            dst[index] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        dst[pointIndex] = '.';
+        final int first = value.signum() < 0 ? start + 1 : start;
+        for (int index = pointIndex - 1; index >= first; index--) {
+            dst[index] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        if (first != start) {
+            dst[start] = '-';
+        }
+    }
+
+    /**
+     * Writes the value from {@code start}. {@link #length(BigDecimal)} must not be -1. The position of the buffer is not changed.
+     *
+     * @param value  number to format
+     * @param dst    buffer to write
+     * @param start  index of the first character
+     * @param length result of {@link #length(BigDecimal)}
+     */
+    public static void write(final BigDecimal value, final ByteBuffer dst, final int start, final int length) {
+        final int scale = value.scale();
+        if (scale == 0) {
+            write(value.longValue(), dst, start + length);
+            return;
+        }
+
+        long rest = Math.abs(value.unscaledValue().longValue());
+        final int pointIndex = start + length - scale - 1;
+        for (int index = start + length - 1; index > pointIndex; index--) {
+            dst.put(index, (byte) ('0' + rest % 10));
+            rest /= 10;
+        }
+        dst.put(pointIndex, (byte) '.');
+        final int first = value.signum() < 0 ? start + 1 : start;
+        for (int index = pointIndex - 1; index >= first; index--) {
+            dst.put(index, (byte) ('0' + rest % 10));
+            rest /= 10;
+        }
+        if (first != start) {
+            dst.put(start, (byte) '-');
+        }
+    }
+
+    /**
+     * Parses the window as an int.
+     *
+     * @param source characters to parse
+     * @param from   index of the first character (inclusive)
+     * @param to     index of the last character (exclusive)
+     * @return parsed value
+     * @throws NumberFormatException occurs when the window is not a number, or the number does not fit in an int. the exception has no message.
+     */
+    public static int parseInt(final CharSequence source, final int from, final int to) {
+        return toInt(parseLong(source, from, to));
+    }
+
+    /**
+     * Parses the window as an int. The digits are ASCII, so the window may be of any ASCII compatible encoding.
+     *
+     * @param source bytes to parse
+     * @param from   index of the first byte (inclusive)
+     * @param to     index of the last byte (exclusive)
+     * @return parsed value
+     * @throws NumberFormatException occurs when the window is not a number, or the number does not fit in an int. the exception has no message.
+     */
+    public static int parseInt(final byte[] source, final int from, final int to) {
+        return toInt(parseLong(source, from, to));
+    }
+
+    /**
+     * Parses the window as a long.
+     *
+     * @param source characters to parse
+     * @param from   index of the first character (inclusive)
+     * @param to     index of the last character (exclusive)
+     * @return parsed value
+     * @throws NumberFormatException occurs when the window is not a number, or the number does not fit in a long. the exception has no message.
+     */
+    public static long parseLong(final CharSequence source, final int from, final int to) {
+        final boolean negative = from < to && source.charAt(from) == '-';
+        int index = from < to && (negative || source.charAt(from) == '+') ? from + 1 : from;
+        if (index == to) {
+            throw new NumberFormatException();
+        }
+        // accumulates negatively, so that Long.MIN_VALUE can be parsed
+        long value = 0;
+        for (; index < to; index++) {
+            value = accumulate(value, source.charAt(index));
+        }
+        return negate(value, negative);
+    }
+
+    /**
+     * Parses the window as a long. The digits are ASCII, so the window may be of any ASCII compatible encoding.
+     *
+     * @param source bytes to parse
+     * @param from   index of the first byte (inclusive)
+     * @param to     index of the last byte (exclusive)
+     * @return parsed value
+     * @throws NumberFormatException occurs when the window is not a number, or the number does not fit in a long. the exception has no message.
+     */
+    public static long parseLong(final byte[] source, final int from, final int to) {
+        final boolean negative = from < to && source[from] == '-';
+        int index = from < to && (negative || source[from] == '+') ? from + 1 : from;
+        if (index == to) {
+            throw new NumberFormatException();
+        }
+        long value = 0;
+        // eight digits at a time while the value can not overflow. the rest, including anything malformed, goes through the loop below.
+        while (to - index >= 8 && value >= MIN_BEFORE_EIGHT_DIGITS) {
+            final int eight = EightDigits.parse(source, index);
+            if (eight < 0) {
+                break;
+            }
+            value = value * 100_000_000 - eight;
+            index += 8;
+        }
+        for (; index < to; index++) {
+            value = accumulate(value, (char) source[index]);
+        }
+        return negate(value, negative);
+    }
+
+    /**
+     * Parses the window as a BigDecimal whose unscaled value has at most 18 digits. The BigDecimal is built from the unscaled long, with the same scale as {@link BigDecimal#BigDecimal(String)}.
+     *
+     * @param source characters to parse
+     * @param from   index of the first character (inclusive)
+     * @param to     index of the last character (exclusive)
+     * @return parsed value
+     * @throws NumberFormatException occurs when the window is not a plain decimal number, or has more than 18 digits. the exception has no message.
+     */
+    public static BigDecimal parseDecimal(final CharSequence source, final int from, final int to) {
+        final boolean negative = from < to && source.charAt(from) == '-';
+        int index = from < to && (negative || source.charAt(from) == '+') ? from + 1 : from;
+        long unscaled = 0;
+        int digits = 0;
+        int pointIndex = -1;
+        for (; index < to; index++) {
+            final char c = source.charAt(index);
+            if (c == '.' && pointIndex < 0) {
+                pointIndex = index;
+                continue;
+            }
+            unscaled = accumulate(unscaled, c);
+            digits++;
+        }
+        return toDecimal(unscaled, digits, pointIndex < 0 ? 0 : to - pointIndex - 1, negative);
+    }
+
+    /**
+     * Parses the window as a BigDecimal whose unscaled value has at most 18 digits. The digits are ASCII, so the window may be of any ASCII compatible encoding.
+     *
+     * @param source bytes to parse
+     * @param from   index of the first byte (inclusive)
+     * @param to     index of the last byte (exclusive)
+     * @return parsed value
+     * @throws NumberFormatException occurs when the window is not a plain decimal number, or has more than 18 digits. the exception has no message.
+     */
+    public static BigDecimal parseDecimal(final byte[] source, final int from, final int to) {
+        final boolean negative = from < to && source[from] == '-';
+        int index = from < to && (negative || source[from] == '+') ? from + 1 : from;
+        long unscaled = 0;
+        int digits = 0;
+        int pointIndex = -1;
+        for (; index < to; index++) {
+            final char c = (char) source[index];
+            if (c == '.' && pointIndex < 0) {
+                pointIndex = index;
+                continue;
+            }
+            unscaled = accumulate(unscaled, c);
+            digits++;
+        }
+        return toDecimal(unscaled, digits, pointIndex < 0 ? 0 : to - pointIndex - 1, negative);
+    }
+
+    private static long accumulate(final long value, final char c) {
+        final int digit = c - '0';
+        if (digit < 0 || digit > 9 || value < (Long.MIN_VALUE + digit) / 10) {
+            throw new NumberFormatException();
+        }
+        return value * 10 - digit;
+    }
+
+    private static long negate(final long value, final boolean negative) {
+        if (negative) {
+            return value;
+        }
+        if (value == Long.MIN_VALUE) {
+            throw new NumberFormatException();
+        }
+        return -value;
+    }
+
+    private static int toInt(final long value) {
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException();
+        }
+        return (int) value;
+    }
+
+    private static BigDecimal toDecimal(final long unscaled, final int digits, final int scale, final boolean negative) {
+        if (digits == 0 || digits > MAX_LONG_PRECISION) {
+            throw new NumberFormatException();
+        }
+        return BigDecimal.valueOf(negative ? unscaled : -unscaled, scale);
+    }
+}
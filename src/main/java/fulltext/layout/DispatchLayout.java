@@ -0,0 +1,290 @@
+package fulltext.layout;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.exception.RuleViolationException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Layout of a full text in which records of several classes are mixed, such as a header, data and a trailer. Each record is mapped to the class registered for its discriminator, the value at a fixed offset of the record.
+ * <p>
+ * The registered classes are compiled when the layout is built, and lookup tables indexed by the first byte and the first char of the discriminator are precomputed. So dispatching a record costs one array access and a comparison of the rest of the discriminator.
+ * <p>
+ * Every registered class must have the same {@link FullText#length()} and {@link FullText#encoding()}, so that records are still located without scanning, by {@link fulltext.io.FullTextReader} and {@link fulltext.io.RecordSpliterator}.
+ * <p>
+ * This class is immutable and thread safe.
+ *
+ * @param <T> common supertype of the registered classes
+ */
+public final class DispatchLayout<T> implements RecordLayout<T> {
+    private static final int TABLE_SIZE = 256;
+
+    private final int offset;
+    private final int length;
+    private final Charset charset;
+    // every entry of the tables is an Entry<? extends T>. they are arrays of wildcard entries, because an array of a generic type can not be created.
+    private final Entry<?>[][] byteTable;
+    private final Entry<?>[][] charTable;
+    private final Map<String, FullTextLayout<? extends T>> layouts;
+
+    private DispatchLayout(final int offset, final int length, final Charset charset, final Entry<?>[][] byteTable, final Entry<?>[][] charTable,
+        final Map<String, FullTextLayout<? extends T>> layouts) {
+        this.offset = offset;
+        this.length = length;
+        this.charset = charset;
+        this.byteTable = byteTable;
+        this.charTable = charTable;
+        this.layouts = layouts;
+    }
+
+    /**
+     * Returns a builder of a layout whose discriminator starts at the offset of each record.
+     *
+     * @param type   common supertype of the classes to register, such as Object
+     * @param offset index of a record where the discriminator begins. it counts bytes in a byte array and chars in a CharSequence, like {@link Field#length()}.
+     * @param <T>    common supertype of the classes to register
+     * @return {@link Builder}
+     * @throws IllegalArgumentException occurs when the offset is negative.
+     */
+    public static <T> Builder<T> builder(final Class<T> type, final int offset) {
+        Objects.requireNonNull(type, "Class is must not be null.");
+        if (offset < 0) {
+            throw new IllegalArgumentException("The offset of the discriminator must not be negative. offset: " + offset);
+        }
+        return new Builder<>(offset);
+    }
+
+    /**
+     * Maps the record to the class registered for its discriminator.
+     *
+     * @throws RuleViolationException occurs when no class is registered for the discriminator, or the record does not match the class.
+     */
+    @Override
+    public T read(final CharSequence source, final int start, final int end) {
+        return find(source, start, end).layout.read(source, start, end);
+    }
+
+    /**
+     * Maps the record to the class registered for its discriminator. The discriminator is compared byte by byte, without decoding.
+     *
+     * @throws RuleViolationException occurs when no class is registered for the discriminator, or the record does not match the class.
+     */
+    @Override
+    public T read(final byte[] source, final int start, final int end) {
+        return find(source, start, end).layout.read(source, start, end);
+    }
+
+    /**
+     * Returns the compiled layout of the class that the record is mapped to.
+     *
+     * @param source full text
+     * @param start  index of the byte array where the record begins
+     * @param end    index of the byte array where the record ends (exclusive)
+     * @return {@link FullTextLayout}
+     * @throws RuleViolationException occurs when no class is registered for the discriminator.
+     */
+    public FullTextLayout<? extends T> layoutOf(final byte[] source, final int start, final int end) {
+        return find(source, start, end).layout;
+    }
+
+    private Entry<? extends T> find(final CharSequence source, final int start, final int end) {
+        final int from = start + offset;
+        if (from < end) {
+            final Entry<?>[] bucket = charTable[source.charAt(from) & (TABLE_SIZE - 1)];
+            if (bucket != null) {
+                for (Entry<?> entry : bucket) {
+                    if (entry.matches(source, from, end)) {
+                        return cast(entry);
+                    }
+                }
+            }
+        }
+        throw noLayout(source.subSequence(Math.min(from, end), end).toString());
+    }
+
+    private Entry<? extends T> find(final byte[] source, final int start, final int end) {
+        final int from = start + offset;
+        if (from < end) {
+            final Entry<?>[] bucket = byteTable[source[from] & (TABLE_SIZE - 1)];
+            if (bucket != null) {
+                for (Entry<?> entry : bucket) {
+                    if (entry.matches(source, from, end)) {
+                        return cast(entry);
+                    }
+                }
+            }
+        }
+        throw noLayout(new String(source, Math.min(from, end), end - Math.min(from, end), charset));
+    }
+
+    // the tables are built only from the layouts registered for T
+    @SuppressWarnings("unchecked")
+    private Entry<? extends T> cast(final Entry<?> entry) {
+        return (Entry<? extends T>) entry;
+    }
+
+    private RuleViolationException noLayout(final String rest) {
+        return new RuleViolationException("No class is registered for the discriminator at offset " + offset + ". registered: " + layouts.keySet() + ", current data: " + rest);
+    }
+
+    /**
+     * Returns the compiled layouts by their discriminators, in registration order.
+     *
+     * @return unmodifiable map of discriminator to {@link FullTextLayout}
+     */
+    public Map<String, FullTextLayout<? extends T>> getLayouts() {
+        return layouts;
+    }
+
+    /**
+     * Returns the index of a record where the discriminator begins.
+     *
+     * @return offset of the discriminator
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public Charset getCharset() {
+        return charset;
+    }
+
+    // a discriminator and the layout registered for it. the first byte is already matched by the byte table, but a char table only matches the low byte of the first char.
+    private static final class Entry<T> {
+        private final String chars;
+        private final byte[] bytes;
+        private final FullTextLayout<T> layout;
+
+        private Entry(final String chars, final byte[] bytes, final FullTextLayout<T> layout) {
+            this.chars = chars;
+            this.bytes = bytes;
+            this.layout = layout;
+        }
+
+        private boolean matches(final CharSequence source, final int from, final int end) {
+            if (end - from < chars.length()) {
+                return false;
+            }
+            for (int i = 0; i < chars.length(); i++) {
+                if (source.charAt(from + i) != chars.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean matches(final byte[] source, final int from, final int end) {
+            if (end - from < bytes.length) {
+                return false;
+            }
+            for (int i = 1; i < bytes.length; i++) {
+                if (source[from + i] != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Builder of {@link DispatchLayout}. This class is not thread safe.
+     *
+     * @param <T> common supertype of the classes to register
+     */
+    public static final class Builder<T> {
+        private final int offset;
+        private final Map<String, FullTextLayout<? extends T>> layouts = new LinkedHashMap<>();
+
+        private Builder(final int offset) {
+            this.offset = offset;
+        }
+
+        /**
+         * Registers the class for the discriminator. The class is compiled immediately.
+         *
+         * @param discriminator value at the offset of the records to map to the class, such as "H". every discriminator must have the same length.
+         * @param clazz         class in which {@link FullText} and {@link Field} are declared
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the discriminator is empty or already registered, or the class is not valid.
+         */
+        public Builder<T> register(final String discriminator, final Class<? extends T> clazz) {
+            Objects.requireNonNull(discriminator, "Discriminator must not be null.");
+            if (discriminator.isEmpty()) {
+                throw new IllegalArgumentException("Discriminator must not be empty.");
+            }
+            if (layouts.containsKey(discriminator)) {
+                throw new IllegalArgumentException("Discriminator is already registered: " + discriminator);
+            }
+            layouts.put(discriminator, FullTextLayout.of(clazz));
+            return this;
+        }
+
+        /**
+         * Builds the layout and its lookup tables.
+         *
+         * @return {@link DispatchLayout}
+         * @throws IllegalArgumentException occurs when no class is registered, the registered classes have different lengths or encodings, or a discriminator does not fit in a record or has a different length from the others.
+         */
+        public DispatchLayout<T> build() {
+            if (layouts.isEmpty()) {
+                throw new IllegalArgumentException("Register at least one class.");
+            }
+            final FullTextLayout<? extends T> first = layouts.values().iterator().next();
+            final int length = first.getLength();
+            final Charset charset = first.getCharset();
+            final String firstDiscriminator = layouts.keySet().iterator().next();
+            final int discriminatorLength = firstDiscriminator.getBytes(charset).length;
+
+            final List<List<Entry<? extends T>>> byteBuckets = new ArrayList<>(Collections.nCopies(TABLE_SIZE, null));
+            final List<List<Entry<? extends T>>> charBuckets = new ArrayList<>(Collections.nCopies(TABLE_SIZE, null));
+            for (Map.Entry<String, FullTextLayout<? extends T>> registered : layouts.entrySet()) {
+                final String discriminator = registered.getKey();
+                final FullTextLayout<? extends T> layout = registered.getValue();
+                if (layout.getLength() != length || !layout.getCharset().equals(charset)) {
+                    throw new IllegalArgumentException("Every registered class must have the same @FullText length and encoding. "
+                        + first.getType().getName() + ": " + length + " " + charset + ", " + layout.getType().getName() + ": " + layout.getLength() + " " + layout.getCharset());
+                }
+                final byte[] bytes = discriminator.getBytes(charset);
+                if (bytes.length != discriminatorLength || discriminator.length() != firstDiscriminator.length()) {
+                    throw new IllegalArgumentException("Every discriminator must have the same length. " + firstDiscriminator + ", " + discriminator);
+                }
+                if (offset + bytes.length > length) {
+                    throw new IllegalArgumentException("The discriminator does not fit in a record. @FullText: " + length + ", offset: " + offset + ", discriminator: " + discriminator);
+                }
+                final Entry<? extends T> entry = new Entry<>(discriminator, bytes, layout);
+                add(byteBuckets, bytes[0] & (TABLE_SIZE - 1), entry);
+                add(charBuckets, discriminator.charAt(0) & (TABLE_SIZE - 1), entry);
+            }
+            return new DispatchLayout<>(offset, length, charset, toTable(byteBuckets), toTable(charBuckets), Collections.unmodifiableMap(new LinkedHashMap<>(layouts)));
+        }
+
+        private static <T> void add(final List<List<Entry<? extends T>>> buckets, final int index, final Entry<? extends T> entry) {
+            if (buckets.get(index) == null) {
+                buckets.set(index, new ArrayList<>());
+            }
+            buckets.get(index).add(entry);
+        }
+
+        private static <T> Entry<?>[][] toTable(final List<List<Entry<? extends T>>> buckets) {
+            final Entry<?>[][] table = new Entry<?>[TABLE_SIZE][];
+            for (int i = 0; i < TABLE_SIZE; i++) {
+                if (buckets.get(i) != null) {
+                    table[i] = buckets.get(i).toArray(new Entry<?>[0]);
+                }
+            }
+            return table;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package fulltext.layout;
+
+/**
+ * Parses eight ASCII digits at once. This is the implementation for Java 8, which reads the digits one by one. The multi-release jar replaces it with one that reads them in a single long on Java 17 and later.
+ */
+final class EightDigits {
+    private EightDigits() {
+    }
+
+    /**
+     * Parses the eight bytes from {@code from} as an unsigned decimal number.
+     *
+     * @param source bytes to parse. it must have at least eight bytes from {@code from}.
+     * @param from   index of the first byte
+     * @return parsed value. -1 if any of the bytes is not an ASCII digit.
+     */
+    static int parse(final byte[] source, final int from) {
+        int value = 0;
+        for (int i = from; i < from + 8; i++) {
+            final int digit = source[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,494 @@
+package fulltext.layout;
+
+import static fulltext.annotation.FullTextReflector.findFieldAnnotation;
+import fulltext.accessor.Accessors;
+import fulltext.accessor.FieldAccessor;
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.annotation.FullTextReflector;
+import fulltext.converter.Converter;
+import fulltext.converter.ConverterRegistry;
+import fulltext.enums.ClassCaster;
+import fulltext.enums.PadCharacter;
+import fulltext.enums.PadPosition;
+import fulltext.exception.RuleViolationException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Compiled mapping rule of one {@link Field}. Every property is resolved from {@link FullText} and {@link Field} only once, when the owning {@link FullTextLayout} is compiled.
+ * <p>
+ * This class is immutable and thread safe.
+ */
+public final class FieldLayout {
+    private final java.lang.reflect.Field field;
+    private final FieldAccessor accessor;
+    private final int offset;
+    private final int length;
+    private final PadCharacter padCharacter;
+    private final PadPosition padPosition;
+    private final ClassCaster caster;
+    private final Converter<Object> converter;
+    private final boolean digits;
+    private final String format;
+    private final DateCodec dateCodec;
+
+    private FieldLayout(final java.lang.reflect.Field field, final FieldAccessor accessor, final int offset, final int length, final PadCharacter padCharacter, final PadPosition padPosition,
+        final ClassCaster caster, final Converter<Object> converter, final String format) {
+        this.field = field;
+        this.accessor = accessor;
+        this.offset = offset;
+        this.length = length;
+        this.padCharacter = padCharacter;
+        this.padPosition = padPosition;
+        this.caster = caster;
+        this.converter = converter;
+        this.digits = caster == ClassCaster.INT || caster == ClassCaster.INT_WRAPPER || caster == ClassCaster.LONG || caster == ClassCaster.LONG_WRAPPER
+            || caster == ClassCaster.BIG_DECIMAL;
+        this.format = format;
+        this.dateCodec = format == null ? null : DateCodec.of(format);
+    }
+
+    @SuppressWarnings("unchecked")
+    static FieldLayout compile(final FullText classAnnotation, final java.lang.reflect.Field field, final int offset) {
+        final Field fieldAnnotation = findFieldAnnotation(field);
+        // a registered converter takes precedence over the built-in conversion
+        final Converter<Object> converter = (Converter<Object>) ConverterRegistry.find(field.getType());
+        final ClassCaster caster = converter == null ? ClassCaster.of(field.getType()) : null;
+        return new FieldLayout(
+            field,
+            Accessors.fieldAccessor(field),
+            offset,
+            fieldAnnotation.length(),
+            FullTextReflector.getPadCharacter(classAnnotation, fieldAnnotation),
+            FullTextReflector.getPadPosition(classAnnotation, fieldAnnotation),
+            caster,
+            converter,
+            caster == null ? null : findFormat(field.getType(), fieldAnnotation)
+        );
+    }
+
+    private static String findFormat(final Class<?> fieldType, final Field fieldAnnotation) {
+        if (fieldType.equals(LocalDate.class)) {
+            return fieldAnnotation.localDateFormat();
+        }
+        if (fieldType.equals(LocalDateTime.class)) {
+            return fieldAnnotation.localDateTimeFormat();
+        }
+        return null;
+    }
+
+    /**
+     * Reads the window of this field, which starts at {@code start} of the source, and binds it to the instance. The pad is skipped by index. Int, long and BigDecimal fields are parsed straight from the window, and the other windows are cut out of the source only once, after the pad is excluded.
+     *
+     * @param instance instance to bind
+     * @param source   full text
+     * @param start    index of the source where this field begins
+     * @throws NumberFormatException occurs when the data of a number field is not a number.
+     */
+    public void read(final Object instance, final CharSequence source, final int start) {
+        if (caster == null && converter == null) {
+            return;
+        }
+        int from = start;
+        int to = start + length;
+        if (padPosition.isLeft()) {
+            from = padCharacter.trimLeft(source, from, to);
+        } else {
+            to = padCharacter.trimRight(source, from, to);
+        }
+
+        if (converter != null) {
+            try {
+                accessor.set(instance, converter.read(source, from, to));
+            } catch (NumberFormatException e) {
+                throw new NumberFormatException("Exception while assigning " + source.subSequence(from, to) + " to " + getName());
+            }
+        } else if (caster == ClassCaster.LOCAL_DATE) {
+            accessor.set(instance, dateCodec.parseLocalDate(source, from, to));
+        } else if (caster == ClassCaster.LOCAL_DATE_TIME) {
+            accessor.set(instance, dateCodec.parseLocalDateTime(source, from, to));
+        } else if (digits && from != to) {
+            bindDigits(instance, source, from, to);
+        } else {
+            bindValue(instance, from == to ? "" : source.subSequence(from, to).toString());
+        }
+    }
+
+    /**
+     * Reads the window of this field, which starts at {@code start} of the byte array, and binds it to the instance. In this case, {@link #getLength()} is a count of bytes.
+     * <p>
+     * The pad is excluded on the bytes. Only the window of a String field is decoded with the charset; number and date windows consist of ASCII digits and are parsed without decoding.
+     *
+     * @param instance instance to bind
+     * @param source   full text
+     * @param start    index of the byte array where this field begins
+     * @param charset  charset of the full text
+     * @throws NumberFormatException occurs when the data of a number field is not a number.
+     */
+    public void read(final Object instance, final byte[] source, final int start, final java.nio.charset.Charset charset) {
+        if (caster == null && converter == null) {
+            return;
+        }
+
+        int from = start;
+        int to = start + length;
+        if (padPosition.isLeft()) {
+            from = padCharacter.trimLeft(source, from, to);
+        } else {
+            to = padCharacter.trimRight(source, from, to);
+        }
+
+        if (converter != null) {
+            try {
+                accessor.set(instance, converter.read(source, from, to, charset));
+            } catch (NumberFormatException e) {
+                throw new NumberFormatException("Exception while assigning " + new String(source, from, to - from, charset) + " to " + getName());
+            }
+        } else if (caster == ClassCaster.LOCAL_DATE) {
+            accessor.set(instance, dateCodec.parseLocalDate(source, from, to));
+        } else if (caster == ClassCaster.LOCAL_DATE_TIME) {
+            accessor.set(instance, dateCodec.parseLocalDateTime(source, from, to));
+        } else if (from == to) {
+            bindValue(instance, "");
+        } else if (digits) {
+            bindDigits(instance, source, from, to);
+        } else if (caster == ClassCaster.STRING) {
+            bindValue(instance, new String(source, from, to - from, charset));
+        } else {
+            bindValue(instance, new String(source, from, to - from, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    /**
+     * Reads the window of this field, which starts at {@code start} of the source, and returns its value without binding it to an instance. The value is converted the same as {@link #read(Object, CharSequence, int)}.
+     *
+     * @param source full text
+     * @param start  index of the source where this field begins
+     * @return value of this field, a primitive being boxed. null if the type of this field is neither built-in nor converted.
+     * @throws NumberFormatException occurs when the data of a number field is not a number.
+     */
+    public Object decode(final CharSequence source, final int start) {
+        if (caster == null && converter == null) {
+            return null;
+        }
+        int from = start;
+        int to = start + length;
+        if (padPosition.isLeft()) {
+            from = padCharacter.trimLeft(source, from, to);
+        } else {
+            to = padCharacter.trimRight(source, from, to);
+        }
+
+        if (converter != null) {
+            try {
+                return converter.read(source, from, to);
+            } catch (NumberFormatException e) {
+                throw new NumberFormatException("Exception while assigning " + source.subSequence(from, to) + " to " + getName());
+            }
+        }
+        if (caster == ClassCaster.LOCAL_DATE) {
+            return dateCodec.parseLocalDate(source, from, to);
+        }
+        if (caster == ClassCaster.LOCAL_DATE_TIME) {
+            return dateCodec.parseLocalDateTime(source, from, to);
+        }
+        return decodeValue(source.subSequence(from, to).toString());
+    }
+
+    /**
+     * Reads the window of this field, which starts at {@code start} of the byte array, and returns its value without binding it to an instance. The value is converted the same as {@link #read(Object, byte[], int, java.nio.charset.Charset)}.
+     *
+     * @param source  full text
+     * @param start   index of the byte array where this field begins
+     * @param charset charset of the full text
+     * @return value of this field, a primitive being boxed. null if the type of this field is neither built-in nor converted.
+     * @throws NumberFormatException occurs when the data of a number field is not a number.
+     */
+    public Object decode(final byte[] source, final int start, final java.nio.charset.Charset charset) {
+        if (caster == null && converter == null) {
+            return null;
+        }
+        int from = start;
+        int to = start + length;
+        if (padPosition.isLeft()) {
+            from = padCharacter.trimLeft(source, from, to);
+        } else {
+            to = padCharacter.trimRight(source, from, to);
+        }
+
+        if (converter != null) {
+            try {
+                return converter.read(source, from, to, charset);
+            } catch (NumberFormatException e) {
+                throw new NumberFormatException("Exception while assigning " + new String(source, from, to - from, charset) + " to " + getName());
+            }
+        }
+        if (caster == ClassCaster.LOCAL_DATE) {
+            return dateCodec.parseLocalDate(source, from, to);
+        }
+        if (caster == ClassCaster.LOCAL_DATE_TIME) {
+            return dateCodec.parseLocalDateTime(source, from, to);
+        }
+        return decodeValue(new String(source, from, to - from, caster == ClassCaster.STRING ? charset : StandardCharsets.ISO_8859_1));
+    }
+
+    private Object decodeValue(final String value) {
+        final String data = orZero(value);
+        try {
+            return caster.getFunction().apply(data, null);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("Exception while assigning " + data + " to " + getName());
+        }
+    }
+
+    // numbers the digit parsers cannot take, and malformed numbers, go through bindValue for the same result and message
+    private void bindDigits(final Object instance, final CharSequence source, final int from, final int to) {
+        try {
+            switch (caster) {
+                case INT:
+                    accessor.setInt(instance, Digits.parseInt(source, from, to));
+                    break;
+                case INT_WRAPPER:
+                    accessor.set(instance, Digits.parseInt(source, from, to));
+                    break;
+                case LONG:
+                    accessor.setLong(instance, Digits.parseLong(source, from, to));
+                    break;
+                case LONG_WRAPPER:
+                    accessor.set(instance, Digits.parseLong(source, from, to));
+                    break;
+                default:
+                    accessor.set(instance, Digits.parseDecimal(source, from, to));
+            }
+        } catch (NumberFormatException e) {
+            bindValue(instance, source.subSequence(from, to).toString());
+        }
+    }
+
+    private void bindDigits(final Object instance, final byte[] source, final int from, final int to) {
+        try {
+            switch (caster) {
+                case INT:
+                    accessor.setInt(instance, Digits.parseInt(source, from, to));
+                    break;
+                case INT_WRAPPER:
+                    accessor.set(instance, Digits.parseInt(source, from, to));
+                    break;
+                case LONG:
+                    accessor.setLong(instance, Digits.parseLong(source, from, to));
+                    break;
+                case LONG_WRAPPER:
+                    accessor.set(instance, Digits.parseLong(source, from, to));
+                    break;
+                default:
+                    accessor.set(instance, Digits.parseDecimal(source, from, to));
+            }
+        } catch (NumberFormatException e) {
+            bindValue(instance, new String(source, from, to - from, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    private void bindValue(final Object instance, final String data) {
+        final String value = orZero(data);
+        try {
+            bind(instance, value);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("Exception while assigning " + value + " to " + getName());
+        }
+    }
+
+    // an empty wrapper is zero
+    private String orZero(final String value) {
+        if ((caster == ClassCaster.INT_WRAPPER || caster == ClassCaster.LONG_WRAPPER || caster == ClassCaster.DOUBLE_WRAPPER) && "".equals(value)) {
+            return "0";
+        }
+        return value;
+    }
+
+    private void bind(final Object instance, final String value) {
+        switch (caster) {
+            case INT:
+                accessor.setInt(instance, Integer.parseInt(value));
+                break;
+            case LONG:
+                accessor.setLong(instance, Long.parseLong(value));
+                break;
+            case DOUBLE:
+                accessor.setDouble(instance, Double.parseDouble(value));
+                break;
+            default:
+                accessor.set(instance, caster.getFunction().apply(value, null));
+        }
+    }
+
+    /**
+     * Writes the value of this field of the instance into exactly {@link #getLength()} chars of the array, which start at {@code start}.
+     * <p>
+     * The data is copied straight into the array, and ints, longs, BigDecimals and dates of the default formats are formatted digit by digit, so no String is created for them. The rest of the window is filled with the pad.
+     *
+     * @param instance instance to write
+     * @param dst      array to write
+     * @param start    index of the array where this field begins
+     * @throws RuleViolationException occurs when the data is longer than {@link #getLength()}.
+     */
+    public void write(final Object instance, final char[] dst, final int start) {
+        if (caster == ClassCaster.INT) {
+            writeLong(accessor.getInt(instance), dst, start);
+            return;
+        }
+        if (caster == ClassCaster.LONG) {
+            writeLong(accessor.getLong(instance), dst, start);
+            return;
+        }
+
+        final Object value = accessor.get(instance);
+        if (value == null) {
+            padCharacter.fill(dst, start, start + length);
+        } else if (converter != null) {
+            writeString(converter.write(value), dst, start);
+        } else if (value instanceof Integer || value instanceof Long) {
+            writeLong(((Number) value).longValue(), dst, start);
+        } else if (value instanceof BigDecimal) {
+            writeDecimal((BigDecimal) value, dst, start);
+        } else if (dateCodec != null && value instanceof TemporalAccessor) {
+            writeDate((TemporalAccessor) value, dst, start);
+        } else {
+            writeString(value.toString(), dst, start);
+        }
+    }
+
+    private void writeLong(final long value, final char[] dst, final int start) {
+        final int dataLength = Digits.length(value);
+        final int from = beginData(dataLength, dst, start);
+        Digits.write(value, dst, from + dataLength);
+    }
+
+    private void writeDecimal(final BigDecimal value, final char[] dst, final int start) {
+        final int dataLength = Digits.length(value);
+        if (dataLength < 0) {
+            writeString(value.toString(), dst, start);
+            return;
+        }
+        Digits.write(value, dst, beginData(dataLength, dst, start), dataLength);
+    }
+
+    private void writeDate(final TemporalAccessor value, final char[] dst, final int start) {
+        final int dataLength = dateCodec.length(value);
+        if (dataLength < 0) {
+            writeString(dateCodec.format(value), dst, start);
+            return;
+        }
+        dateCodec.write(value, dst, beginData(dataLength, dst, start));
+    }
+
+    private void writeString(final String value, final char[] dst, final int start) {
+        final int from = beginData(value.length(), dst, start);
+        value.getChars(0, value.length(), dst, from);
+    }
+
+    // fills the pad around the data, and returns the index where the data begins
+    private int beginData(final int dataLength, final char[] dst, final int start) {
+        if (dataLength > length) {
+            throw new RuleViolationException("The data of " + getName() + " field is longer than @Field.length: " + length);
+        }
+        final int end = start + length;
+        if (padPosition.isLeft()) {
+            padCharacter.fill(dst, start, end - dataLength);
+            return end - dataLength;
+        }
+        padCharacter.fill(dst, start + dataLength, end);
+        return start;
+    }
+
+    public java.lang.reflect.Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the accessor built for this field. Use it instead of {@link java.lang.reflect.Field#get(Object)} and {@link java.lang.reflect.Field#set(Object, Object)}.
+     *
+     * @return {@link FieldAccessor}
+     */
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    public String getName() {
+        return field.getName();
+    }
+
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    /**
+     * Returns the position of this field from the beginning of the full text.
+     *
+     * @return offset of this field
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public PadCharacter getPadCharacter() {
+        return padCharacter;
+    }
+
+    public PadPosition getPadPosition() {
+        return padPosition;
+    }
+
+    /**
+     * Returns the {@link ClassCaster} that matches the declared type of this field.
+     *
+     * @return {@link ClassCaster}. null if the declared type is not supported, or a {@link Converter} is registered for it.
+     */
+    public ClassCaster getCaster() {
+        return caster;
+    }
+
+    /**
+     * Returns the {@link Converter} registered for the declared type of this field, when the layout was compiled.
+     *
+     * @return {@link Converter}. null if no converter is registered for the declared type.
+     */
+    public Converter<Object> getConverter() {
+        return converter;
+    }
+
+    /**
+     * Returns the date format of this field.
+     *
+     * @return {@link Field#localDateFormat()} or {@link Field#localDateTimeFormat()}. null if this field is not a date type.
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the {@link DateTimeFormatter} compiled from {@link #getFormat()}.
+     *
+     * @return {@link DateTimeFormatter}. null if this field is not a date type.
+     */
+    public DateTimeFormatter getFormatter() {
+        return dateCodec == null ? null : dateCodec.getFormatter();
+    }
+
+    /**
+     * Returns the {@link DateCodec} of {@link #getFormat()}.
+     *
+     * @return {@link DateCodec}. null if this field is not a date type.
+     */
+    public DateCodec getDateCodec() {
+        return dateCodec;
+    }
+}
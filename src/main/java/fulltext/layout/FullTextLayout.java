@@ -0,0 +1,217 @@
+package fulltext.layout;
+
+import static fulltext.annotation.FullTextReflector.findClassAnnotation;
+import static fulltext.annotation.FullTextReflector.verifyAnnotation;
+import fulltext.accessor.Accessors;
+import fulltext.accessor.Instantiator;
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.Charset;
+import fulltext.exception.RuleViolationException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compiled mapping plan of a class in which {@link FullText} and {@link Field} are declared.
+ * <p>
+ * The annotations are verified and resolved only once per class, and the result is cached without locking. After that, mapping a full text never looks up an annotation again.
+ * <p>
+ * This class is immutable and thread safe.
+ *
+ * @param <T> class in which {@link FullText} and {@link Field} are declared
+ */
+public final class FullTextLayout<T> implements RecordLayout<T> {
+    private static final ClassValue<FullTextLayout<?>> CACHE = new ClassValue<FullTextLayout<?>>() {
+        @Override
+        protected FullTextLayout<?> computeValue(final Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final int length;
+    private final Charset encoding;
+    private final java.nio.charset.Charset charset;
+    private final FieldLayout[] fields;
+    private final List<FieldLayout> fieldList;
+    private final Instantiator<T> instantiator;
+
+    private FullTextLayout(final Class<T> type, final FullText classAnnotation, final FieldLayout[] fields) {
+        this.type = type;
+        this.length = classAnnotation.length();
+        this.encoding = classAnnotation.encoding();
+        this.charset = encoding.toCharset();
+        this.fields = fields;
+        this.fieldList = Collections.unmodifiableList(Arrays.asList(fields));
+
+        this.instantiator = instantiator(type);
+    }
+
+    private static <T> Instantiator<T> instantiator(final Class<T> type) {
+        try {
+            return Accessors.instantiator(type);
+        } catch (NoSuchMethodException e) {
+            // Writing does not need a constructor, so it fails only when an instance is actually created.
+            return () -> {
+                throw e;
+            };
+        }
+    }
+
+    /**
+     * Returns the compiled layout of the class. The layout is compiled on the first call and cached for the lifetime of the class.
+     *
+     * @param clazz the class you want to map to full text.
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return {@link FullTextLayout}
+     * @throws NullPointerException          occurs when the argument is null.
+     * @throws IllegalArgumentException      occurs when the sum of the length of {@link FullText} and the length of all {@link Field} is different.
+     * @throws UnsupportedOperationException occurs when both {@link FullText} and {@link Field} have a NONE property.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> FullTextLayout<T> of(final Class<T> clazz) {
+        Objects.requireNonNull(clazz, "Class is must not be null.");
+        return (FullTextLayout<T>) CACHE.get(clazz);
+    }
+
+    private static <T> FullTextLayout<T> compile(final Class<T> clazz) {
+        verifyAnnotation(clazz);
+
+        final FullText classAnnotation = findClassAnnotation(clazz);
+        final java.lang.reflect.Field[] declaredFields = clazz.getDeclaredFields();
+        final FieldLayout[] fields = new FieldLayout[declaredFields.length];
+
+        int offset = 0;
+        for (int i = 0; i < declaredFields.length; i++) {
+            fields[i] = FieldLayout.compile(classAnnotation, declaredFields[i], offset);
+            offset += fields[i].getLength();
+        }
+        return new FullTextLayout<>(clazz, classAnnotation, fields);
+    }
+
+    /**
+     * Creates an instance through the default constructor. The default constructor may be private.
+     *
+     * @return instance of T
+     * @throws RuleViolationException occurs when there is no default constructor or it fails.
+     */
+    public T newInstance() {
+        try {
+            return instantiator.newInstance();
+        } catch (Exception e) {
+            throw new RuleViolationException("No suitable constructor. Make sure " + e.getLocalizedMessage() + " has a default constructor");
+        }
+    }
+
+    /**
+     * Creates an instance and binds the full text between {@code start} and {@code end} of the source to it.
+     * <p>
+     * A single cursor walks over the source, and each field reads only its own window, so the remaining full text is never copied.
+     *
+     * @param source full text
+     * @param start  index of the source where the full text begins
+     * @param end    index of the source where the full text ends (exclusive)
+     * @return instance of T
+     * @throws RuleViolationException occurs when the full text is shorter or longer than {@link FullText#length()}.
+     */
+    @Override
+    public T read(final CharSequence source, final int start, final int end) {
+        if (end - start < length) {
+            throw new RuleViolationException("Parsing has been failed. @FullText: " + length + ", but data length: " + (end - start));
+        }
+
+        final T instance = newInstance();
+        int cursor = start;
+        for (FieldLayout field : fields) {
+            field.read(instance, source, cursor);
+            cursor += field.getLength();
+        }
+        if (cursor != end) {
+            throw new RuleViolationException("Parsing has been completed. but remaining data exists. current data: " + source.subSequence(cursor, end));
+        }
+        return instance;
+    }
+
+    /**
+     * Creates an instance and binds the full text between {@code start} and {@code end} of the byte array to it.
+     * <p>
+     * In this case, {@link FullText#length()} and {@link Field#length()} are counts of bytes, and only the windows of String fields are decoded with {@link FullText#encoding()}.
+     *
+     * @param source full text
+     * @param start  index of the byte array where the full text begins
+     * @param end    index of the byte array where the full text ends (exclusive)
+     * @return instance of T
+     * @throws RuleViolationException occurs when the full text is shorter or longer than {@link FullText#length()}.
+     */
+    @Override
+    public T read(final byte[] source, final int start, final int end) {
+        if (end - start < length) {
+            throw new RuleViolationException("Parsing has been failed. @FullText: " + length + ", but data length: " + (end - start));
+        }
+
+        final T instance = newInstance();
+        int cursor = start;
+        for (FieldLayout field : fields) {
+            field.read(instance, source, cursor, charset);
+            cursor += field.getLength();
+        }
+        if (cursor != end) {
+            throw new RuleViolationException("Parsing has been completed. but remaining data exists. current data: " + new String(source, cursor, end - cursor, charset));
+        }
+        return instance;
+    }
+
+    /**
+     * Writes the instance into exactly {@link FullText#length()} chars of the array, which start at {@code start}. Each field writes its data and pad in place, so no intermediate String is created for pads and numbers.
+     *
+     * @param instance instance to write
+     * @param dst      array to write
+     * @param start    index of the array where the full text begins
+     * @throws RuleViolationException    occurs when the data of a field is longer than {@link Field#length()}.
+     * @throws IndexOutOfBoundsException occurs when the array has less than {@link FullText#length()} chars from {@code start}.
+     */
+    public void write(final Object instance, final char[] dst, final int start) {
+        if (start < 0 || dst.length - start < length) {
+            throw new IndexOutOfBoundsException("The array has no room for @FullText: " + length + ", from index: " + start);
+        }
+        int cursor = start;
+        for (FieldLayout field : fields) {
+            field.write(instance, dst, cursor);
+            cursor += field.getLength();
+        }
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the length declared in {@link FullText}.
+     *
+     * @return a total length of full text
+     */
+    @Override
+    public int getLength() {
+        return length;
+    }
+
+    public Charset getEncoding() {
+        return encoding;
+    }
+
+    @Override
+    public java.nio.charset.Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Returns the compiled fields in declaration order.
+     *
+     * @return unmodifiable list of {@link FieldLayout}
+     */
+    public List<FieldLayout> getFields() {
+        return fieldList;
+    }
+}
@@ -0,0 +1,152 @@
+package fulltext.layout;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.exception.RuleViolationException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled subset of the fields of a class. It binds only the selected {@link Field}s, and the windows of the other fields are neither converted nor even visited. The other fields keep the values that the default constructor gives them.
+ * <p>
+ * The whole class is still verified and compiled into its {@link FullTextLayout}, so the offsets of the selected fields are the same as in a full mapping, and the length of each record is still checked against {@link FullText#length()}.
+ * <p>
+ * This class is immutable and thread safe.
+ *
+ * @param <T> class in which {@link FullText} and {@link Field} are declared
+ */
+public final class Projection<T> implements RecordLayout<T> {
+    private static final ClassValue<ConcurrentMap<Set<String>, Projection<?>>> CACHE = new ClassValue<ConcurrentMap<Set<String>, Projection<?>>>() {
+        @Override
+        protected ConcurrentMap<Set<String>, Projection<?>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final FullTextLayout<T> layout;
+    private final FieldLayout[] fields;
+    private final List<FieldLayout> fieldList;
+
+    private Projection(final FullTextLayout<T> layout, final FieldLayout[] fields) {
+        this.layout = layout;
+        this.fields = fields;
+        this.fieldList = Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    /**
+     * Returns the projection of the class onto the fields. The projection is compiled on the first call and cached for the lifetime of the class.
+     *
+     * @param clazz      the class you want to map to full text.
+     * @param fieldNames names of the fields to bind. the order does not matter.
+     * @param <T>        class in which {@link FullText} and {@link Field} are declared
+     * @return {@link Projection}
+     * @throws NullPointerException     occurs when an argument is null.
+     * @throws IllegalArgumentException occurs when a name is not a {@link Field} of the class, or the class is not valid.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Projection<T> of(final Class<T> clazz, final String... fieldNames) {
+        final FullTextLayout<T> layout = FullTextLayout.of(clazz);
+        Objects.requireNonNull(fieldNames, "Field names must not be null.");
+        final Set<String> names = new LinkedHashSet<>(Arrays.asList(fieldNames));
+        return (Projection<T>) CACHE.get(clazz).computeIfAbsent(names, key -> compile(layout, key));
+    }
+
+    private static <T> Projection<T> compile(final FullTextLayout<T> layout, final Set<String> names) {
+        final List<FieldLayout> selected = new ArrayList<>();
+        for (FieldLayout field : layout.getFields()) {
+            if (names.contains(field.getName())) {
+                selected.add(field);
+            }
+        }
+        if (selected.size() != names.size()) {
+            final Set<String> unknown = new LinkedHashSet<>(names);
+            for (FieldLayout field : selected) {
+                unknown.remove(field.getName());
+            }
+            throw new IllegalArgumentException("Could not find @Field named " + unknown + " in " + layout.getType().getName());
+        }
+        return new Projection<>(layout, selected.toArray(new FieldLayout[0]));
+    }
+
+    /**
+     * Creates an instance and binds only the selected fields of the full text between {@code start} and {@code end} of the source to it.
+     *
+     * @throws RuleViolationException occurs when the full text is shorter or longer than {@link FullText#length()}.
+     */
+    @Override
+    public T read(final CharSequence source, final int start, final int end) {
+        checkLength(end - start);
+        if (end - start > layout.getLength()) {
+            throw new RuleViolationException("Parsing has been completed. but remaining data exists. current data: " + source.subSequence(start + layout.getLength(), end));
+        }
+
+        final T instance = layout.newInstance();
+        for (FieldLayout field : fields) {
+            field.read(instance, source, start + field.getOffset());
+        }
+        return instance;
+    }
+
+    /**
+     * Creates an instance and binds only the selected fields of the full text between {@code start} and {@code end} of the byte array to it. In this case, {@link FullText#length()} and {@link Field#length()} are counts of bytes.
+     *
+     * @throws RuleViolationException occurs when the full text is shorter or longer than {@link FullText#length()}.
+     */
+    @Override
+    public T read(final byte[] source, final int start, final int end) {
+        checkLength(end - start);
+        if (end - start > layout.getLength()) {
+            throw new RuleViolationException("Parsing has been completed. but remaining data exists. current data: "
+                + new String(source, start + layout.getLength(), end - start - layout.getLength(), layout.getCharset()));
+        }
+
+        final T instance = layout.newInstance();
+        final Charset charset = layout.getCharset();
+        for (FieldLayout field : fields) {
+            field.read(instance, source, start + field.getOffset(), charset);
+        }
+        return instance;
+    }
+
+    private void checkLength(final int dataLength) {
+        if (dataLength < layout.getLength()) {
+            throw new RuleViolationException("Parsing has been failed. @FullText: " + layout.getLength() + ", but data length: " + dataLength);
+        }
+    }
+
+    /**
+     * Returns the compiled layout of the whole class.
+     *
+     * @return {@link FullTextLayout}
+     */
+    public FullTextLayout<T> getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the selected fields in declaration order.
+     *
+     * @return unmodifiable list of {@link FieldLayout}
+     */
+    public List<FieldLayout> getFields() {
+        return fieldList;
+    }
+
+    @Override
+    public int getLength() {
+        return layout.getLength();
+    }
+
+    @Override
+    public Charset getCharset() {
+        return layout.getCharset();
+    }
+}
@@ -0,0 +1,104 @@
+package fulltext.layout;
+
+import fulltext.annotation.FullText;
+import fulltext.exception.RuleViolationException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads one record at the position of a {@link ByteBuffer} with a reader of byte arrays, such as {@link RecordLayout#read(byte[], int, int)}.
+ * <p>
+ * A heap buffer is parsed in place, without copying. The field parsers work on byte arrays, so a direct or read only buffer is copied one record at a time into an array which belongs to the current thread and is reused for every record.
+ */
+public final class RecordBuffers {
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[0]);
+
+    private RecordBuffers() {
+    }
+
+    /**
+     * Reader of a record in a byte array.
+     *
+     * @param <T> type of the mapped instances
+     */
+    @FunctionalInterface
+    public interface Reader<T> {
+        /**
+         * Maps the full text between {@code start} and {@code end} of the byte array.
+         *
+         * @param source full text
+         * @param start  index of the byte array where the full text begins
+         * @param end    index of the byte array where the full text ends (exclusive)
+         * @return instance of T
+         */
+        T read(byte[] source, int start, int end);
+    }
+
+    /**
+     * Maps the {@code length} bytes at the position of the buffer, and advances the position by {@code length}. The position is not changed if it fails.
+     * <p>
+     * The array passed to the reader is valid only during the call, so the reader must not keep it.
+     *
+     * @param source full text. it may be a heap or direct buffer.
+     * @param length length of a record, {@link FullText#length()}
+     * @param reader reader of the record
+     * @param <T>    type of the mapped instances
+     * @return instance of T
+     * @throws RuleViolationException occurs when the remaining of the buffer is less than {@code length}, or the reader fails.
+     */
+    public static <T> T read(final ByteBuffer source, final int length, final Reader<T> reader) {
+        if (source.hasArray()) {
+            return readInPlace(source, length, reader);
+        }
+        byte[] record = SCRATCH.get();
+        if (record.length < length) {
+            record = new byte[length];
+            SCRATCH.set(record);
+        }
+        return readCopy(source, length, reader, record);
+    }
+
+    /**
+     * Maps the {@code length} bytes at the position of the buffer, and advances the position by {@code length}. The position is not changed if it fails.
+     * <p>
+     * A heap buffer is passed to the reader in place, and a direct buffer is copied into a new array, so the reader may keep the array, like a view does.
+     *
+     * @param source full text. it may be a heap or direct buffer.
+     * @param length length of a record, {@link FullText#length()}
+     * @param reader reader of the record
+     * @param <T>    type of the mapped instances
+     * @return instance of T
+     * @throws RuleViolationException occurs when the remaining of the buffer is less than {@code length}, or the reader fails.
+     */
+    public static <T> T readRetained(final ByteBuffer source, final int length, final Reader<T> reader) {
+        if (source.hasArray()) {
+            return readInPlace(source, length, reader);
+        }
+        return readCopy(source, length, reader, new byte[length]);
+    }
+
+    private static <T> T readInPlace(final ByteBuffer source, final int length, final Reader<T> reader) {
+        checkRemaining(source, length);
+        final int start = source.arrayOffset() + source.position();
+        final T instance = reader.read(source.array(), start, start + length);
+        source.position(source.position() + length);
+        return instance;
+    }
+
+    private static <T> T readCopy(final ByteBuffer source, final int length, final Reader<T> reader, final byte[] record) {
+        checkRemaining(source, length);
+        final int position = source.position();
+        source.get(record, 0, length);
+        try {
+            return reader.read(record, 0, length);
+        } catch (RuntimeException e) {
+            source.position(position);
+            throw e;
+        }
+    }
+
+    private static void checkRemaining(final ByteBuffer source, final int length) {
+        if (source.remaining() < length) {
+            throw new RuleViolationException("Parsing has been failed. @FullText: " + length + ", but data length: " + source.remaining());
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package fulltext.layout;
+
+import fulltext.accessor.FieldAccessor;
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.ClassCaster;
+import fulltext.exception.RuleViolationException;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+
+/**
+ * Encodes instances into full text bytes of {@link FullText#encoding()}. In this case, {@link FullText#length()} and {@link Field#length()} are counts of bytes.
+ * <p>
+ * Integer, BigDecimal and date fields of the default formats are written digit by digit, and ASCII strings are copied byte by byte. Only strings that contain other characters go through the {@link CharsetEncoder}, with buffers allocated once per encoder, so encoding a record does not allocate for those fields.
+ * <p>
+ * This class is not thread safe. Use one encoder per thread, such as the one {@link #ofThread(Class)} returns.
+ *
+ * @param <T> class in which {@link FullText} and {@link Field} are declared
+ */
+public final class RecordEncoder<T> {
+    private static final ClassValue<ThreadLocal<RecordEncoder<?>>> THREAD_ENCODERS = new ClassValue<ThreadLocal<RecordEncoder<?>>>() {
+        @Override
+        protected ThreadLocal<RecordEncoder<?>> computeValue(final Class<?> type) {
+            return ThreadLocal.withInitial(() -> of(type));
+        }
+    };
+
+    private final FullTextLayout<T> layout;
+    private final CharsetEncoder encoder;
+    private final boolean asciiCompatible;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+
+    private RecordEncoder(final FullTextLayout<T> layout) {
+        this.layout = layout;
+        this.encoder = layout.getCharset().newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.asciiCompatible = isAsciiCompatible(layout.getCharset());
+
+        int maxLength = 0;
+        for (FieldLayout field : layout.getFields()) {
+            maxLength = Math.max(maxLength, field.getLength());
+        }
+        this.chars = CharBuffer.allocate(maxLength);
+        this.bytes = ByteBuffer.allocate(maxLength);
+    }
+
+    /**
+     * Returns a new encoder of the class.
+     *
+     * @param clazz class in which {@link FullText} and {@link Field} are declared
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return {@link RecordEncoder}
+     */
+    public static <T> RecordEncoder<T> of(final Class<T> clazz) {
+        return new RecordEncoder<>(FullTextLayout.of(clazz));
+    }
+
+    /**
+     * Returns the encoder of the class which belongs to the current thread. It is created on the first call of each thread, and reused after that.
+     *
+     * @param clazz class in which {@link FullText} and {@link Field} are declared
+     * @param <T>   class in which {@link FullText} and {@link Field} are declared
+     * @return {@link RecordEncoder} of the current thread
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RecordEncoder<T> ofThread(final Class<T> clazz) {
+        return (RecordEncoder<T>) THREAD_ENCODERS.get(clazz).get();
+    }
+
+    private static boolean isAsciiCompatible(final java.nio.charset.Charset charset) {
+        final byte[] ascii = new byte[128];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (byte) i;
+        }
+        return Arrays.equals(new String(ascii, StandardCharsets.US_ASCII).getBytes(charset), ascii);
+    }
+
+    public FullTextLayout<T> getLayout() {
+        return layout;
+    }
+
+    /**
+     * Writes exactly {@link FullText#length()} bytes of the instance at the position of the buffer, and advances the position. The position is not changed if it fails, though the bytes after it may have been overwritten.
+     *
+     * @param instance instance to encode
+     * @param dst      buffer to write. it may be a heap or direct buffer.
+     * @throws BufferOverflowException occurs when the remaining of the buffer is less than {@link FullText#length()}.
+     * @throws RuleViolationException  occurs when the data of a field is longer than {@link Field#length()}.
+     */
+    public void encode(final T instance, final ByteBuffer dst) {
+        if (dst.remaining() < layout.getLength()) {
+            throw new BufferOverflowException();
+        }
+        final int position = dst.position();
+        try {
+            for (FieldLayout field : layout.getFields()) {
+                encode(instance, field, dst);
+            }
+        } catch (RuntimeException e) {
+            dst.position(position);
+            throw e;
+        }
+    }
+
+    private void encode(final Object instance, final FieldLayout field, final ByteBuffer dst) {
+        final FieldAccessor accessor = field.getAccessor();
+        final ClassCaster caster = field.getCaster();
+        if (caster == ClassCaster.INT) {
+            putLong(field, accessor.getInt(instance), dst);
+            return;
+        }
+        if (caster == ClassCaster.LONG) {
+            putLong(field, accessor.getLong(instance), dst);
+            return;
+        }
+
+        final Object value = accessor.get(instance);
+        if (value == null) {
+            putString(field, "", dst);
+        } else if (field.getConverter() != null) {
+            putString(field, field.getConverter().write(value), dst);
+        } else if (value instanceof Integer || value instanceof Long) {
+            putLong(field, ((Number) value).longValue(), dst);
+        } else if (value instanceof BigDecimal) {
+            putDecimal(field, (BigDecimal) value, dst);
+        } else if (field.getDateCodec() != null && value instanceof TemporalAccessor) {
+            putDate(field, (TemporalAccessor) value, dst);
+        } else {
+            putString(field, value.toString(), dst);
+        }
+    }
+
+    private void putLong(final FieldLayout field, final long value, final ByteBuffer dst) {
+        final int length = Digits.length(value);
+        final int from = beginData(field, length, dst);
+        Digits.write(value, dst, from + length);
+        endData(field, from + length, dst);
+    }
+
+    private void putDecimal(final FieldLayout field, final BigDecimal value, final ByteBuffer dst) {
+        final int length = Digits.length(value);
+        if (length < 0) {
+            putString(field, value.toString(), dst);
+            return;
+        }
+        final int from = beginData(field, length, dst);
+        Digits.write(value, dst, from, length);
+        endData(field, from + length, dst);
+    }
+
+    private void putDate(final FieldLayout field, final TemporalAccessor value, final ByteBuffer dst) {
+        final DateCodec codec = field.getDateCodec();
+        final int length = codec.length(value);
+        if (length < 0) {
+            putString(field, codec.format(value), dst);
+            return;
+        }
+        final int from = beginData(field, length, dst);
+        codec.write(value, dst, from);
+        endData(field, from + length, dst);
+    }
+
+    // writes the left pad, and returns the index where the data begins
+    private static int beginData(final FieldLayout field, final int length, final ByteBuffer dst) {
+        checkLength(field, length);
+        if (field.getPadPosition().isLeft()) {
+            pad(field, field.getLength() - length, dst);
+        }
+        return dst.position();
+    }
+
+    // moves the position after the data, and writes the right pad
+    private static void endData(final FieldLayout field, final int end, final ByteBuffer dst) {
+        final int length = end - dst.position();
+        dst.position(end);
+        if (!field.getPadPosition().isLeft()) {
+            pad(field, field.getLength() - length, dst);
+        }
+    }
+
+    private void putString(final FieldLayout field, final String value, final ByteBuffer dst) {
+        if (asciiCompatible && isAscii(value)) {
+            final int length = value.length();
+            checkLength(field, length);
+            final boolean left = field.getPadPosition().isLeft();
+            if (left) {
+                pad(field, field.getLength() - length, dst);
+            }
+            for (int i = 0; i < length; i++) {
+                dst.put((byte) value.charAt(i));
+            }
+            if (!left) {
+                pad(field, field.getLength() - length, dst);
+            }
+            return;
+        }
+        putEncoded(field, value, dst);
+    }
+
+    private static boolean isAscii(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putEncoded(final FieldLayout field, final String value, final ByteBuffer dst) {
+        // every character takes at least one byte
+        checkLength(field, value.length());
+
+        chars.clear();
+        value.getChars(0, value.length(), chars.array(), 0);
+        chars.limit(value.length());
+        bytes.clear();
+        bytes.limit(field.getLength());
+
+        encoder.reset();
+        final CoderResult result = encoder.encode(chars, bytes, true);
+        if (result.isOverflow() || encoder.flush(bytes).isOverflow()) {
+            throw exceeded(field);
+        }
+        bytes.flip();
+
+        final boolean left = field.getPadPosition().isLeft();
+        final int padLength = field.getLength() - bytes.remaining();
+        if (left) {
+            pad(field, padLength, dst);
+        }
+        dst.put(bytes);
+        if (!left) {
+            pad(field, padLength, dst);
+        }
+    }
+
+    private static void pad(final FieldLayout field, final int length, final ByteBuffer dst) {
+        final byte pad = (byte) field.getPadCharacter().toChar();
+        for (int i = 0; i < length; i++) {
+            dst.put(pad);
+        }
+    }
+
+    private static void checkLength(final FieldLayout field, final int length) {
+        if (length > field.getLength()) {
+            throw exceeded(field);
+        }
+    }
+
+    private static RuleViolationException exceeded(final FieldLayout field) {
+        return new RuleViolationException("The data of " + field.getName() + " field is longer than @Field.length: " + field.getLength());
+    }
+}
@@ -0,0 +1,595 @@
+package fulltext.layout;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.ClassCaster;
+import fulltext.enums.PadCharacter;
+import fulltext.exception.RuleViolationException;
+import java.nio.charset.Charset;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled predicate on the fields of a full text record, which is tested against the raw record before the record is mapped. Readers such as {@link fulltext.io.RecordSpliterator} map only the records that pass it.
+ * <p>
+ * Each condition reads only the window of its field, at the offset compiled by {@link FullTextLayout}, and all the conditions must hold. String windows and the windows of dates in a fixed width pattern ordered from the year to the second, such as yyyyMMdd or yyyy-MM-dd HH:mm:ss, are compared as they are, without being decoded. int and long windows are parsed into a primitive. The other fields are decoded the same as {@link FieldLayout#decode(byte[], int, Charset)}.
+ * <p>
+ * A window is compared after its pad is removed, like the mapped value. A date window of the fixed width is not validated as a date, so a malformed date which the mapper would reject is compared as it is.
+ * <p>
+ * This class is immutable and thread safe.
+ */
+public final class RecordFilter {
+    // a fixed width pattern whose lexicographic order is the order of the dates
+    private static final Pattern ORDERED_DATE = Pattern.compile("yyyy([-/. ]?MM([-/. ]?dd([-/. ]?HH(:?mm(:?ss)?)?)?)?)?");
+
+    private final FullTextLayout<?> layout;
+    private final Condition[] conditions;
+
+    private RecordFilter(final FullTextLayout<?> layout, final Condition[] conditions) {
+        this.layout = layout;
+        this.conditions = conditions;
+    }
+
+    /**
+     * Returns a builder of a filter on the fields of the class.
+     *
+     * @param clazz class in which {@link FullText} and {@link Field} are declared
+     * @return {@link Builder}
+     * @throws IllegalArgumentException occurs when the class is not valid.
+     */
+    public static Builder builder(final Class<?> clazz) {
+        return new Builder(FullTextLayout.of(clazz));
+    }
+
+    /**
+     * Tests the full text between {@code start} and {@code end} of the source.
+     *
+     * @param source full text
+     * @param start  index of the source where the full text begins
+     * @param end    index of the source where the full text ends (exclusive)
+     * @return true if every condition holds
+     * @throws RuleViolationException occurs when the full text is shorter than {@link FullText#length()}.
+     * @throws NumberFormatException  occurs when a number field which is compared is not a number.
+     */
+    public boolean test(final CharSequence source, final int start, final int end) {
+        checkLength(end - start);
+        for (Condition condition : conditions) {
+            if (!condition.test(source, start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests the full text between {@code start} and {@code end} of the byte array. In this case, {@link FullText#length()} and {@link Field#length()} are counts of bytes.
+     *
+     * @param source full text
+     * @param start  index of the byte array where the full text begins
+     * @param end    index of the byte array where the full text ends (exclusive)
+     * @return true if every condition holds
+     * @throws RuleViolationException occurs when the full text is shorter than {@link FullText#length()}.
+     * @throws NumberFormatException  occurs when a number field which is compared is not a number.
+     */
+    public boolean test(final byte[] source, final int start, final int end) {
+        checkLength(end - start);
+        for (Condition condition : conditions) {
+            if (!condition.test(source, start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkLength(final int dataLength) {
+        if (dataLength < layout.getLength()) {
+            throw new RuleViolationException("Parsing has been failed. @FullText: " + layout.getLength() + ", but data length: " + dataLength);
+        }
+    }
+
+    /**
+     * Returns the compiled layout of the class whose fields are tested.
+     *
+     * @return {@link FullTextLayout}
+     */
+    public FullTextLayout<?> getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the length declared in {@link FullText}.
+     *
+     * @return a total length of full text
+     */
+    public int getLength() {
+        return layout.getLength();
+    }
+
+    /**
+     * Builder of {@link RecordFilter}. Every condition added must hold.
+     * <p>
+     * A value is compared with the mapped value of its field, so it is of the type of the field. An int or long field takes any of Integer, Long, Short and Byte, and a double field takes any Number.
+     */
+    public static final class Builder {
+        private final FullTextLayout<?> layout;
+        private final Map<String, FieldLayout> fields = new LinkedHashMap<>();
+        private final List<Condition> conditions = new ArrayList<>();
+
+        private Builder(final FullTextLayout<?> layout) {
+            this.layout = layout;
+            for (FieldLayout field : layout.getFields()) {
+                fields.put(field.getName(), field);
+            }
+        }
+
+        /**
+         * The field equals the value.
+         *
+         * @param name  name of the field
+         * @param value value to compare
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the class has no such field, or the value is not of the type of the field.
+         */
+        public Builder equalTo(final String name, final Object value) {
+            return in(name, value);
+        }
+
+        /**
+         * The field equals one of the values.
+         *
+         * @param name   name of the field
+         * @param values values to compare
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the class has no such field, there are no values, or a value is not of the type of the field.
+         */
+        public Builder in(final String name, final Object... values) {
+            final FieldLayout field = field(name);
+            Objects.requireNonNull(values, "Values must not be null.");
+            if (values.length == 0) {
+                throw new IllegalArgumentException("Give at least one value to compare with " + name + " field.");
+            }
+            final Object[] normalized = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                normalized[i] = normalize(field, values[i]);
+            }
+
+            final ValueCondition decoded = new ValueCondition(field, layout.getCharset(), normalized, null, null);
+            if (field.getCaster() == ClassCaster.STRING) {
+                conditions.add(new InCondition(field, layout.getCharset(), strings(field, normalized), null));
+            } else if (isOrderedDate(field) && fits(field, normalized)) {
+                conditions.add(new InCondition(field, layout.getCharset(), strings(field, normalized), decoded));
+            } else if (isIntegral(field)) {
+                final long[] longs = new long[normalized.length];
+                for (int i = 0; i < normalized.length; i++) {
+                    longs[i] = (Long) normalized[i];
+                }
+                Arrays.sort(longs);
+                conditions.add(new NumberCondition(field, layout.getCharset(), longs, Long.MIN_VALUE, Long.MAX_VALUE));
+            } else {
+                conditions.add(decoded);
+            }
+            return this;
+        }
+
+        /**
+         * The field is between the bounds, inclusive.
+         *
+         * @param name name of the field
+         * @param min  lower bound. null means no lower bound.
+         * @param max  upper bound. null means no upper bound.
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the class has no such field, both bounds are null, or a bound is not of the type of the field.
+         */
+        public Builder between(final String name, final Comparable<?> min, final Comparable<?> max) {
+            final FieldLayout field = field(name);
+            if (min == null && max == null) {
+                throw new IllegalArgumentException("Give at least one bound of " + name + " field.");
+            }
+            final Object lower = min == null ? null : normalize(field, min);
+            final Object upper = max == null ? null : normalize(field, max);
+
+            final ValueCondition decoded = new ValueCondition(field, layout.getCharset(), null, lower, upper);
+            if (isOrderedDate(field) && fits(field, lower, upper)) {
+                conditions.add(new RangeCondition(field, layout.getCharset(), string(field, lower), string(field, upper), decoded));
+            } else if (isIntegral(field)) {
+                conditions.add(new NumberCondition(field, layout.getCharset(), null, lower == null ? Long.MIN_VALUE : (Long) lower, upper == null ? Long.MAX_VALUE : (Long) upper));
+            } else {
+                conditions.add(decoded);
+            }
+            return this;
+        }
+
+        /**
+         * The String field starts with the prefix.
+         *
+         * @param name   name of the field
+         * @param prefix prefix to compare
+         * @return this builder
+         * @throws IllegalArgumentException occurs when the class has no such field, or the field is not a String.
+         */
+        public Builder startsWith(final String name, final String prefix) {
+            final FieldLayout field = field(name);
+            Objects.requireNonNull(prefix, "Prefix must not be null.");
+            if (field.getCaster() != ClassCaster.STRING) {
+                throw new IllegalArgumentException(name + " field is " + field.getType().getName() + ". Only a String field can be compared with a prefix.");
+            }
+            conditions.add(new PrefixCondition(field, layout.getCharset(), prefix));
+            return this;
+        }
+
+        /**
+         * Returns the filter of the conditions added.
+         *
+         * @return {@link RecordFilter}
+         */
+        public RecordFilter build() {
+            return new RecordFilter(layout, conditions.toArray(new Condition[0]));
+        }
+
+        private FieldLayout field(final String name) {
+            Objects.requireNonNull(name, "Field name must not be null.");
+            final FieldLayout field = fields.get(name);
+            if (field == null) {
+                throw new IllegalArgumentException("Could not find @Field named " + name + " in " + layout.getType().getName());
+            }
+            if (field.getCaster() == null && field.getConverter() == null) {
+                throw new IllegalArgumentException(name + " field is neither a built-in type nor converted. It can't be filtered.");
+            }
+            return field;
+        }
+
+        private static Object normalize(final FieldLayout field, final Object value) {
+            Objects.requireNonNull(value, "Value must not be null.");
+            if (isIntegral(field) && (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)) {
+                return ((Number) value).longValue();
+            }
+            if ((field.getCaster() == ClassCaster.DOUBLE || field.getCaster() == ClassCaster.DOUBLE_WRAPPER) && value instanceof Number) {
+                return ((Number) value).doubleValue();
+            }
+            if (!isIntegral(field) && wrap(field.getType()).isInstance(value)) {
+                return value;
+            }
+            throw new IllegalArgumentException("Value " + value + " of " + value.getClass().getName() + " can't be compared with " + field.getName() + " field of " + field.getType().getName());
+        }
+
+        private static String[] strings(final FieldLayout field, final Object[] values) {
+            final String[] strings = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                strings[i] = string(field, values[i]);
+            }
+            return strings;
+        }
+
+        private static String string(final FieldLayout field, final Object value) {
+            if (value == null || value instanceof String) {
+                return (String) value;
+            }
+            return field.getDateCodec().format((TemporalAccessor) value);
+        }
+
+        // a date beyond the year 9999 is printed wider than the pattern, and a date finer than the pattern, such as 12:00:30 in yyyyMMddHHmm, is truncated by it. both are compared after being decoded.
+        private static boolean fits(final FieldLayout field, final Object... values) {
+            for (Object value : values) {
+                if (value != null && !roundTrips(field, value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean roundTrips(final FieldLayout field, final Object value) {
+            final String string = string(field, value);
+            if (string.length() != field.getFormat().length()) {
+                return false;
+            }
+            final DateCodec codec = field.getDateCodec();
+            try {
+                final Object parsed = field.getCaster() == ClassCaster.LOCAL_DATE
+                    ? codec.parseLocalDate(string, 0, string.length())
+                    : codec.parseLocalDateTime(string, 0, string.length());
+                return parsed.equals(value);
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        private static boolean isIntegral(final FieldLayout field) {
+            final ClassCaster caster = field.getCaster();
+            return caster == ClassCaster.INT || caster == ClassCaster.INT_WRAPPER || caster == ClassCaster.LONG || caster == ClassCaster.LONG_WRAPPER;
+        }
+
+        private static boolean isOrderedDate(final FieldLayout field) {
+            return (field.getCaster() == ClassCaster.LOCAL_DATE || field.getCaster() == ClassCaster.LOCAL_DATE_TIME) && ORDERED_DATE.matcher(field.getFormat()).matches();
+        }
+
+        private static Class<?> wrap(final Class<?> type) {
+            if (type == double.class) {
+                return Double.class;
+            }
+            return type;
+        }
+    }
+
+    /**
+     * Condition on the window of one field.
+     */
+    private abstract static class Condition {
+        final FieldLayout field;
+        final Charset charset;
+        private final PadCharacter pad;
+        private final boolean left;
+
+        Condition(final FieldLayout field, final Charset charset) {
+            this.field = field;
+            this.charset = charset;
+            this.pad = field.getPadCharacter();
+            this.left = field.getPadPosition().isLeft();
+        }
+
+        abstract boolean test(CharSequence source, int start);
+
+        abstract boolean test(byte[] source, int start);
+
+        // the window without its pad, from the beginning of a record
+        final int from(final CharSequence source, final int start) {
+            final int from = start + field.getOffset();
+            return left ? pad.trimLeft(source, from, from + field.getLength()) : from;
+        }
+
+        final int to(final CharSequence source, final int start) {
+            final int from = start + field.getOffset();
+            return left ? from + field.getLength() : pad.trimRight(source, from, from + field.getLength());
+        }
+
+        final int from(final byte[] source, final int start) {
+            final int from = start + field.getOffset();
+            return left ? pad.trimLeft(source, from, from + field.getLength()) : from;
+        }
+
+        final int to(final byte[] source, final int start) {
+            final int from = start + field.getOffset();
+            return left ? from + field.getLength() : pad.trimRight(source, from, from + field.getLength());
+        }
+    }
+
+    /**
+     * The window equals one of the values. A date window which is not of the fixed width is decoded.
+     */
+    private static final class InCondition extends Condition {
+        private final String[] values;
+        private final byte[][] bytes;
+        private final int width;
+        private final Condition fallback;
+
+        InCondition(final FieldLayout field, final Charset charset, final String[] values, final Condition fallback) {
+            super(field, charset);
+            this.values = values;
+            this.bytes = new byte[values.length][];
+            for (int i = 0; i < values.length; i++) {
+                bytes[i] = values[i].getBytes(charset);
+            }
+            this.width = fallback == null ? -1 : field.getFormat().length();
+            this.fallback = fallback;
+        }
+
+        @Override
+        boolean test(final CharSequence source, final int start) {
+            final int from = from(source, start);
+            final int to = to(source, start);
+            if (fallback != null && to - from != width) {
+                return fallback.test(source, start);
+            }
+            for (String value : values) {
+                if (compare(source, from, to, value) == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean test(final byte[] source, final int start) {
+            final int from = from(source, start);
+            final int to = to(source, start);
+            if (fallback != null && to - from != width) {
+                return fallback.test(source, start);
+            }
+            for (byte[] value : bytes) {
+                if (compare(source, from, to, value) == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The window starts with the prefix.
+     */
+    private static final class PrefixCondition extends Condition {
+        private final String prefix;
+        private final byte[] bytes;
+
+        PrefixCondition(final FieldLayout field, final Charset charset, final String prefix) {
+            super(field, charset);
+            this.prefix = prefix;
+            this.bytes = prefix.getBytes(charset);
+        }
+
+        @Override
+        boolean test(final CharSequence source, final int start) {
+            final int from = from(source, start);
+            final int to = to(source, start);
+            return to - from >= prefix.length() && compare(source, from, from + prefix.length(), prefix) == 0;
+        }
+
+        @Override
+        boolean test(final byte[] source, final int start) {
+            final int from = from(source, start);
+            final int to = to(source, start);
+            return to - from >= bytes.length && compare(source, from, from + bytes.length, bytes) == 0;
+        }
+    }
+
+    /**
+     * The date window is between the bounds in lexicographic order. A window which is not of the fixed width is decoded.
+     */
+    private static final class RangeCondition extends Condition {
+        private final int width;
+        private final String min;
+        private final String max;
+        private final byte[] minBytes;
+        private final byte[] maxBytes;
+        private final Condition fallback;
+
+        RangeCondition(final FieldLayout field, final Charset charset, final String min, final String max, final Condition fallback) {
+            super(field, charset);
+            this.width = field.getFormat().length();
+            this.min = min;
+            this.max = max;
+            this.minBytes = min == null ? null : min.getBytes(charset);
+            this.maxBytes = max == null ? null : max.getBytes(charset);
+            this.fallback = fallback;
+        }
+
+        @Override
+        boolean test(final CharSequence source, final int start) {
+            final int from = from(source, start);
+            final int to = to(source, start);
+            if (to - from != width) {
+                return fallback.test(source, start);
+            }
+            return (min == null || compare(source, from, to, min) >= 0) && (max == null || compare(source, from, to, max) <= 0);
+        }
+
+        @Override
+        boolean test(final byte[] source, final int start) {
+            final int from = from(source, start);
+            final int to = to(source, start);
+            if (to - from != width) {
+                return fallback.test(source, start);
+            }
+            return (minBytes == null || compare(source, from, to, minBytes) >= 0) && (maxBytes == null || compare(source, from, to, maxBytes) <= 0);
+        }
+    }
+
+    /**
+     * The int or long window is one of the sorted values, or between the bounds.
+     */
+    private static final class NumberCondition extends Condition {
+        private final long[] values;
+        private final long min;
+        private final long max;
+
+        NumberCondition(final FieldLayout field, final Charset charset, final long[] values, final long min, final long max) {
+            super(field, charset);
+            this.values = values;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean test(final CharSequence source, final int start) {
+            long value;
+            try {
+                value = Digits.parseLong(source, from(source, start), to(source, start));
+            } catch (NumberFormatException e) {
+                // an empty wrapper is zero, and anything malformed fails with the message of the mapper
+                value = ((Number) field.decode(source, start + field.getOffset())).longValue();
+            }
+            return matches(value);
+        }
+
+        @Override
+        boolean test(final byte[] source, final int start) {
+            long value;
+            try {
+                value = Digits.parseLong(source, from(source, start), to(source, start));
+            } catch (NumberFormatException e) {
+                value = ((Number) field.decode(source, start + field.getOffset(), charset)).longValue();
+            }
+            return matches(value);
+        }
+
+        private boolean matches(final long value) {
+            if (values != null) {
+                return Arrays.binarySearch(values, value) >= 0;
+            }
+            return min <= value && value <= max;
+        }
+    }
+
+    /**
+     * The decoded value equals one of the values, or is between the bounds. Values are compared by {@link Comparable#compareTo(Object)} if they are comparable, so 1.50 equals 1.5 for BigDecimal.
+     */
+    private static final class ValueCondition extends Condition {
+        private final Object[] values;
+        private final Object min;
+        private final Object max;
+
+        ValueCondition(final FieldLayout field, final Charset charset, final Object[] values, final Object min, final Object max) {
+            super(field, charset);
+            this.values = values;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean test(final CharSequence source, final int start) {
+            return matches(field.decode(source, start + field.getOffset()));
+        }
+
+        @Override
+        boolean test(final byte[] source, final int start) {
+            return matches(field.decode(source, start + field.getOffset(), charset));
+        }
+
+        private boolean matches(final Object value) {
+            if (values != null) {
+                for (Object candidate : values) {
+                    if (compare(value, candidate) == 0) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return (min == null || compare(value, min) >= 0) && (max == null || compare(value, max) <= 0);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static int compare(final Object value, final Object other) {
+            if (value instanceof Comparable && other instanceof Comparable) {
+                return ((Comparable) value).compareTo(other);
+            }
+            return value.equals(other) ? 0 : 1;
+        }
+    }
+
+    private static int compare(final CharSequence source, final int from, final int to, final String value) {
+        final int length = Math.min(to - from, value.length());
+        for (int i = 0; i < length; i++) {
+            final int difference = source.charAt(from + i) - value.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return (to - from) - value.length();
+    }
+
+    private static int compare(final byte[] source, final int from, final int to, final byte[] value) {
+        final int length = Math.min(to - from, value.length);
+        for (int i = 0; i < length; i++) {
+            final int difference = (source[from + i] & 0xFF) - (value[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return (to - from) - value.length;
+    }
+}
@@ -0,0 +1,76 @@
+package fulltext.layout;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Plan that maps a fixed-length full text record to an instance of T. The readers in {@link fulltext.io} read records through this interface, so a single class and several classes dispatched by a discriminator are read the same way.
+ * <p>
+ * Implementations must be immutable and thread safe.
+ *
+ * @param <T> type of the mapped instances
+ * @see FullTextLayout
+ * @see DispatchLayout
+ */
+public interface RecordLayout<T> {
+    /**
+     * Maps the full text between {@code start} and {@code end} of the source.
+     *
+     * @param source full text
+     * @param start  index of the source where the full text begins
+     * @param end    index of the source where the full text ends (exclusive)
+     * @return instance of T
+     * @throws fulltext.exception.RuleViolationException occurs when the full text does not match the layout.
+     */
+    T read(CharSequence source, int start, int end);
+
+    /**
+     * Maps the full text between {@code start} and {@code end} of the byte array. In this case, {@link FullText#length()} and {@link Field#length()} are counts of bytes.
+     *
+     * @param source full text
+     * @param start  index of the byte array where the full text begins
+     * @param end    index of the byte array where the full text ends (exclusive)
+     * @return instance of T
+     * @throws fulltext.exception.RuleViolationException occurs when the full text does not match the layout.
+     */
+    T read(byte[] source, int start, int end);
+
+    /**
+     * Maps the {@link FullText#length()} bytes at the position of the buffer, and advances the position by exactly one record. A heap buffer is parsed in place, and a direct buffer is copied into an array of the current thread, as {@link RecordBuffers#read(ByteBuffer, int, RecordBuffers.Reader)} does, or into a new array if {@link #retainsSource()}. The position is not changed if it fails.
+     *
+     * @param source full text. it may be a heap or direct buffer.
+     * @return instance of T
+     * @throws fulltext.exception.RuleViolationException occurs when the remaining of the buffer is less than {@link FullText#length()}, or the full text does not match the layout.
+     */
+    default T read(final ByteBuffer source) {
+        if (retainsSource()) {
+            return RecordBuffers.readRetained(source, getLength(), this::read);
+        }
+        return RecordBuffers.read(source, getLength(), this::read);
+    }
+
+    /**
+     * Returns whether the instances keep the source they are read from, rather than copying the data out of it, such as a view. The readers in {@link fulltext.io} which reuse a buffer copy each record into a new array for such a layout.
+     *
+     * @return true if the instances keep the source. false by default.
+     */
+    default boolean retainsSource() {
+        return false;
+    }
+
+    /**
+     * Returns the length of a record, which is the same for every record.
+     *
+     * @return a total length of full text
+     */
+    int getLength();
+
+    /**
+     * Returns the charset with which records are encoded.
+     *
+     * @return {@link Charset}
+     */
+    Charset getCharset();
+}
@@ -0,0 +1,96 @@
+package fulltext.generated;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Modifier;
+
+/**
+ * Ways to define a class spun at runtime, from the most to the least capable. This is the implementation for Java 17 and later, which calls the APIs of {@link MethodHandles.Lookup} directly.
+ */
+enum MapperDefiner {
+    /**
+     * A hidden class, which is a nestmate of the mapped class. It accesses even private fields and constructors directly.
+     */
+    HIDDEN_CLASS {
+        @Override
+        boolean canAccess(final int modifiers) {
+            return true;
+        }
+
+        @Override
+        Class<?> define(final Class<?> host, final String name, final byte[] bytes) throws Throwable {
+            return MethodHandles.privateLookupIn(host, LOOKUP).defineHiddenClass(bytes, false, MethodHandles.Lookup.ClassOption.NESTMATE).lookupClass();
+        }
+    },
+
+    /**
+     * A class defined in the package of the mapped class with {@link MethodHandles.Lookup#defineClass(byte[])}. It accesses the members that are not private directly.
+     */
+    PACKAGE_CLASS {
+        @Override
+        boolean canAccess(final int modifiers) {
+            return !Modifier.isPrivate(modifiers);
+        }
+
+        @Override
+        Class<?> define(final Class<?> host, final String name, final byte[] bytes) throws Throwable {
+            return MethodHandles.privateLookupIn(host, LOOKUP).defineClass(bytes);
+        }
+    },
+
+    /**
+     * A class defined by a class loader of its own, which sees only this library. It accesses every member through the accessors.
+     */
+    CLASS_LOADER {
+        @Override
+        boolean canAccess(final int modifiers) {
+            return false;
+        }
+
+        @Override
+        Class<?> define(final Class<?> host, final String name, final byte[] bytes) {
+            return new SpunClassLoader(MapperDefiner.class.getClassLoader()).define(name.replace('/', '.'), bytes);
+        }
+    };
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Returns whether the running JVM supports this way. Every way is supported on Java 17 and later.
+     */
+    boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Returns whether a class defined this way accesses a member of the mapped class with the modifiers directly, without an accessor.
+     */
+    abstract boolean canAccess(int modifiers);
+
+    /**
+     * Defines the class.
+     *
+     * @param host  mapped class
+     * @param name  internal name of the class to define
+     * @param bytes class file
+     * @return defined class. it is not initialized yet.
+     * @throws Throwable occurs when the class can not be defined.
+     */
+    abstract Class<?> define(Class<?> host, String name, byte[] bytes) throws Throwable;
+
+    /**
+     * Returns the most capable way, which is a hidden class.
+     */
+    static MapperDefiner best() {
+        return HIDDEN_CLASS;
+    }
+
+    private static final class SpunClassLoader extends ClassLoader {
+        private SpunClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        private Class<?> define(final String name, final byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
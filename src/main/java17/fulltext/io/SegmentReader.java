@@ -0,0 +1,25 @@
+package fulltext.io;
+
+/**
+ * Copies records out of the segments of {@link Frames} that have no accessible array, such as memory-mapped buffers. This is the implementation for Java 17 and later, which copies with the absolute bulk get, so no duplicate of a segment is kept.
+ * <p>
+ * An instance belongs to one reader and is not thread safe.
+ */
+final class SegmentReader {
+    private final Frames frames;
+
+    SegmentReader(final Frames frames) {
+        this.frames = frames;
+    }
+
+    /**
+     * Copies {@code length} bytes of the frame into the array.
+     *
+     * @param index  index of the frame
+     * @param dst    array to copy into
+     * @param length number of bytes to copy from the beginning of the frame
+     */
+    void read(final long index, final byte[] dst, final int length) {
+        frames.segment(index).get(frames.position(index), dst, 0, length);
+    }
+}
@@ -0,0 +1,34 @@
+package fulltext.layout;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Parses eight ASCII digits at once. This is the implementation for Java 17 and later, which reads the digits in a single little-endian long, and validates and combines them with a few arithmetic operations instead of a loop.
+ */
+final class EightDigits {
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private EightDigits() {
+    }
+
+    /**
+     * Parses the eight bytes from {@code from} as an unsigned decimal number.
+     *
+     * @param source bytes to parse. it must have at least eight bytes from {@code from}.
+     * @param from   index of the first byte
+     * @return parsed value. -1 if any of the bytes is not an ASCII digit.
+     */
+    static int parse(final byte[] source, final int from) {
+        long chunk = (long) LONG.get(source, from);
+        // every byte is 0x30 to 0x39, if its high nibble is 3 and adding 6 does not carry it over 0x3f
+        if (((chunk & 0xF0F0F0F0F0F0F0F0L) | (((chunk + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) != 0x3333333333333333L) {
+            return -1;
+        }
+        // the first digit is the lowest byte. combines pairs of digits, then pairs of pairs, then the two halves.
+        chunk = ((chunk & 0x0F0F0F0F0F0F0F0FL) * 2561) >>> 8;
+        chunk = ((chunk & 0x00FF00FF00FF00FFL) * 6553601) >>> 16;
+        return (int) (((chunk & 0x0000FFFF0000FFFFL) * 42949672960001L) >>> 32);
+    }
+}
@@ -3,9 +3,11 @@ package fulltext;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.enums.Charset;
 import fulltext.exception.RuleViolationException;
 import fulltext.fixture.FullTextCreator;
 import fulltext.fixture.ModelCreator;
+import fulltext.fixture.model.EucKrModel;
 import fulltext.fixture.model.InvalidClassAnnotationModel;
 import fulltext.fixture.model.LocalDate1Model;
 import fulltext.fixture.model.LocalDate2Model;
@@ -16,6 +18,10 @@ import fulltext.fixture.model.NumbersBinding;
 import fulltext.fixture.model.UnsupportedAnnotationModel;
 import fulltext.fixture.model.ValidModel;
 import fulltext.fixture.model.ValidOptionModel;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import org.junit.jupiter.api.Test;
 
 class LineFullTextMapperTest {
@@ -43,6 +49,23 @@ class LineFullTextMapperTest {
         );
     }
 
+    @Test
+    void readValue_bytes() throws Exception {
+        ValidModel actual = mapper.readValue(FullTextCreator.VALID_DATA.getBytes(StandardCharsets.UTF_8), ValidModel.class);
+        assertThat(actual).isEqualTo(ModelCreator.VALID_MODEL);
+    }
+
+    @Test
+    void readValue_bytes_eucKr() throws Exception {
+        EucKrModel actual = mapper.readValue(FullTextCreator.EUC_KR_DATA.getBytes(Charset.EUC_KR.toCharset()), EucKrModel.class);
+        assertAll(
+            () -> assertThat(actual.getName()).isEqualTo("홍길동"),
+            () -> assertThat(actual.getAge()).isEqualTo(28),
+            () -> assertThat(actual.getAmount()).isEqualTo(new BigDecimal("1000")),
+            () -> assertThat(actual.getAddress()).isEqualTo("서울")
+        );
+    }
+
     @Test
     void readValue_localDate1() throws Exception {
         LocalDate1Model actual = mapper.readValue(FullTextCreator.LOCAL_DATE1, LocalDate1Model.class);
@@ -95,6 +118,20 @@ class LineFullTextMapperTest {
             .hasMessage("No suitable constructor. Make sure fulltext.fixture.model.NoConstructorModel.<init>() has a default constructor");
     }
 
+    @Test
+    void readValue_exception_5() throws Exception {
+        assertThatThrownBy(() -> mapper.readValue(FullTextCreator.LOCAL_DATE1 + "00", LocalDate1Model.class))
+            .isInstanceOf(RuleViolationException.class)
+            .hasMessage("Parsing has been completed. but remaining data exists. current data: 00");
+    }
+
+    @Test
+    void readValue_exception_6() throws Exception {
+        assertThatThrownBy(() -> mapper.readValue(FullTextCreator.VALID_DATA.substring(1), ValidModel.class))
+            .isInstanceOf(RuleViolationException.class)
+            .hasMessage("Parsing has been failed. @FullText: 300, but data length: 299");
+    }
+
     @Test
     void write() throws Exception {
         String actual = mapper.write(ModelCreator.VALID_MODEL);
@@ -106,4 +143,45 @@ class LineFullTextMapperTest {
         String actual = mapper.write(ModelCreator.VALID_OPTION_MODEL);
         assertThat(actual).isEqualTo(FullTextCreator.VALID_OPTION_DATA);
     }
+
+    @Test
+    void write_exception() throws Exception {
+        final ValidModel model = ValidModel.builder()
+            .headerType("1")
+            .createAt(LocalDate.parse("20211011", DateTimeFormatter.BASIC_ISO_DATE))
+            .name("siro shirohoo")
+            .age(28)
+            .build();
+
+        assertThatThrownBy(() -> mapper.write(model))
+            .isInstanceOf(RuleViolationException.class)
+            .hasMessage("The data of name field is longer than @Field.length: 10");
+    }
+
+    @Test
+    void readValue_numbers_sign() throws Exception {
+        final String data = "00123-0045000.5";
+        final NumbersBinding actual = mapper.readValue(data, NumbersBinding.class);
+        final NumbersBinding bytes = mapper.readValue(data.getBytes(StandardCharsets.US_ASCII), NumbersBinding.class);
+
+        assertAll(
+            () -> assertThat(actual.getIntValue()).isEqualTo(123),
+            () -> assertThat(actual.getLongValue()).isEqualTo(-45L),
+            () -> assertThat(actual.getDoubleValue()).isEqualTo(0.5D),
+            () -> assertThat(bytes.getIntValue()).isEqualTo(123),
+            () -> assertThat(bytes.getLongValue()).isEqualTo(-45L)
+        );
+    }
+
+    @Test
+    void readValue_NumberFormatException() throws Exception {
+        final String data = "0a1230000000000";
+
+        assertThatThrownBy(() -> mapper.readValue(data, NumbersBinding.class))
+            .isInstanceOf(NumberFormatException.class)
+            .hasMessage("Exception while assigning a123 to intValue");
+        assertThatThrownBy(() -> mapper.readValue(data.getBytes(StandardCharsets.US_ASCII), NumbersBinding.class))
+            .isInstanceOf(NumberFormatException.class)
+            .hasMessage("Exception while assigning a123 to intValue");
+    }
 }
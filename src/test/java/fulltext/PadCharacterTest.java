@@ -2,6 +2,7 @@ package fulltext;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import fulltext.enums.PadCharacter;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -99,4 +100,38 @@ class PadCharacterTest {
             Arguments.of(PadCharacter.ZERO, "", "")
         );
     }
+
+    @MethodSource
+    @ParameterizedTest
+    void trimLeft(final PadCharacter padCharacter, final String source, final int from, final int to, final int expected) throws Exception {
+        assertThat(padCharacter.trimLeft(source, from, to)).isEqualTo(expected);
+        assertThat(padCharacter.trimLeft(source.getBytes(StandardCharsets.US_ASCII), from, to)).isEqualTo(expected);
+    }
+
+    private static Stream<Arguments> trimLeft() {
+        return Stream.of(
+            Arguments.of(PadCharacter.SPACE, "ab  siro  cd", 2, 10, 4),
+            Arguments.of(PadCharacter.SPACE, "ab    cd", 2, 6, 6),
+            Arguments.of(PadCharacter.ZERO, "000280", 0, 6, 3),
+            Arguments.of(PadCharacter.ZERO, "000280", 3, 3, 3),
+            Arguments.of(PadCharacter.NONE, "  siro", 0, 6, 0)
+        );
+    }
+
+    @MethodSource
+    @ParameterizedTest
+    void trimRight(final PadCharacter padCharacter, final String source, final int from, final int to, final int expected) throws Exception {
+        assertThat(padCharacter.trimRight(source, from, to)).isEqualTo(expected);
+        assertThat(padCharacter.trimRight(source.getBytes(StandardCharsets.US_ASCII), from, to)).isEqualTo(expected);
+    }
+
+    private static Stream<Arguments> trimRight() {
+        return Stream.of(
+            Arguments.of(PadCharacter.SPACE, "ab  siro  cd", 2, 10, 8),
+            Arguments.of(PadCharacter.SPACE, "ab    cd", 2, 6, 2),
+            Arguments.of(PadCharacter.ZERO, "280000", 0, 6, 2),
+            Arguments.of(PadCharacter.ZERO, "280000", 3, 3, 3),
+            Arguments.of(PadCharacter.NONE, "siro  ", 0, 6, 6)
+        );
+    }
 }
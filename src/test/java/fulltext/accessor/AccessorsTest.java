@@ -0,0 +1,75 @@
+package fulltext.accessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.fixture.model.NoConstructorModel;
+import fulltext.fixture.model.NumbersBinding;
+import fulltext.fixture.model.ValidModel;
+import java.lang.reflect.Field;
+import org.junit.jupiter.api.Test;
+
+class AccessorsTest {
+    @Test
+    void fieldAccessor_primitive() throws Exception {
+        final Primitives instance = new Primitives();
+        final FieldAccessor intValue = Accessors.fieldAccessor(Primitives.class.getDeclaredField("intValue"));
+        final FieldAccessor longValue = Accessors.fieldAccessor(Primitives.class.getDeclaredField("longValue"));
+        final FieldAccessor doubleValue = Accessors.fieldAccessor(Primitives.class.getDeclaredField("doubleValue"));
+
+        intValue.setInt(instance, 1);
+        longValue.setLong(instance, 2L);
+        doubleValue.setDouble(instance, 3.0D);
+
+        assertAll(
+            () -> assertThat(intValue.getInt(instance)).isEqualTo(1),
+            () -> assertThat(longValue.getLong(instance)).isEqualTo(2L),
+            () -> assertThat(doubleValue.getDouble(instance)).isEqualTo(3.0D),
+            () -> assertThat(intValue.get(instance)).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void fieldAccessor_wrapper() throws Exception {
+        final NumbersBinding instance = new NumbersBinding();
+        final FieldAccessor intValue = Accessors.fieldAccessor(NumbersBinding.class.getDeclaredField("intValue"));
+
+        intValue.setInt(instance, 10);
+
+        assertAll(
+            () -> assertThat(instance.getIntValue()).isEqualTo(10),
+            () -> assertThat(intValue.getInt(instance)).isEqualTo(10)
+        );
+    }
+
+    @Test
+    void fieldAccessor_private() throws Exception {
+        final ValidModel instance = ValidModel.builder().name("siro").build();
+        final Field field = ValidModel.class.getDeclaredField("name");
+        final FieldAccessor name = Accessors.fieldAccessor(field);
+
+        assertThat(name.get(instance)).isEqualTo("siro");
+        name.set(instance, "hun");
+        assertThat(name.get(instance)).isEqualTo("hun");
+    }
+
+    @Test
+    void instantiator() throws Exception {
+        assertAll(
+            () -> assertThat(Accessors.instantiator(ValidModel.class).newInstance()).isInstanceOf(ValidModel.class),
+            () -> assertThat(Accessors.instantiator(NumbersBinding.class).newInstance()).isInstanceOf(NumbersBinding.class)
+        );
+    }
+
+    @Test
+    void instantiator_NoSuchMethodException() throws Exception {
+        assertThatThrownBy(() -> Accessors.instantiator(NoConstructorModel.class))
+            .isInstanceOf(NoSuchMethodException.class);
+    }
+
+    static class Primitives {
+        private int intValue;
+        private long longValue;
+        private double doubleValue;
+    }
+}
@@ -0,0 +1,95 @@
+package fulltext.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.FullTextMapper;
+import fulltext.LineFullTextMapper;
+import fulltext.fixture.model.ConverterModel;
+import fulltext.fixture.model.ConverterModel.Grade;
+import fulltext.layout.FieldLayout;
+import fulltext.layout.FullTextLayout;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ConverterRegistryTest {
+    private static final String DATA = "00042YA020012345678901234567890123" + "20211011093000";
+    private static final Instant CREATE_AT = Instant.parse("2021-10-11T00:30:00Z");
+
+    private final FullTextMapper mapper = LineFullTextMapper.newInstance();
+
+    @BeforeAll
+    static void register() {
+        ConverterRegistry.register(short.class, Converters.shortValue());
+        ConverterRegistry.register(boolean.class, Converters.booleanYN());
+        ConverterRegistry.register(char.class, Converters.character(' '));
+        ConverterRegistry.register(Grade.class, Converters.enumByCode(Grade.class, Grade::getCode));
+        ConverterRegistry.register(BigInteger.class, Converters.bigInteger());
+        ConverterRegistry.register(Instant.class, Converters.instant("yyyyMMddHHmmss", ZoneId.of("Asia/Seoul")));
+    }
+
+    @AfterAll
+    static void unregister() {
+        ConverterRegistry.unregister(short.class);
+        ConverterRegistry.unregister(boolean.class);
+        ConverterRegistry.unregister(char.class);
+        ConverterRegistry.unregister(Grade.class);
+        ConverterRegistry.unregister(BigInteger.class);
+        ConverterRegistry.unregister(Instant.class);
+    }
+
+    @Test
+    void compile() throws Exception {
+        final FieldLayout grade = FullTextLayout.of(ConverterModel.class).getFields().get(3);
+
+        assertAll(
+            () -> assertThat(grade.getConverter()).isSameAs(ConverterRegistry.find(Grade.class)),
+            () -> assertThat(grade.getCaster()).isNull()
+        );
+    }
+
+    @Test
+    void readValue() throws Exception {
+        final ConverterModel actual = mapper.readValue(DATA, ConverterModel.class);
+        final ConverterModel bytes = mapper.readValue(DATA.getBytes(StandardCharsets.US_ASCII), ConverterModel.class);
+
+        assertAll(
+            () -> assertThat(actual.getCount()).isEqualTo((short) 42),
+            () -> assertThat(actual.isActive()).isTrue(),
+            () -> assertThat(actual.getLevel()).isEqualTo('A'),
+            () -> assertThat(actual.getGrade()).isEqualTo(Grade.SILVER),
+            () -> assertThat(actual.getBalance()).isEqualTo(new BigInteger("12345678901234567890123")),
+            () -> assertThat(actual.getCreateAt()).isEqualTo(CREATE_AT),
+            () -> assertThat(bytes.getBalance()).isEqualTo(actual.getBalance()),
+            () -> assertThat(bytes.getCreateAt()).isEqualTo(CREATE_AT)
+        );
+    }
+
+    @Test
+    void write() throws Exception {
+        final ConverterModel model = ConverterModel.of((short) 42, true, 'A', Grade.SILVER, new BigInteger("12345678901234567890123"), CREATE_AT);
+        assertThat(mapper.write(model)).isEqualTo(DATA);
+    }
+
+    @Test
+    void readValue_NumberFormatException() throws Exception {
+        assertThatThrownBy(() -> mapper.readValue("99999" + DATA.substring(5), ConverterModel.class))
+            .isInstanceOf(NumberFormatException.class)
+            .hasMessage("Exception while assigning 99999 to count");
+    }
+
+    @Test
+    void readValue_IllegalArgumentException() throws Exception {
+        assertThatThrownBy(() -> mapper.readValue("00042X" + DATA.substring(6), ConverterModel.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Y or N is expected, but data: X");
+        assertThatThrownBy(() -> mapper.readValue("00042YA03" + DATA.substring(9), ConverterModel.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No enum constant of fulltext.fixture.model.ConverterModel$Grade for code: 03");
+    }
+}
@@ -14,4 +14,5 @@ public final class FullTextCreator {
     public static final String LOCAL_DATE2 = "2020-12-31";
     public static final String LOCAL_DATE_TIME1 = "20201231120000";
     public static final String LOCAL_DATE_TIME2 = "2020-12-31 12:00:00";
+    public static final String EUC_KR_DATA = "홍길동    0280001000서울      "; // 한글 1자는 2byte
 }
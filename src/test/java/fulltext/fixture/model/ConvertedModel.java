@@ -0,0 +1,25 @@
+package fulltext.fixture.model;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.PadCharacter;
+
+@FullText(length = 15)
+public class ConvertedModel {
+    @Field(length = 10)
+    private String name;
+
+    @Field(length = 5, padChar = PadCharacter.ZERO)
+    private short count; // converted by a Converter of short
+
+    private ConvertedModel() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public short getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,86 @@
+package fulltext.fixture.model;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.PadCharacter;
+import fulltext.enums.PadPosition;
+import java.math.BigInteger;
+import java.time.Instant;
+
+@FullText(
+    length = 48,
+    padPosition = PadPosition.RIGHT
+)
+public class ConverterModel {
+    @Field(length = 5, padChar = PadCharacter.ZERO, padPosition = PadPosition.LEFT)
+    private short count;
+
+    @Field(length = 1)
+    private boolean active;
+
+    @Field(length = 1)
+    private char level;
+
+    @Field(length = 2)
+    private Grade grade;
+
+    @Field(length = 25, padChar = PadCharacter.ZERO, padPosition = PadPosition.LEFT)
+    private BigInteger balance;
+
+    @Field(length = 14)
+    private Instant createAt; // yyyyMMddHHmmss, Asia/Seoul
+
+    private ConverterModel() {
+    }
+
+    public static ConverterModel of(final short count, final boolean active, final char level, final Grade grade, final BigInteger balance, final Instant createAt) {
+        final ConverterModel model = new ConverterModel();
+        model.count = count;
+        model.active = active;
+        model.level = level;
+        model.grade = grade;
+        model.balance = balance;
+        model.createAt = createAt;
+        return model;
+    }
+
+    public short getCount() {
+        return count;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public char getLevel() {
+        return level;
+    }
+
+    public Grade getGrade() {
+        return grade;
+    }
+
+    public BigInteger getBalance() {
+        return balance;
+    }
+
+    public Instant getCreateAt() {
+        return createAt;
+    }
+
+    public enum Grade {
+        GOLD("01"),
+        SILVER("02"),
+        ;
+
+        private final String code;
+
+        Grade(final String code) {
+            this.code = code;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package fulltext.fixture.model;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+
+@FullText(length = 100)
+public class DataModel {
+    @Field(length = 1)
+    private String dataType;
+
+    @Field(length = 10)
+    private String name;
+
+    @Field(length = 3)
+    private int age;
+
+    @Field(length = 86)
+    private String dataPadding;
+
+    public String getDataType() {
+        return dataType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+}
@@ -0,0 +1,46 @@
+package fulltext.fixture.model;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.Charset;
+import fulltext.enums.PadCharacter;
+import fulltext.enums.PadPosition;
+import java.math.BigDecimal;
+
+@FullText(
+    length = 30,
+    encoding = Charset.EUC_KR, // 한글은 2byte로 인코딩됩니다.
+    padPosition = PadPosition.RIGHT
+)
+public class EucKrModel {
+    @Field(length = 10)
+    private String name;
+
+    @Field(length = 3, padChar = PadCharacter.ZERO, padPosition = PadPosition.LEFT)
+    private int age;
+
+    @Field(length = 7, padChar = PadCharacter.ZERO, padPosition = PadPosition.LEFT)
+    private BigDecimal amount;
+
+    @Field(length = 10)
+    private String address;
+
+    private EucKrModel() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+}
@@ -0,0 +1,25 @@
+package fulltext.fixture.model;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import java.time.LocalDate;
+
+@FullText(length = 100)
+public class HeaderModel {
+    @Field(length = 1)
+    private String headerType;
+
+    @Field(length = 8)
+    private LocalDate createAt; // yyyyMMdd
+
+    @Field(length = 91)
+    private String headerPadding;
+
+    public String getHeaderType() {
+        return headerType;
+    }
+
+    public LocalDate getCreateAt() {
+        return createAt;
+    }
+}
@@ -0,0 +1,68 @@
+package fulltext.fixture.model;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.enums.Charset;
+import fulltext.enums.PadCharacter;
+import fulltext.enums.PadPosition;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@FullText(
+    length = 100,
+    encoding = Charset.EUC_KR
+)
+public class RuntimeMapperModel {
+    @Field(length = 10, padPosition = PadPosition.RIGHT)
+    private String name;
+
+    @Field(length = 3, padChar = PadCharacter.ZERO)
+    int age;
+
+    @Field(length = 5)
+    Integer count;
+
+    @Field(length = 10, padChar = PadCharacter.ZERO)
+    protected long amount;
+
+    @Field(length = 10)
+    public Long balance;
+
+    @Field(length = 8)
+    private double rate;
+
+    @Field(length = 8)
+    Double ratio;
+
+    @Field(length = 12, padChar = PadCharacter.ZERO)
+    private BigDecimal price;
+
+    @Field(length = 8)
+    LocalDate openAt;
+
+    @Field(length = 19, localDateTimeFormat = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updateAt;
+
+    @Field(length = 7)
+    private Object unmapped; // not a built-in type, so it is mapped by its FieldLayout
+
+    RuntimeMapperModel() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public LocalDateTime getUpdateAt() {
+        return updateAt;
+    }
+}
@@ -0,0 +1,17 @@
+package fulltext.fixture.model;
+
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+
+@FullText(length = 100)
+public class TrailerModel {
+    @Field(length = 1)
+    private String trailerType;
+
+    @Field(length = 99)
+    private String trailerPadding;
+
+    public String getTrailerType() {
+        return trailerType;
+    }
+}
@@ -0,0 +1,132 @@
+package fulltext.generated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.FullTextMapper;
+import fulltext.FullTextMapperFactory;
+import fulltext.exception.RuleViolationException;
+import fulltext.fixture.FullTextCreator;
+import fulltext.fixture.ModelCreator;
+import fulltext.fixture.model.LocalDateTime2Model;
+import fulltext.fixture.model.NumbersBinding;
+import fulltext.fixture.model.RuntimeMapperModel;
+import fulltext.fixture.model.ValidModel;
+import fulltext.fixture.model.ValidOptionModel;
+import fulltext.layout.FullTextLayout;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class RuntimeMappersTest {
+    private static final String DATA = "siro      028   420000123456      -789     0.5   12.2500001234.56720211011" + "2021-10-11 09:30:00       ";
+
+    @ParameterizedTest
+    @MethodSource("spin")
+    void spin(final MapperDefiner definer, final Class<?> type, final String data) throws Throwable {
+        assertSameAsLayout(MapperSpinner.spin(FullTextLayout.of(type), definer), data);
+    }
+
+    private static Stream<Arguments> spin() {
+        return Arrays.stream(MapperDefiner.values())
+            .filter(MapperDefiner::isAvailable)
+            .flatMap(definer -> Stream.of(
+                Arguments.of(definer, RuntimeMapperModel.class, DATA),
+                Arguments.of(definer, ValidModel.class, FullTextCreator.VALID_DATA),
+                Arguments.of(definer, ValidOptionModel.class, FullTextCreator.VALID_OPTION_DATA),
+                Arguments.of(definer, NumbersBinding.class, FullTextCreator.NUMBERS_DATA),
+                Arguments.of(definer, LocalDateTime2Model.class, FullTextCreator.LOCAL_DATE_TIME2)
+            ));
+    }
+
+    @Test
+    void of() throws Exception {
+        final GeneratedMapper<RuntimeMapperModel> mapper = RuntimeMappers.of(RuntimeMapperModel.class);
+        final RuntimeMapperModel actual = mapper.read(DATA, 0, DATA.length());
+
+        assertAll(
+            () -> assertThat(RuntimeMappers.of(RuntimeMapperModel.class)).isSameAs(mapper),
+            () -> assertThat(mapper).isNotInstanceOf(LayoutMapper.class),
+            () -> assertThat(mapper.getType()).isEqualTo(RuntimeMapperModel.class),
+            () -> assertThat(mapper.getLength()).isEqualTo(100),
+            () -> assertThat(actual.getName()).isEqualTo("siro"),
+            () -> assertThat(actual.getAge()).isEqualTo(28),
+            () -> assertThat(actual.balance).isEqualTo(-789L),
+            () -> assertThat(actual.getPrice()).isEqualTo(new BigDecimal("1234.567")),
+            () -> assertThat(actual.getUpdateAt()).isEqualTo(LocalDateTime.of(2021, 10, 11, 9, 30))
+        );
+    }
+
+    @Test
+    void of_NullPointerException() throws Exception {
+        assertThatThrownBy(() -> RuntimeMappers.of(null))
+            .hasMessage("Class is must not be null.")
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void read_RuleViolationException() throws Exception {
+        final GeneratedMapper<RuntimeMapperModel> mapper = RuntimeMappers.of(RuntimeMapperModel.class);
+
+        assertAll(
+            () -> assertThatThrownBy(() -> mapper.read(DATA, 0, 99))
+                .hasMessage("Parsing has been failed. @FullText: 100, but data length: 99")
+                .isInstanceOf(RuleViolationException.class),
+            () -> assertThatThrownBy(() -> mapper.read(DATA + "x", 0, 101))
+                .hasMessage("Parsing has been completed. but remaining data exists. current data: x")
+                .isInstanceOf(RuleViolationException.class)
+        );
+    }
+
+    @Test
+    void write_RuleViolationException() throws Exception {
+        final GeneratedMapper<RuntimeMapperModel> mapper = RuntimeMappers.of(RuntimeMapperModel.class);
+        final RuntimeMapperModel model = mapper.read(DATA, 0, DATA.length());
+        model.balance = 12345678901L;
+
+        assertAll(
+            () -> assertThatThrownBy(() -> mapper.write(model, new char[100], 0))
+                .hasMessage("The data of balance field is longer than @Field.length: 10")
+                .isInstanceOf(RuleViolationException.class),
+            () -> assertThatThrownBy(() -> mapper.write(model, new char[100], 1))
+                .hasMessage("The array has no room for @FullText: 100, from index: 1")
+                .isInstanceOf(IndexOutOfBoundsException.class)
+        );
+    }
+
+    @Test
+    void runtimeGeneratedFullTextMapper() throws Exception {
+        final FullTextMapper mapper = FullTextMapperFactory.runtimeGeneratedFullTextMapper();
+        final ValidModel actual = mapper.readValue(FullTextCreator.VALID_DATA, ValidModel.class);
+
+        assertAll(
+            () -> assertThat(actual).isEqualTo(ModelCreator.VALID_MODEL),
+            () -> assertThat(mapper.write(actual)).isEqualTo(FullTextCreator.VALID_DATA),
+            () -> assertThat(FullTextMapperFactory.runtimeGeneratedFullTextMapper()).isSameAs(mapper)
+        );
+    }
+
+    private static <T> void assertSameAsLayout(final GeneratedMapper<T> mapper, final String data) {
+        final FullTextLayout<T> layout = FullTextLayout.of(mapper.getType());
+        final byte[] bytes = data.getBytes(layout.getCharset());
+
+        final T fromChars = mapper.read(data, 0, data.length());
+        final T fromBytes = mapper.read(bytes, 0, bytes.length);
+        final char[] written = new char[layout.getLength()];
+        mapper.write(fromChars, written, 0);
+        final char[] expected = new char[layout.getLength()];
+        layout.write(fromChars, expected, 0);
+
+        assertAll(
+            () -> assertThat(mapper).isNotInstanceOf(LayoutMapper.class),
+            () -> assertThat(fromChars).isEqualToComparingFieldByField(layout.read(data, 0, data.length())),
+            () -> assertThat(fromBytes).isEqualToComparingFieldByField(layout.read(bytes, 0, bytes.length)),
+            () -> assertThat(written).isEqualTo(expected)
+        );
+    }
+}
@@ -0,0 +1,207 @@
+package fulltext.generated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.exception.RuleViolationException;
+import fulltext.fixture.FullTextCreator;
+import fulltext.fixture.model.RuntimeMapperModel;
+import fulltext.fixture.model.ValidModel;
+import fulltext.io.FullTextReader;
+import fulltext.io.RecordSpliterator;
+import fulltext.layout.FullTextLayout;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ViewLayoutTest {
+    private static final String DATA = "siro      028   420000123456      -789     0.5   12.2500001234.56720211011" + "2021-10-11 09:30:00       ";
+
+    public interface AccountView extends RecordView {
+        String getName();
+
+        int getAge();
+
+        Integer getCount();
+
+        long getAmount();
+
+        Long getBalance();
+
+        double getRate();
+
+        Double getRatio();
+
+        BigDecimal getPrice();
+
+        LocalDate getOpenAt();
+
+        LocalDateTime updateAt();
+
+        default boolean isAdult() {
+            return getAge() >= 19;
+        }
+
+        default boolean isOlderThan(final int age) {
+            return getAge() > age;
+        }
+    }
+
+    interface NameView {
+        CharSequence getName();
+
+        Object getCreateAt();
+    }
+
+    @ParameterizedTest
+    @MethodSource("views")
+    void view(final Function<FullTextLayout<?>, ViewSupport> views) throws Exception {
+        final ViewSupport prototype = views.apply(FullTextLayout.of(RuntimeMapperModel.class));
+        final ViewSupport support = prototype.newView();
+        support.point(DATA.getBytes(StandardCharsets.UTF_8), 0, 100);
+        final AccountView view = (AccountView) support.view();
+
+        assertAll(
+            () -> assertThat(view.getName()).isEqualTo("siro"),
+            () -> assertThat(view.getAge()).isEqualTo(28),
+            () -> assertThat(view.getCount()).isEqualTo(42),
+            () -> assertThat(view.getAmount()).isEqualTo(123456L),
+            () -> assertThat(view.getBalance()).isEqualTo(-789L),
+            () -> assertThat(view.getRate()).isEqualTo(0.5),
+            () -> assertThat(view.getRatio()).isEqualTo(12.25),
+            () -> assertThat(view.getPrice()).isEqualTo(new BigDecimal("1234.567")),
+            () -> assertThat(view.getOpenAt()).isEqualTo(LocalDate.of(2021, 10, 11)),
+            () -> assertThat(view.updateAt()).isEqualTo(LocalDateTime.of(2021, 10, 11, 9, 30)),
+            () -> assertThat(view.isAdult()).isTrue(),
+            () -> assertThat(view.isOlderThan(28)).isFalse()
+        );
+
+        view.point("pointed   001     0000000000         0     0.0     0.00000000001.520211231" + "2021-12-31 23:59:59       ", 0, 100);
+        assertAll(
+            () -> assertThat(view.getName()).isEqualTo("pointed"),
+            () -> assertThat(view.getAge()).isEqualTo(1),
+            () -> assertThat(view.getCount()).isZero(),
+            () -> assertThat(view.getPrice()).isEqualTo(new BigDecimal("1.5")),
+            () -> assertThat(view.updateAt()).isEqualTo(LocalDateTime.of(2021, 12, 31, 23, 59, 59))
+        );
+    }
+
+    private static Stream<Function<FullTextLayout<?>, ViewSupport>> views() {
+        final Stream<Function<FullTextLayout<?>, ViewSupport>> spun = Arrays.stream(MapperDefiner.values())
+            .filter(MapperDefiner::isAvailable)
+            .map(definer -> layout -> spin(layout, definer));
+        return Stream.concat(spun, Stream.of(layout -> ProxyView.of(AccountView.class, layout, ViewLayout.getters(AccountView.class, layout))));
+    }
+
+    private static ViewSupport spin(final FullTextLayout<?> layout, final MapperDefiner definer) {
+        try {
+            return ViewSpinner.spin(AccountView.class, layout, ViewLayout.getters(AccountView.class, layout), definer);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void of() throws Exception {
+        final ViewLayout<AccountView> layout = ViewLayout.of(AccountView.class, RuntimeMapperModel.class);
+        final AccountView view = layout.read(DATA, 0, 100);
+
+        assertAll(
+            () -> assertThat(ViewLayout.of(AccountView.class, RuntimeMapperModel.class)).isSameAs(layout),
+            () -> assertThat(view).isNotSameAs(layout.read(DATA, 0, 100)),
+            () -> assertThat(view.getName()).isEqualTo("siro"),
+            () -> assertThat(view.isAdult()).isTrue(),
+            () -> assertThat(layout.getLength()).isEqualTo(100)
+        );
+    }
+
+    @Test
+    void of_packagePrivate() throws Exception {
+        final ViewLayout<NameView> layout = ViewLayout.of(NameView.class, ValidModel.class);
+        final NameView view = layout.read(FullTextCreator.VALID_DATA, 0, 300);
+
+        assertAll(
+            () -> assertThat(view.getName()).hasToString("siro"),
+            () -> assertThat(view.getCreateAt()).isEqualTo(LocalDate.of(2021, 10, 11)),
+            () -> assertThat(view).isInstanceOf(RecordView.class)
+        );
+    }
+
+    @Test
+    void stream() throws Exception {
+        final String data = IntStream.range(0, 1000)
+            .mapToObj(i -> FullTextCreator.VALID_DATA)
+            .collect(Collectors.joining());
+
+        final long actual = RecordSpliterator.of(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)), ViewLayout.of(NameView.class, ValidModel.class), null).stream(true)
+            .filter(view -> "siro".contentEquals(view.getName()))
+            .count();
+
+        assertThat(actual).isEqualTo(1000);
+    }
+
+    // the readers reuse their buffers, so views collected from them must not share the bytes of another record
+    @Test
+    void collect() throws Exception {
+        final List<Integer> ages = IntStream.range(1, 1000).boxed().collect(Collectors.toList());
+        final byte[] data = ages.stream()
+            .map(i -> DATA.substring(0, 10) + String.format("%03d", i) + DATA.substring(13))
+            .collect(Collectors.joining())
+            .getBytes(StandardCharsets.UTF_8);
+        final ViewLayout<AccountView> layout = ViewLayout.of(AccountView.class, RuntimeMapperModel.class);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+
+        final List<AccountView> fromDirect = RecordSpliterator.of(direct, layout, null).stream(true).collect(Collectors.toList());
+        final List<AccountView> fromStream;
+        try (FullTextReader<AccountView> reader = FullTextReader.of(new ByteArrayInputStream(data), layout, null)) {
+            fromStream = reader.stream().collect(Collectors.toList());
+        }
+
+        assertAll(
+            () -> assertThat(fromDirect).extracting(AccountView::getAge).containsExactlyElementsOf(ages),
+            () -> assertThat(fromStream).extracting(AccountView::getAge).containsExactlyElementsOf(ages),
+            () -> assertThat(layout.retainsSource()).isTrue()
+        );
+    }
+
+    @Test
+    void of_IllegalArgumentException() throws Exception {
+        assertAll(
+            () -> assertThatThrownBy(() -> ViewLayout.of(ValidModel.class, ValidModel.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("fulltext.fixture.model.ValidModel is not an interface. A view must be an interface."),
+            () -> assertThatThrownBy(() -> ViewLayout.of(AccountView.class, ValidModel.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Could not find @Field of the view method: "),
+            () -> assertThatThrownBy(() -> ViewLayout.of(WrongTypeView.class, ValidModel.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("fulltext.generated.ViewLayoutTest$WrongTypeView.getAge() returns long, but age field is int")
+        );
+    }
+
+    @Test
+    void point_RuleViolationException() throws Exception {
+        final AccountView view = ViewLayout.of(AccountView.class, RuntimeMapperModel.class).read(DATA, 0, 100);
+
+        assertThatThrownBy(() -> view.point(DATA, 0, 99))
+            .isInstanceOf(RuleViolationException.class)
+            .hasMessage("Parsing has been failed. @FullText: 100, but data length: 99");
+    }
+
+    interface WrongTypeView {
+        long getAge();
+    }
+}
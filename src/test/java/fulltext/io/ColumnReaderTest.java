@@ -0,0 +1,111 @@
+package fulltext.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.converter.ConverterRegistry;
+import fulltext.converter.Converters;
+import fulltext.fixture.model.ConvertedModel;
+import fulltext.fixture.model.RuntimeMapperModel;
+import fulltext.layout.FullTextLayout;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ColumnReaderTest {
+    private static final int COUNT = 50_000;
+
+    @TempDir
+    static Path dir;
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void read(final Function<Boolean, Columns> reader) throws Exception {
+        for (boolean parallel : new boolean[]{false, true}) {
+            final Columns columns = reader.apply(parallel);
+
+            assertAll(
+                () -> assertThat(columns.size()).isEqualTo(COUNT),
+                () -> assertThat(columns.getInts("age")).containsExactly(IntStream.range(0, COUNT).map(i -> i % 999 + 1).toArray()),
+                () -> assertThat(columns.getInts("count")).containsOnly(0),
+                () -> assertThat(columns.getLongs("amount")).containsExactly(IntStream.range(0, COUNT).asLongStream().map(i -> (i + 1) * 100).toArray()),
+                () -> assertThat(Arrays.stream(columns.getDoubles("rate")).sum()).isEqualTo(COUNT * 0.5),
+                () -> assertThat(columns.getDecimals("price")[COUNT - 1]).isEqualTo(new BigDecimal("49999.5"))
+            );
+        }
+    }
+
+    private static Stream<Function<Boolean, Columns>> sources() throws Exception {
+        final byte[] bytes = data().getBytes(FullTextLayout.of(RuntimeMapperModel.class).getCharset());
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        direct.flip();
+        final Path file = Files.write(dir.resolve("columns.txt"), bytes);
+        final String[] fields = {"age", "count", "amount", "rate", "price"};
+
+        return Stream.of(
+            parallel -> ColumnReader.read(ByteBuffer.wrap(bytes), RuntimeMapperModel.class, "\r\n", parallel, fields),
+            parallel -> ColumnReader.read(direct, RuntimeMapperModel.class, "\r\n", parallel, fields),
+            parallel -> ColumnReader.read(file, RuntimeMapperModel.class, "\r\n", parallel, fields)
+        );
+    }
+
+    // a zero padded window of only zeros is empty, and the mapper rejects an empty primitive, so age and amount start from 1
+    private static String data() {
+        return IntStream.range(0, COUNT)
+            .mapToObj(i -> String.format("%-10s%03d%5s%010d%10d%8s%8s%012.1f%s%s%7s", "siro", i % 999 + 1, "", (i + 1) * 100L, -i, "0.5", "", i + 0.5, "20211011", "2021-10-11 09:30:00", ""))
+            .collect(Collectors.joining("\r\n"));
+    }
+
+    @Test
+    void read_IllegalArgumentException() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap(data().substring(0, 100).getBytes());
+        final Columns columns = ColumnReader.read(buffer, RuntimeMapperModel.class, null, false, "amount");
+
+        assertAll(
+            () -> assertThatThrownBy(() -> ColumnReader.read(buffer, RuntimeMapperModel.class, null, false, "name"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("name field is java.lang.String. Only int, long, double and BigDecimal fields and their wrappers can be extracted into a column."),
+            () -> assertThatThrownBy(() -> ColumnReader.read(buffer, RuntimeMapperModel.class, null, false, "amounts"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Could not find @Field named [amounts] in fulltext.fixture.model.RuntimeMapperModel"),
+            () -> assertThatThrownBy(() -> columns.getInts("amount"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("amount column is long[], not int[]"),
+            () -> assertThatThrownBy(() -> columns.getLongs("age"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Could not find the column named age. extracted: [amount]")
+        );
+    }
+
+    @Test
+    void read_converted_IllegalArgumentException() throws Exception {
+        ConverterRegistry.register(short.class, Converters.shortValue());
+        try {
+            assertThatThrownBy(() -> ColumnReader.read(ByteBuffer.wrap("siro      00042".getBytes()), ConvertedModel.class, null, false, "count"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("count field is converted by a Converter. A converted field can't be extracted into a column.");
+        } finally {
+            ConverterRegistry.unregister(short.class);
+        }
+    }
+
+    @Test
+    void read_NumberFormatException() throws Exception {
+        final String data = data().substring(0, 100);
+        final ByteBuffer buffer = ByteBuffer.wrap((data.substring(0, 10) + "abc" + data.substring(13)).getBytes());
+
+        assertThatThrownBy(() -> ColumnReader.read(buffer, RuntimeMapperModel.class, null, false, "age"))
+            .isInstanceOf(NumberFormatException.class)
+            .hasMessage("Exception while assigning abc to age");
+    }
+}
@@ -0,0 +1,229 @@
+package fulltext.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.FullTextMapper;
+import fulltext.FullTextMapperFactory;
+import fulltext.exception.RuleViolationException;
+import fulltext.fixture.FullTextCreator;
+import fulltext.fixture.ModelCreator;
+import fulltext.fixture.model.ValidModel;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class FrameCodecTest {
+    private final FullTextMapper mapper = FullTextMapperFactory.lineFullTextMapper();
+
+    @Test
+    void encode() throws Exception {
+        final FrameCodec codec = FrameCodec.builder(4).build();
+        final ByteBuffer dst = ByteBuffer.allocateDirect(1024);
+
+        codec.encode(ModelCreator.VALID_MODEL, dst);
+        codec.encode(dst, body -> body.put("abc".getBytes(StandardCharsets.US_ASCII)));
+
+        dst.flip();
+        assertThat(string(dst)).isEqualTo("0300" + FullTextCreator.VALID_DATA + "0003abc");
+    }
+
+    @Test
+    void encode_headerIncluded() throws Exception {
+        final FrameCodec codec = FrameCodec.builder(4).headerIncluded(true).build();
+        final ByteBuffer dst = ByteBuffer.allocate(1024);
+
+        codec.encode(ModelCreator.VALID_MODEL, dst);
+        codec.encode(dst, body -> {
+        });
+
+        dst.flip();
+        assertThat(string(dst)).isEqualTo("0304" + FullTextCreator.VALID_DATA + "0004");
+    }
+
+    @Test
+    void encode_Exception() throws Exception {
+        final FrameCodec codec = FrameCodec.builder(2).build();
+        final ByteBuffer dst = ByteBuffer.allocate(1024);
+        dst.position(7);
+        final ByteBuffer small = ByteBuffer.allocate(50);
+
+        assertAll(
+            () -> assertThatThrownBy(() -> codec.encode(ModelCreator.VALID_MODEL, dst))
+                .isInstanceOf(RuleViolationException.class)
+                .hasMessage("The body of a frame is longer than the max body length: 99, but body length: 300"),
+            () -> assertThat(dst.position()).isEqualTo(7),
+            () -> assertThatThrownBy(() -> FrameCodec.builder(4).build().encode(ModelCreator.VALID_MODEL, small))
+                .isInstanceOf(BufferOverflowException.class),
+            () -> assertThat(small.position()).isZero()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("decode")
+    void decode(final FrameCodec codec, final int chunkSize) throws Exception {
+        final ByteBuffer frames = ByteBuffer.allocate(200_000);
+        IntStream.range(0, 500).forEach(i -> codec.encode(ModelCreator.VALID_MODEL, frames));
+        frames.flip();
+        final ReadableByteChannel channel = new ChunkedChannel(frames, chunkSize);
+
+        final FrameDecoder decoder = codec.newDecoder();
+        final List<ValidModel> actual = new ArrayList<>();
+        int count = 0;
+        for (int read; (read = decoder.read(channel, body -> actual.add(mapper.readValue(body, ValidModel.class)))) >= 0; ) {
+            count += read;
+        }
+
+        assertAll(
+            () -> assertThat(actual).hasSize(500).allSatisfy(model -> assertThat(model).isEqualTo(ModelCreator.VALID_MODEL)),
+            () -> assertThat(decoder.hasPartialFrame()).isFalse()
+        );
+        assertThat(count).isEqualTo(500);
+    }
+
+    // one byte at a time, pieces which split the headers and the bodies, and many frames at a time
+    private static Stream<Arguments> decode() {
+        return Stream.of(FrameCodec.builder(4).build(), FrameCodec.builder(6).headerIncluded(true).build())
+            .flatMap(codec -> IntStream.of(1, 3, 37, 301, 304, 64 * 1024).mapToObj(chunkSize -> Arguments.of(codec, chunkSize)));
+    }
+
+    @Test
+    void decode_buffers() throws Exception {
+        final FrameDecoder decoder = FrameCodec.builder(3).build().newDecoder();
+        final List<String> actual = new ArrayList<>();
+
+        final int first = decoder.decode(buffer("003abc00"), body -> actual.add(string(body)));
+        final boolean partial = decoder.hasPartialFrame();
+        final int second = decoder.decode(buffer("2de000  3fgh"), body -> actual.add(string(body)));
+
+        assertAll(
+            () -> assertThat(actual).containsExactly("abc", "de", "", "fgh"),
+            () -> assertThat(first).isEqualTo(1),
+            () -> assertThat(partial).isTrue(),
+            () -> assertThat(second).isEqualTo(3),
+            () -> assertThat(decoder.hasPartialFrame()).isFalse()
+        );
+    }
+
+    @Test
+    void decode_RuleViolationException() throws Exception {
+        final FrameCodec codec = FrameCodec.builder(4).maxBodyLength(100).build();
+
+        assertAll(
+            () -> assertThatThrownBy(() -> codec.newDecoder().decode(buffer("01a0"), body -> {
+            }))
+                .isInstanceOf(RuleViolationException.class)
+                .hasMessage("The header of a frame is not a number. header: 01a0"),
+            () -> assertThatThrownBy(() -> codec.newDecoder().decode(buffer("0101"), body -> {
+            }))
+                .isInstanceOf(RuleViolationException.class)
+                .hasMessage("The length of a frame is out of range. max body length: 100, but header: 0101"),
+            () -> assertThatThrownBy(() -> FrameCodec.builder(4).headerIncluded(true).build().newDecoder().decode(buffer("0003"), body -> {
+            }))
+                .isInstanceOf(RuleViolationException.class)
+                .hasMessage("The length of a frame is out of range. max body length: 9995, but header: 0003")
+        );
+    }
+
+    @Test
+    void read_EOFException() throws Exception {
+        final FrameDecoder decoder = FrameCodec.builder(4).build().newDecoder();
+        final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream("0005abc".getBytes(StandardCharsets.US_ASCII)));
+
+        assertAll(
+            () -> assertThat(decoder.read(channel, body -> {
+            })).isZero(),
+            () -> assertThatThrownBy(() -> decoder.read(channel, body -> {
+            }))
+                .isInstanceOf(EOFException.class)
+                .hasMessage("The stream has ended in the middle of a frame. remaining bytes: 7")
+        );
+    }
+
+    @Test
+    void write_channel() throws Exception {
+        final FrameCodec codec = FrameCodec.builder(4).build();
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        codec.encode(ModelCreator.VALID_MODEL, buffer);
+        codec.encode(ModelCreator.VALID_MODEL, buffer);
+        buffer.flip();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Channels.newChannel(out).write(buffer);
+
+        assertThat(out.toString("UTF-8")).isEqualTo("0300" + FullTextCreator.VALID_DATA + "0300" + FullTextCreator.VALID_DATA);
+    }
+
+    @Test
+    void builder_IllegalArgumentException() throws Exception {
+        assertAll(
+            () -> assertThatThrownBy(() -> FrameCodec.builder(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The length of a frame header must be between 1 and 9. but it was 0"),
+            () -> assertThatThrownBy(() -> FrameCodec.builder(2).maxBodyLength(100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The max body length must be between 0 and 99. but it was 100"),
+            () -> assertThatThrownBy(() -> FrameCodec.builder(2).maxBodyLength(99).headerIncluded(true).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The max body length must be between 0 and 97. but it was 99")
+        );
+    }
+
+    private static ByteBuffer buffer(final String data) {
+        return ByteBuffer.wrap(data.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String string(final ByteBuffer buffer) {
+        final ByteBuffer bytes = buffer.duplicate();
+        final byte[] array = new byte[bytes.remaining()];
+        bytes.get(array);
+        return new String(array, StandardCharsets.UTF_8);
+    }
+
+    // returns at most the chunk size at each read, as a socket does
+    private static final class ChunkedChannel implements ReadableByteChannel {
+        private final ByteBuffer source;
+        private final int chunkSize;
+
+        private ChunkedChannel(final ByteBuffer source, final int chunkSize) {
+            this.source = source;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) throws IOException {
+            if (!source.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(source.remaining(), Math.min(chunkSize, dst.remaining()));
+            final ByteBuffer chunk = source.duplicate();
+            chunk.limit(source.position() + count);
+            source.position(chunk.limit());
+            dst.put(chunk);
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package fulltext.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import fulltext.exception.RuleViolationException;
+import fulltext.fixture.FullTextCreator;
+import fulltext.fixture.ModelCreator;
+import fulltext.fixture.model.LocalDate1Model;
+import fulltext.fixture.model.ValidModel;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordFilter;
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class FullTextReaderTest {
+    @Test
+    void stream() throws Exception {
+        final String data = IntStream.range(0, 1000)
+            .mapToObj(i -> FullTextCreator.VALID_DATA)
+            .collect(Collectors.joining());
+
+        try (Stream<ValidModel> stream = FullTextReader.of(input(data), ValidModel.class).stream()) {
+            assertThat(stream).hasSize(1000).allMatch(ModelCreator.VALID_MODEL::equals);
+        }
+    }
+
+    @Test
+    void stream_separator() throws Exception {
+        final String data = "20201231\r\n20210101\r\n20210102";
+
+        try (Stream<LocalDate1Model> stream = FullTextReader.of(input(data), LocalDate1Model.class, "\r\n").stream()) {
+            final List<LocalDate> actual = stream.map(LocalDate1Model::getLocalDate).collect(Collectors.toList());
+            assertThat(actual).containsExactly(LocalDate.of(2020, 12, 31), LocalDate.of(2021, 1, 1), LocalDate.of(2021, 1, 2));
+        }
+    }
+
+    @Test
+    void channel() throws Exception {
+        final FullTextReader<LocalDate1Model> reader = FullTextReader.of(Channels.newChannel(input("20201231\n20210101\n")), LocalDate1Model.class, "\n");
+
+        assertThat(reader.next().getLocalDate()).isEqualTo(LocalDate.of(2020, 12, 31));
+        assertThat(reader.next().getLocalDate()).isEqualTo(LocalDate.of(2021, 1, 1));
+        assertThat(reader.hasNext()).isFalse();
+    }
+
+    @Test
+    void channel_IllegalBlockingModeException() throws Exception {
+        final Pipe pipe = Pipe.open();
+        try (Pipe.SourceChannel source = pipe.source(); Pipe.SinkChannel sink = pipe.sink()) {
+            source.configureBlocking(false);
+
+            assertThatThrownBy(() -> FullTextReader.of(source, LocalDate1Model.class))
+                .isInstanceOf(IllegalBlockingModeException.class);
+        }
+    }
+
+    @Test
+    void stream_filter() throws Exception {
+        final String data = "20201231\n20210101\n20210102\n20210201";
+        final RecordFilter filter = RecordFilter.builder(LocalDate1Model.class)
+            .in("localDate", LocalDate.of(2021, 1, 2), LocalDate.of(2020, 12, 31))
+            .build();
+
+        try (Stream<LocalDate1Model> stream = FullTextReader.of(input(data), FullTextLayout.of(LocalDate1Model.class), "\n", filter).stream()) {
+            final List<LocalDate> actual = stream.map(LocalDate1Model::getLocalDate).collect(Collectors.toList());
+            assertThat(actual).containsExactly(LocalDate.of(2020, 12, 31), LocalDate.of(2021, 1, 2));
+        }
+    }
+
+    @Test
+    void next_RuleViolationException() throws Exception {
+        final FullTextReader<LocalDate1Model> reader = FullTextReader.of(input("20201231202101"), LocalDate1Model.class);
+        reader.next();
+
+        assertThatThrownBy(reader::next)
+            .isInstanceOf(RuleViolationException.class)
+            .hasMessage("Reading has been completed. but remaining data exists. remaining bytes: 6");
+    }
+
+    private static ByteArrayInputStream input(final String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+package fulltext.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import fulltext.enums.Charset;
+import fulltext.exception.RuleViolationException;
+import fulltext.fixture.FullTextCreator;
+import fulltext.fixture.ModelCreator;
+import fulltext.fixture.model.EucKrModel;
+import fulltext.fixture.model.LocalDate1Model;
+import fulltext.fixture.model.ValidModel;
+import fulltext.fixture.model.ValidOptionModel;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class FullTextWriterTest {
+    @Test
+    void writeAll() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FullTextWriter<ValidModel> writer = FullTextWriter.of(out, ValidModel.class)) {
+            writer.writeAll(Collections.nCopies(1000, ModelCreator.VALID_MODEL));
+        }
+
+        final String expected = Collections.nCopies(1000, FullTextCreator.VALID_DATA).stream().collect(Collectors.joining());
+        assertThat(out.toString("UTF-8")).isEqualTo(expected);
+    }
+
+    @Test
+    void write_separator() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FullTextWriter<LocalDate1Model> writer = FullTextWriter.of(Channels.newChannel(out), LocalDate1Model.class, "\r\n")) {
+            writer.writeAll(Arrays.asList(new LocalDate1Model(LocalDate.of(2020, 12, 31)), new LocalDate1Model(null)));
+        }
+
+        assertThat(out.toString("UTF-8")).isEqualTo("20201231\r\n        \r\n");
+    }
+
+    @Test
+    void write_option() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FullTextWriter<ValidOptionModel> writer = FullTextWriter.of(out, ValidOptionModel.class)) {
+            writer.write(ModelCreator.VALID_OPTION_MODEL);
+        }
+
+        assertThat(out.toString("UTF-8")).isEqualTo(FullTextCreator.VALID_OPTION_DATA);
+    }
+
+    @Test
+    void write_eucKr() throws Exception {
+        final byte[] expected = FullTextCreator.EUC_KR_DATA.getBytes(Charset.EUC_KR.toCharset());
+        final EucKrModel model = FullTextReader.of(new ByteArrayInputStream(expected), EucKrModel.class).next();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FullTextWriter<EucKrModel> writer = FullTextWriter.of(out, EucKrModel.class)) {
+            writer.write(model);
+        }
+
+        assertThat(out.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    void write_RuleViolationException() throws Exception {
+        final ValidModel model = ValidModel.builder().name("full-text-mapper").build();
+        final FullTextWriter<ValidModel> writer = FullTextWriter.of(new ByteArrayOutputStream(), ValidModel.class);
+
+        assertThatThrownBy(() -> writer.write(model))
+            .isInstanceOf(RuleViolationException.class)
+            .hasMessage("The data of name field is longer than @Field.length: 10");
+    }
+
+    @Test
+    void flush() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final FullTextWriter<LocalDate1Model> writer = FullTextWriter.of(out, LocalDate1Model.class);
+        writer.write(new LocalDate1Model(LocalDate.of(2020, 12, 31)));
+
+        assertThat(out.size()).isZero();
+        writer.flush();
+        assertThat(out.toByteArray()).isEqualTo("20201231".getBytes(StandardCharsets.UTF_8));
+    }
+}
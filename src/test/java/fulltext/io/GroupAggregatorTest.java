@@ -0,0 +1,131 @@
+package fulltext.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.converter.ConverterRegistry;
+import fulltext.converter.Converters;
+import fulltext.fixture.model.ConvertedModel;
+import fulltext.fixture.model.RuntimeMapperModel;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordFilter;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class GroupAggregatorTest {
+    private static final int COUNT = 50_000;
+
+    @TempDir
+    static Path dir;
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void aggregate(final Function<Boolean, Aggregation> aggregator) throws Exception {
+        final Map<String, BigDecimal> expected = IntStream.range(0, COUNT).boxed()
+            .collect(Collectors.groupingBy(i -> "m" + i % 7, Collectors.reducing(BigDecimal.ZERO, i -> new BigDecimal(i + ".5"), BigDecimal::add)));
+
+        for (boolean parallel : new boolean[]{false, true}) {
+            final Aggregation aggregation = aggregator.apply(parallel);
+
+            assertAll(
+                () -> assertThat(aggregation.getKeys()).containsExactly("m0", "m1", "m2", "m3", "m4", "m5", "m6"),
+                () -> assertThat(aggregation.getSums()).isEqualTo(expected),
+                () -> assertThat(aggregation.getCount("m0")).isEqualTo(7143),
+                () -> assertThat(aggregation.getCount("m7")).isZero(),
+                () -> assertThat(aggregation.getTotalCount()).isEqualTo(COUNT)
+            );
+        }
+    }
+
+    private static Stream<Function<Boolean, Aggregation>> sources() throws Exception {
+        final byte[] bytes = data().getBytes(FullTextLayout.of(RuntimeMapperModel.class).getCharset());
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        direct.flip();
+        final Path file = Files.write(dir.resolve("groups.txt"), bytes);
+        final GroupAggregator aggregator = GroupAggregator.builder(RuntimeMapperModel.class).groupBy("name").sum("price").build();
+
+        return Stream.of(
+            parallel -> aggregator.aggregate(ByteBuffer.wrap(bytes), "\n", parallel),
+            parallel -> aggregator.aggregate(direct, "\n", parallel),
+            parallel -> aggregator.aggregate(file, "\n", parallel)
+        );
+    }
+
+    private static String data() {
+        return IntStream.range(0, COUNT)
+            .mapToObj(i -> String.format("%-10s%03d%5s%010d%10d%8s%8s%012.1f%s%s%7s", "m" + i % 7, i % 999 + 1, "", i + 1L, -i, "0.5", "", i + 0.5, "20211011", "2021-10-11 09:30:00", ""))
+            .collect(Collectors.joining("\n"));
+    }
+
+    @Test
+    void aggregate_types() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap(data().getBytes(StandardCharsets.UTF_8));
+        final RecordFilter filter = RecordFilter.builder(RuntimeMapperModel.class).startsWith("name", "m1").build();
+
+        assertAll(
+            () -> assertThat(GroupAggregator.builder(RuntimeMapperModel.class).groupBy("name").sum("amount").build().aggregate(buffer, "\n", true).getSum("m0"))
+                .isEqualTo(BigDecimal.valueOf(IntStream.range(0, COUNT).filter(i -> i % 7 == 0).asLongStream().map(i -> i + 1).sum())),
+            () -> assertThat(GroupAggregator.builder(RuntimeMapperModel.class).groupBy("openAt").sum("rate").build().aggregate(buffer, "\n", false).getSums())
+                .containsOnlyKeys("20211011")
+                .containsValue(BigDecimal.valueOf(COUNT * 0.5)),
+            () -> assertThat(GroupAggregator.builder(RuntimeMapperModel.class).groupBy("name").filter(filter).build().aggregate(buffer, "\n", true).getCounts())
+                .containsOnlyKeys("m1")
+                .containsValue(7143L)
+        );
+    }
+
+    @Test
+    void groupTable_overflow() throws Exception {
+        final GroupTable table = new GroupTable(false);
+        final byte[] key = "key".getBytes(StandardCharsets.UTF_8);
+        final int group = table.group(key, 0, key.length);
+        table.add(group, Long.MAX_VALUE, 2);
+        table.add(group, 1, 3);
+
+        final GroupTable other = new GroupTable(false);
+        other.add(other.group(key, 0, key.length), 15, 1);
+
+        assertThat(table.merge(other).sum(group)).isEqualTo(new BigDecimal("92233720368547758.071").add(new BigDecimal("1.5")));
+    }
+
+    @Test
+    void builder_IllegalArgumentException() throws Exception {
+        assertAll(
+            () -> assertThatThrownBy(() -> GroupAggregator.builder(RuntimeMapperModel.class).sum("price").build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Give the field to group by."),
+            () -> assertThatThrownBy(() -> GroupAggregator.builder(RuntimeMapperModel.class).groupBy("merchant"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Could not find @Field named merchant in fulltext.fixture.model.RuntimeMapperModel"),
+            () -> assertThatThrownBy(() -> GroupAggregator.builder(RuntimeMapperModel.class).sum("openAt"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("openAt field is java.time.LocalDate. Only int, long, double and BigDecimal fields and their wrappers can be summed."),
+            () -> assertThatThrownBy(() -> GroupAggregator.builder(RuntimeMapperModel.class).groupBy("name").build().aggregate(ByteBuffer.allocate(0), null, false).getSums())
+                .isInstanceOf(IllegalStateException.class)
+        );
+    }
+
+    @Test
+    void builder_converted_IllegalArgumentException() throws Exception {
+        ConverterRegistry.register(short.class, Converters.shortValue());
+        try {
+            assertThatThrownBy(() -> GroupAggregator.builder(ConvertedModel.class).sum("count"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("count field is converted by a Converter. A converted field can't be summed.");
+        } finally {
+            ConverterRegistry.unregister(short.class);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package fulltext.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import fulltext.exception.RuleViolationException;
+import fulltext.fixture.FullTextCreator;
+import fulltext.fixture.ModelCreator;
+import fulltext.fixture.model.LocalDate1Model;
+import fulltext.fixture.model.ValidModel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFullTextReaderTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void stream() throws Exception {
+        final Path file = write(IntStream.range(0, 5000)
+            .mapToObj(i -> FullTextCreator.VALID_DATA)
+            .collect(Collectors.joining()));
+
+        final List<ValidModel> actual = MappedFullTextReader.stream(file, ValidModel.class).collect(Collectors.toList());
+
+        assertThat(actual).hasSize(5000).allMatch(ModelCreator.VALID_MODEL::equals);
+    }
+
+    @Test
+    void stream_ordered() throws Exception {
+        final Path file = write(IntStream.rangeClosed(1, 3000)
+            .mapToObj(i -> LocalDate.of(2000, 1, 1).plusDays(i).format(DateTimeFormatter.BASIC_ISO_DATE))
+            .collect(Collectors.joining("\n")));
+
+        final List<LocalDate> actual = MappedFullTextReader.stream(file, LocalDate1Model.class, "\n", true)
+            .map(LocalDate1Model::getLocalDate)
+            .collect(Collectors.toList());
+
+        assertThat(actual).hasSize(3000).isSorted();
+    }
+
+    @Test
+    void stream_unordered() throws Exception {
+        final Path file = write("20201231\n20210101\n");
+
+        final long actual = MappedFullTextReader.stream(file, LocalDate1Model.class, "\n", false).count();
+
+        assertThat(actual).isEqualTo(2);
+    }
+
+    @Test
+    void stream_RuleViolationException() throws Exception {
+        final Path file = write("20201231202101");
+
+        assertThatThrownBy(() -> MappedFullTextReader.stream(file, LocalDate1Model.class))
+            .isInstanceOf(RuleViolationException.class)
+            .hasMessage("The size of full text is not a multiple of the record length. size: 14, record length: 8");
+    }
+
+    private Path write(final String data) throws Exception {
+        return Files.write(dir.resolve("full-text.txt"), data.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+package fulltext.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.fixture.model.LocalDate1Model;
+import fulltext.layout.FullTextLayout;
+import fulltext.layout.RecordFilter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RecordSpliteratorTest {
+    private static final int COUNT = 10_000;
+
+    @Test
+    void trySplit() throws Exception {
+        final RecordSpliterator<LocalDate1Model> spliterator = RecordSpliterator.of(heap("\n"), LocalDate1Model.class, "\n");
+        final Spliterator<LocalDate1Model> prefix = spliterator.trySplit();
+
+        assertAll(
+            () -> assertThat(prefix.estimateSize()).isEqualTo(COUNT / 2),
+            () -> assertThat(spliterator.estimateSize()).isEqualTo(COUNT / 2),
+            () -> assertThat(prefix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)).isTrue()
+        );
+    }
+
+    @Test
+    void parallel_heap() throws Exception {
+        final List<LocalDate> actual = RecordSpliterator.of(heap(""), LocalDate1Model.class).stream(true)
+            .map(LocalDate1Model::getLocalDate)
+            .collect(Collectors.toList());
+
+        assertThat(actual).hasSize(COUNT).isSorted().startsWith(LocalDate.of(2000, 1, 2));
+    }
+
+    @Test
+    void parallel_direct() throws Exception {
+        final ByteBuffer heap = heap("\r\n");
+        final ByteBuffer direct = ByteBuffer.allocateDirect(heap.remaining()).put(heap);
+        direct.flip();
+
+        final long actual = RecordSpliterator.of(direct, LocalDate1Model.class, "\r\n").stream(true)
+            .filter(model -> model.getLocalDate().getDayOfMonth() == 1)
+            .count();
+
+        assertAll(
+            () -> assertThat(actual).isEqualTo(328),
+            () -> assertThat(direct.position()).isZero()
+        );
+    }
+
+    @Test
+    void parallel_filter() throws Exception {
+        final RecordFilter filter = RecordFilter.builder(LocalDate1Model.class)
+            .between("localDate", LocalDate.of(2001, 1, 1), LocalDate.of(2001, 12, 31))
+            .build();
+        final RecordSpliterator<LocalDate1Model> spliterator = RecordSpliterator.of(heap("\n"), FullTextLayout.of(LocalDate1Model.class), "\n", filter);
+
+        assertAll(
+            () -> assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse(),
+            () -> assertThat(spliterator.stream(true).map(LocalDate1Model::getLocalDate).collect(Collectors.toList()))
+                .hasSize(365)
+                .isSorted()
+                .startsWith(LocalDate.of(2001, 1, 1))
+        );
+    }
+
+    private static ByteBuffer heap(final String separator) {
+        final String data = IntStream.rangeClosed(1, COUNT)
+            .mapToObj(i -> LocalDate.of(2000, 1, 1).plusDays(i).format(DateTimeFormatter.BASIC_ISO_DATE))
+            .collect(Collectors.joining(separator));
+        return ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+    }
+}
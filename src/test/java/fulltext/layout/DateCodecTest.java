@@ -0,0 +1,102 @@
+package fulltext.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class DateCodecTest {
+    @Test
+    void of() throws Exception {
+        assertThat(DateCodec.of("yyyyMMdd")).isSameAs(DateCodec.of("yyyyMMdd"));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void parseLocalDate(final String data) throws Exception {
+        final DateCodec codec = DateCodec.of("yyyyMMdd");
+        final LocalDate expected = LocalDate.parse(data, DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+        assertThat(codec.parseLocalDate("##" + data, 2, data.length() + 2)).isEqualTo(expected);
+        assertThat(codec.parseLocalDate(data.getBytes(StandardCharsets.US_ASCII), 0, data.length())).isEqualTo(expected);
+    }
+
+    private static Stream<String> parseLocalDate() {
+        // 20210431 is resolved to 20210430 by the formatter
+        return Stream.of("20211011", "00010101", "99991231", "20200229", "20210431");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void parseLocalDate_exception(final String data) throws Exception {
+        final DateCodec codec = DateCodec.of("yyyyMMdd");
+        final DateTimeParseException expected = catchParseException(data);
+
+        assertThatThrownBy(() -> codec.parseLocalDate(data, 0, data.length()))
+            .isInstanceOf(DateTimeParseException.class)
+            .hasMessage(expected.getMessage());
+    }
+
+    private static Stream<String> parseLocalDate_exception() {
+        return Stream.of("", "2021101", "2021-1-1", "20211301", "20211032", "00000101");
+    }
+
+    private static DateTimeParseException catchParseException(final String data) {
+        try {
+            LocalDate.parse(data, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        } catch (DateTimeParseException e) {
+            return e;
+        }
+        throw new AssertionError(data + " must not be parsed");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void parseLocalDateTime(final String data) throws Exception {
+        final DateCodec codec = DateCodec.of("yyyyMMddHHmmss");
+        final LocalDateTime expected = LocalDateTime.parse(data, DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+
+        assertThat(codec.parseLocalDateTime(data, 0, data.length())).isEqualTo(expected);
+        assertThat(codec.parseLocalDateTime(data.getBytes(StandardCharsets.US_ASCII), 0, data.length())).isEqualTo(expected);
+    }
+
+    private static Stream<String> parseLocalDateTime() {
+        // 24 o'clock is resolved to the next day by the formatter
+        return Stream.of("20211011235959", "20211011000000", "20211011240000");
+    }
+
+    @Test
+    void parse_otherPattern() throws Exception {
+        assertThat(DateCodec.of("yyyy-MM-dd").parseLocalDate("2021-10-11", 0, 10)).isEqualTo(LocalDate.of(2021, 10, 11));
+    }
+
+    @Test
+    void write() throws Exception {
+        final DateCodec date = DateCodec.of("yyyyMMdd");
+        final DateCodec dateTime = DateCodec.of("yyyyMMddHHmmss");
+        final LocalDateTime value = LocalDateTime.of(987, 6, 5, 4, 3, 2);
+        final char[] chars = new char[14];
+        final ByteBuffer bytes = ByteBuffer.allocate(8);
+
+        dateTime.write(value, chars, 0);
+        date.write(value.toLocalDate(), bytes, 0);
+
+        assertThat(new String(chars)).isEqualTo("09870605040302");
+        assertThat(new String(bytes.array(), StandardCharsets.US_ASCII)).isEqualTo("09870605");
+    }
+
+    @Test
+    void length() throws Exception {
+        assertThat(DateCodec.of("yyyyMMdd").length(LocalDate.of(2021, 10, 11))).isEqualTo(8);
+        assertThat(DateCodec.of("yyyyMMdd").length(LocalDate.of(10000, 1, 1))).isEqualTo(-1);
+        assertThat(DateCodec.of("yyyy-MM-dd").length(LocalDate.of(2021, 10, 11))).isEqualTo(-1);
+    }
+}
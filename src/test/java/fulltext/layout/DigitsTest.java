@@ -0,0 +1,134 @@
+package fulltext.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class DigitsTest {
+    @ParameterizedTest
+    @MethodSource
+    void write_long(final long value) throws Exception {
+        final int length = Digits.length(value);
+        final char[] chars = new char[length];
+        final ByteBuffer bytes = ByteBuffer.allocate(length);
+
+        Digits.write(value, chars, length);
+        Digits.write(value, bytes, length);
+
+        assertThat(new String(chars)).isEqualTo(Long.toString(value));
+        assertThat(new String(bytes.array(), StandardCharsets.US_ASCII)).isEqualTo(Long.toString(value));
+    }
+
+    private static Stream<Long> write_long() {
+        return Stream.of(0L, 7L, -7L, 10L, -10L, 123456789L, Long.MAX_VALUE, Long.MIN_VALUE);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void write_bigDecimal(final String value) throws Exception {
+        final BigDecimal decimal = new BigDecimal(value);
+        final int length = Digits.length(decimal);
+        final char[] chars = new char[length];
+        final ByteBuffer bytes = ByteBuffer.allocate(length);
+
+        Digits.write(decimal, chars, 0, length);
+        Digits.write(decimal, bytes, 0, length);
+
+        assertThat(new String(chars)).isEqualTo(decimal.toString());
+        assertThat(new String(bytes.array(), StandardCharsets.US_ASCII)).isEqualTo(decimal.toString());
+    }
+
+    private static Stream<String> write_bigDecimal() {
+        return Stream.of("0", "1000", "-1000", "0.5", "-0.5", "0.05", "-0.000001", "12.34", "-12.340", "999999999999999999", "12345678901234567.8");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void length_bigDecimal_unsupported(final BigDecimal value) throws Exception {
+        assertThat(Digits.length(value)).isEqualTo(-1);
+    }
+
+    private static Stream<BigDecimal> length_bigDecimal_unsupported() {
+        return Stream.of(new BigDecimal("1E+3"), new BigDecimal("0.0000001"), new BigDecimal("1234567890123456789"));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void parseLong(final String value) throws Exception {
+        final byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(Digits.parseLong(value, 0, value.length())).isEqualTo(Long.parseLong(value));
+        assertThat(Digits.parseLong(bytes, 0, bytes.length)).isEqualTo(Long.parseLong(value));
+    }
+
+    private static Stream<String> parseLong() {
+        return Stream.of("0", "+7", "-7", "0012", "-0012", "12345678", "-123456789", "0000000000001234567", "9223372036854775807", "-9223372036854775808");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void parseInt_NumberFormatException(final String value) throws Exception {
+        final byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+        assertThatThrownBy(() -> Digits.parseInt(value, 0, value.length())).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Digits.parseInt(bytes, 0, bytes.length)).isInstanceOf(NumberFormatException.class);
+    }
+
+    private static Stream<String> parseInt_NumberFormatException() {
+        return Stream.of("", "-", "+", "1a", " 1", "1.0", "2147483648", "-2147483649", "9223372036854775808", "1234567a90", "12345678 ", "-9223372036854775809",
+            "99999999999999999999");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void parseDecimal(final String value) throws Exception {
+        final byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(Digits.parseDecimal(value, 0, value.length())).isEqualTo(new BigDecimal(value));
+        assertThat(Digits.parseDecimal(bytes, 0, bytes.length)).isEqualTo(new BigDecimal(value));
+    }
+
+    private static Stream<String> parseDecimal() {
+        return Stream.of("0", "1000", "-1000", "+12.34", ".5", "-.5", "5.", "-0.00", "999999999999999999", "1234567890.12345678");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void parseDecimal_NumberFormatException(final String value) throws Exception {
+        final byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+        assertThatThrownBy(() -> Digits.parseDecimal(value, 0, value.length())).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Digits.parseDecimal(bytes, 0, bytes.length)).isInstanceOf(NumberFormatException.class);
+    }
+
+    private static Stream<String> parseDecimal_NumberFormatException() {
+        return Stream.of("", ".", "-", "1.2.3", "1E+3", "1234567890123456789");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void eightDigits(final String value, final int expected) throws Exception {
+        final byte[] bytes = (" " + value + " ").getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThat(EightDigits.parse(bytes, 1)).isEqualTo(expected);
+    }
+
+    private static Stream<Arguments> eightDigits() {
+        return Stream.of(
+            Arguments.of("00000000", 0),
+            Arguments.of("20211011", 20211011),
+            Arguments.of("99999999", 99999999),
+            Arguments.of("0000000/", -1),
+            Arguments.of(":0000000", -1),
+            Arguments.of("1234 678", -1),
+            Arguments.of("1234\u00fa678", -1),
+            Arguments.of("-1234567", -1)
+        );
+    }
+}
@@ -0,0 +1,116 @@
+package fulltext.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.exception.RuleViolationException;
+import fulltext.fixture.FullTextCreator;
+import fulltext.fixture.model.DataModel;
+import fulltext.fixture.model.HeaderModel;
+import fulltext.fixture.model.LocalDate1Model;
+import fulltext.fixture.model.TrailerModel;
+import fulltext.fixture.model.ValidModel;
+import fulltext.io.FullTextReader;
+import fulltext.io.RecordSpliterator;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class DispatchLayoutTest {
+    private static final DispatchLayout<Object> LAYOUT = DispatchLayout.builder(Object.class, 0)
+        .register("1", HeaderModel.class)
+        .register("2", DataModel.class)
+        .register("3", TrailerModel.class)
+        .build();
+
+    @Test
+    void read() throws Exception {
+        final String data = FullTextCreator.VALID_DATA;
+        final byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+
+        final HeaderModel header = (HeaderModel) LAYOUT.read(data, 0, 100);
+        final DataModel fromBytes = (DataModel) LAYOUT.read(bytes, 100, 200);
+
+        assertAll(
+            () -> assertThat(header.getCreateAt()).isEqualTo(LocalDate.of(2021, 10, 11)),
+            () -> assertThat(fromBytes.getName()).isEqualTo("siro"),
+            () -> assertThat(fromBytes.getAge()).isEqualTo(28),
+            () -> assertThat(LAYOUT.read(bytes, 200, 300)).isInstanceOf(TrailerModel.class),
+            () -> assertThat(LAYOUT.layoutOf(bytes, 0, 100)).isSameAs(FullTextLayout.of(HeaderModel.class)),
+            () -> assertThat(LAYOUT.getLength()).isEqualTo(100)
+        );
+    }
+
+    @Test
+    void read_offset() throws Exception {
+        final DispatchLayout<Object> layout = DispatchLayout.builder(Object.class, 4)
+            .register("12", LocalDate1Model.class)
+            .register("01", LocalDate1Model.class)
+            .build();
+
+        assertAll(
+            () -> assertThat(((LocalDate1Model) layout.read("20201231", 0, 8)).getLocalDate()).isEqualTo(LocalDate.of(2020, 12, 31)),
+            () -> assertThatThrownBy(() -> layout.read("20200230", 0, 8))
+                .isInstanceOf(RuleViolationException.class)
+                .hasMessage("No class is registered for the discriminator at offset 4. registered: [12, 01], current data: 0230")
+        );
+    }
+
+    @Test
+    void stream() throws Exception {
+        final String data = IntStream.range(0, 3000)
+            .mapToObj(i -> FullTextCreator.VALID_DATA.substring(i % 3 * 100, i % 3 * 100 + 100))
+            .collect(Collectors.joining("\n"));
+
+        try (Stream<Object> stream = FullTextReader.of(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)), LAYOUT, "\n").stream()) {
+            final List<Object> actual = stream.collect(Collectors.toList());
+            assertThat(actual).hasSize(3000);
+            assertThat(actual.get(2999)).isInstanceOf(TrailerModel.class);
+        }
+    }
+
+    @Test
+    void parallel() throws Exception {
+        final String data = IntStream.range(0, 10_000)
+            .mapToObj(i -> FullTextCreator.VALID_DATA)
+            .collect(Collectors.joining());
+        final ByteBuffer heap = ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+        final ByteBuffer direct = ByteBuffer.allocateDirect(heap.remaining()).put(heap);
+        direct.flip();
+
+        final Map<Class<?>, Long> actual = RecordSpliterator.of(direct, LAYOUT, null).stream(true)
+            .collect(Collectors.groupingBy(Object::getClass, Collectors.counting()));
+
+        assertThat(actual).containsEntry(HeaderModel.class, 10_000L)
+            .containsEntry(DataModel.class, 10_000L)
+            .containsEntry(TrailerModel.class, 10_000L);
+    }
+
+    @Test
+    void build_IllegalArgumentException() throws Exception {
+        assertAll(
+            () -> assertThatThrownBy(() -> DispatchLayout.builder(Object.class, 0).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Register at least one class."),
+            () -> assertThatThrownBy(() -> DispatchLayout.builder(Object.class, 0).register("1", HeaderModel.class).register("1", DataModel.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Discriminator is already registered: 1"),
+            () -> assertThatThrownBy(() -> DispatchLayout.builder(Object.class, 0).register("1", HeaderModel.class).register("2", ValidModel.class).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Every registered class must have the same @FullText length and encoding."),
+            () -> assertThatThrownBy(() -> DispatchLayout.builder(Object.class, 0).register("1", HeaderModel.class).register("22", DataModel.class).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Every discriminator must have the same length. 1, 22"),
+            () -> assertThatThrownBy(() -> DispatchLayout.builder(Object.class, 7).register("123", LocalDate1Model.class).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The discriminator does not fit in a record. @FullText: 8, offset: 7, discriminator: 123")
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package fulltext.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.enums.ClassCaster;
+import fulltext.enums.PadCharacter;
+import fulltext.enums.PadPosition;
+import fulltext.fixture.model.InvalidClassAnnotationModel;
+import fulltext.fixture.model.ValidOptionModel;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FullTextLayoutTest {
+    @Test
+    void of() throws Exception {
+        assertThat(FullTextLayout.of(ValidOptionModel.class)).isSameAs(FullTextLayout.of(ValidOptionModel.class));
+    }
+
+    @Test
+    void of_NullPointerException() throws Exception {
+        assertThatThrownBy(() -> FullTextLayout.of(null))
+            .hasMessage("Class is must not be null.")
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void of_IllegalArgumentException() throws Exception {
+        assertThatThrownBy(() -> FullTextLayout.of(InvalidClassAnnotationModel.class))
+            .hasMessage("There is a problem with setting the full text object. @FullText: 301, @Field total length: 300")
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getFields() throws Exception {
+        final FullTextLayout<ValidOptionModel> layout = FullTextLayout.of(ValidOptionModel.class);
+        final List<FieldLayout> fields = layout.getFields();
+        final FieldLayout createAt = fields.get(1);
+        final FieldLayout name = fields.get(4);
+        final FieldLayout age = fields.get(5);
+
+        assertAll(
+            () -> assertThat(layout.getLength()).isEqualTo(300),
+            () -> assertThat(fields).hasSize(9),
+            () -> assertThat(createAt.getOffset()).isEqualTo(1),
+            () -> assertThat(createAt.getFormat()).isEqualTo("yyyyMMdd"),
+            () -> assertThat(createAt.getCaster()).isEqualTo(ClassCaster.LOCAL_DATE),
+            () -> assertThat(name.getOffset()).isEqualTo(101),
+            () -> assertThat(name.getPadPosition()).isEqualTo(PadPosition.RIGHT),
+            () -> assertThat(age.getOffset()).isEqualTo(111),
+            () -> assertThat(age.getPadCharacter()).isEqualTo(PadCharacter.ZERO),
+            () -> assertThat(age.getFormatter()).isNull()
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package fulltext.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.FullTextMapper;
+import fulltext.LineFullTextMapper;
+import fulltext.exception.RuleViolationException;
+import fulltext.fixture.model.RuntimeMapperModel;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ProjectionTest {
+    // the age, count and the dates are not numbers, so only a projection which skips them can read it
+    private static final String DATA = "siro      xyz  abc0000123456      -789     0.5   12.2500001234.567yyyymmdd" + "not a date time           ";
+
+    @Test
+    void read() throws Exception {
+        final Projection<RuntimeMapperModel> projection = Projection.of(RuntimeMapperModel.class, "price", "name");
+        final RuntimeMapperModel model = projection.read(DATA, 0, DATA.length());
+
+        assertAll(
+            () -> assertThat(model.getName()).isEqualTo("siro"),
+            () -> assertThat(model.getPrice()).isEqualTo(new BigDecimal("1234.567")),
+            () -> assertThat(model.getAge()).isZero(),
+            () -> assertThat(model.getUpdateAt()).isNull(),
+            () -> assertThat(projection.getFields()).extracting(FieldLayout::getName).containsExactly("name", "price"),
+            () -> assertThat(projection.getLength()).isEqualTo(100),
+            () -> assertThat(Projection.of(RuntimeMapperModel.class, "name", "price")).isSameAs(projection)
+        );
+    }
+
+    @Test
+    void read_bytes() throws Exception {
+        final Charset charset = FullTextLayout.of(RuntimeMapperModel.class).getCharset();
+        final byte[] bytes = ("0123" + DATA + "4567").getBytes(charset);
+        final RuntimeMapperModel model = Projection.of(RuntimeMapperModel.class, "name").read(bytes, 4, bytes.length - 4);
+
+        assertThat(model.getName()).isEqualTo("siro");
+    }
+
+    @ParameterizedTest
+    @MethodSource("readValue")
+    void readValue(final RuntimeMapperModel model) throws Exception {
+        assertAll(
+            () -> assertThat(model.getName()).isEqualTo("siro"),
+            () -> assertThat(model.getPrice()).isNull()
+        );
+    }
+
+    private static Stream<Arguments> readValue() {
+        final FullTextMapper mapper = LineFullTextMapper.newInstance();
+        final Charset charset = FullTextLayout.of(RuntimeMapperModel.class).getCharset();
+        return Stream.of(
+            Arguments.of(mapper.readValue(DATA, RuntimeMapperModel.class, "name")),
+            Arguments.of(mapper.readValue(DATA.getBytes(charset), RuntimeMapperModel.class, "name"))
+        );
+    }
+
+    @Test
+    void read_RuleViolationException() throws Exception {
+        final Projection<RuntimeMapperModel> projection = Projection.of(RuntimeMapperModel.class, "name");
+
+        assertAll(
+            () -> assertThatThrownBy(() -> projection.read(DATA, 0, 99))
+                .isInstanceOf(RuleViolationException.class)
+                .hasMessage("Parsing has been failed. @FullText: 100, but data length: 99"),
+            () -> assertThatThrownBy(() -> projection.read(DATA + "left", 0, 104))
+                .isInstanceOf(RuleViolationException.class)
+                .hasMessage("Parsing has been completed. but remaining data exists. current data: left")
+        );
+    }
+
+    @Test
+    void of_IllegalArgumentException() throws Exception {
+        assertThatThrownBy(() -> Projection.of(RuntimeMapperModel.class, "name", "nickname", "email"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Could not find @Field named [nickname, email] in fulltext.fixture.model.RuntimeMapperModel");
+    }
+}
@@ -0,0 +1,161 @@
+package fulltext.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.FullTextMapper;
+import fulltext.FullTextMapperFactory;
+import fulltext.exception.RuleViolationException;
+import fulltext.fixture.model.RuntimeMapperModel;
+import fulltext.generated.RecordView;
+import fulltext.generated.ViewLayout;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class RecordBuffersTest {
+    private static final String DATA = "siro      028   420000123456      -789     0.5   12.2500001234.56720211011" + "2021-10-11 09:30:00       ";
+    private static final String OTHER = "kim       " + "031" + "   17" + "0000000777" + "        -1" + "     1.5" + "     2.5" + "00000099.999" + "20211012" + "2021-10-12 18:00:00" + "       ";
+    private static final Charset CHARSET = FullTextLayout.of(RuntimeMapperModel.class).getCharset();
+
+    public interface NameView extends RecordView {
+        String getName();
+    }
+
+    @ParameterizedTest
+    @MethodSource("readValue")
+    void readValue(final FullTextMapper mapper, final Function<byte[], ByteBuffer> buffers) throws Exception {
+        final ByteBuffer buffer = buffers.apply((DATA + OTHER).getBytes(CHARSET));
+        final int position = buffer.position();
+
+        final RuntimeMapperModel first = mapper.readValue(buffer, RuntimeMapperModel.class);
+        final int afterFirst = buffer.position();
+        final RuntimeMapperModel second = mapper.readValue(buffer, RuntimeMapperModel.class);
+
+        assertAll(
+            () -> assertThat(first.getName()).isEqualTo("siro"),
+            () -> assertThat(first.getAge()).isEqualTo(28),
+            () -> assertThat(first.getPrice()).isEqualTo(new BigDecimal("1234.567")),
+            () -> assertThat(second.getName()).isEqualTo("kim"),
+            () -> assertThat(second.getAge()).isEqualTo(31),
+            () -> assertThat(second.getPrice()).isEqualTo(new BigDecimal("99.999")),
+            () -> assertThat(afterFirst).isEqualTo(position + 100),
+            () -> assertThat(buffer.position()).isEqualTo(position + 200),
+            () -> assertThat(buffer.hasRemaining()).isFalse()
+        );
+    }
+
+    private static Stream<Arguments> readValue() {
+        return Stream.of(FullTextMapperFactory.lineFullTextMapper(), FullTextMapperFactory.runtimeGeneratedFullTextMapper())
+            .flatMap(mapper -> buffers().map(buffers -> Arguments.of(mapper, buffers)));
+    }
+
+    // heap, direct, read only, and a heap buffer whose array offset and position are not 0
+    private static Stream<Function<byte[], ByteBuffer>> buffers() {
+        return Stream.of(
+            ByteBuffer::wrap,
+            bytes -> (ByteBuffer) ByteBuffer.allocateDirect(bytes.length).put(bytes).flip(),
+            bytes -> ByteBuffer.wrap(bytes).asReadOnlyBuffer(),
+            bytes -> {
+                final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 7);
+                buffer.position(3);
+                final ByteBuffer slice = buffer.slice();
+                slice.put(new byte[]{'x', 'y'}).put(bytes).limit(bytes.length + 2).position(2);
+                return slice;
+            }
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void readValue_RuleViolationException(final Function<byte[], ByteBuffer> buffers) throws Exception {
+        final FullTextMapper mapper = FullTextMapperFactory.lineFullTextMapper();
+        final ByteBuffer shortBuffer = buffers.apply(DATA.substring(0, 99).getBytes(CHARSET));
+        final int shortPosition = shortBuffer.position();
+        final ByteBuffer invalid = buffers.apply(DATA.replace("028", "abc").getBytes(CHARSET));
+        final int invalidPosition = invalid.position();
+
+        assertAll(
+            () -> assertThatThrownBy(() -> mapper.readValue(shortBuffer, RuntimeMapperModel.class))
+                .isInstanceOf(RuleViolationException.class)
+                .hasMessage("Parsing has been failed. @FullText: 100, but data length: 99"),
+            () -> assertThat(shortBuffer.position()).isEqualTo(shortPosition),
+            () -> assertThatThrownBy(() -> mapper.readValue(invalid, RuntimeMapperModel.class))
+                .isInstanceOf(RuntimeException.class),
+            () -> assertThat(invalid.position()).isEqualTo(invalidPosition)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("writers")
+    void write(final FullTextMapper mapper, final ByteBuffer dst) throws Exception {
+        final RuntimeMapperModel model = mapper.readValue(DATA, RuntimeMapperModel.class);
+        dst.position(5);
+
+        mapper.write(model, dst);
+
+        final byte[] actual = new byte[100];
+        dst.flip().position(5);
+        dst.get(actual);
+        assertAll(
+            () -> assertThat(dst.position()).isEqualTo(105),
+            () -> assertThat(new String(actual, CHARSET)).isEqualTo(mapper.write(model))
+        );
+    }
+
+    private static Stream<Arguments> writers() {
+        return Stream.of(FullTextMapperFactory.lineFullTextMapper(), FullTextMapperFactory.runtimeGeneratedFullTextMapper())
+            .flatMap(mapper -> Stream.of(Arguments.of(mapper, ByteBuffer.allocate(128)), Arguments.of(mapper, ByteBuffer.allocateDirect(128))));
+    }
+
+    @Test
+    void write_BufferOverflowException() throws Exception {
+        final FullTextMapper mapper = FullTextMapperFactory.lineFullTextMapper();
+        final RuntimeMapperModel model = mapper.readValue(DATA, RuntimeMapperModel.class);
+        final ByteBuffer dst = ByteBuffer.allocateDirect(128);
+        dst.position(29);
+
+        assertAll(
+            () -> assertThatThrownBy(() -> mapper.write(model, dst)).isInstanceOf(BufferOverflowException.class),
+            () -> assertThat(dst.position()).isEqualTo(29)
+        );
+    }
+
+    @Test
+    void write_RuleViolationException() throws Exception {
+        final FullTextMapper mapper = FullTextMapperFactory.lineFullTextMapper();
+        final RuntimeMapperModel model = mapper.readValue(DATA, RuntimeMapperModel.class);
+        model.balance = 12345678901L;
+        final ByteBuffer dst = ByteBuffer.allocateDirect(128);
+
+        assertAll(
+            () -> assertThatThrownBy(() -> mapper.write(model, dst)).isInstanceOf(RuleViolationException.class),
+            () -> assertThat(dst.position()).isZero()
+        );
+    }
+
+    @Test
+    void read_view() throws Exception {
+        final ViewLayout<NameView> layout = ViewLayout.of(NameView.class, RuntimeMapperModel.class);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(200);
+        buffer.put(DATA.getBytes(CHARSET)).put(OTHER.getBytes(CHARSET)).flip();
+
+        final NameView first = layout.read(buffer);
+        final NameView second = layout.read(buffer);
+        // the views keep their own copies, so overwriting the buffer does not change them
+        buffer.clear();
+        buffer.put(new byte[200]);
+
+        assertAll(
+            () -> assertThat(first.getName()).isEqualTo("siro"),
+            () -> assertThat(second.getName()).isEqualTo("kim")
+        );
+    }
+}
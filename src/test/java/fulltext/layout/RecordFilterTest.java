@@ -0,0 +1,130 @@
+package fulltext.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import fulltext.annotation.Field;
+import fulltext.annotation.FullText;
+import fulltext.exception.RuleViolationException;
+import fulltext.fixture.model.RuntimeMapperModel;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class RecordFilterTest {
+    private static final String DATA = "siro      028   420000123456      -789     0.5   12.2500001234.56720211011" + "2021-10-11 09:30:00       ";
+
+    @ParameterizedTest
+    @MethodSource("filters")
+    void test(final RecordFilter filter, final boolean expected) throws Exception {
+        final Charset charset = filter.getLayout().getCharset();
+        final byte[] bytes = ("0123" + DATA).getBytes(charset);
+
+        assertAll(
+            () -> assertThat(filter.test(DATA, 0, DATA.length())).isEqualTo(expected),
+            () -> assertThat(filter.test(bytes, 4, bytes.length)).isEqualTo(expected)
+        );
+    }
+
+    private static Stream<Arguments> filters() {
+        return Stream.of(
+            Arguments.of(filter().equalTo("name", "siro").build(), true),
+            Arguments.of(filter().equalTo("name", "sir").build(), false),
+            Arguments.of(filter().in("name", "kim", "siro").build(), true),
+            Arguments.of(filter().startsWith("name", "si").build(), true),
+            Arguments.of(filter().startsWith("name", "sirocco").build(), false),
+            Arguments.of(filter().equalTo("age", 28).build(), true),
+            Arguments.of(filter().in("count", 41L, 43L).build(), false),
+            Arguments.of(filter().between("balance", -1000, 0).build(), true),
+            Arguments.of(filter().between("amount", 200_000L, null).build(), false),
+            Arguments.of(filter().between("rate", 0.1, 0.9).build(), true),
+            Arguments.of(filter().equalTo("price", new BigDecimal("1234.5670")).build(), true),
+            Arguments.of(filter().between("openAt", LocalDate.of(2021, 10, 1), LocalDate.of(2021, 10, 31)).build(), true),
+            Arguments.of(filter().between("openAt", null, LocalDate.of(2021, 10, 10)).build(), false),
+            Arguments.of(filter().equalTo("openAt", LocalDate.of(2021, 10, 11)).build(), true),
+            Arguments.of(filter().between("updateAt", LocalDateTime.of(2021, 10, 11, 9, 30, 1), null).build(), false),
+            Arguments.of(filter().equalTo("name", "siro").between("age", 30, 40).build(), false),
+            Arguments.of(filter().build(), true)
+        );
+    }
+
+    @FullText(length = 12)
+    static class MinuteModel {
+        @Field(length = 12, localDateTimeFormat = "yyyyMMddHHmm")
+        LocalDateTime updateAt;
+    }
+
+    // a bound finer than the pattern is not truncated to it, so the raw record is compared the same as the decoded value
+    @Test
+    void test_coarsePattern() throws Exception {
+        final String data = "202110111200";
+        final LocalDateTime seconds = LocalDateTime.of(2021, 10, 11, 12, 0, 30);
+
+        assertAll(
+            () -> assertThat(RecordFilter.builder(MinuteModel.class).equalTo("updateAt", seconds).build().test(data, 0, 12)).isFalse(),
+            () -> assertThat(RecordFilter.builder(MinuteModel.class).between("updateAt", seconds, null).build().test(data, 0, 12)).isFalse(),
+            () -> assertThat(RecordFilter.builder(MinuteModel.class).between("updateAt", null, seconds).build().test(data, 0, 12)).isTrue(),
+            () -> assertThat(RecordFilter.builder(MinuteModel.class).equalTo("updateAt", LocalDateTime.of(2021, 10, 11, 12, 0)).build().test(data, 0, 12)).isTrue()
+        );
+    }
+
+    @Test
+    void test_emptyWrapper() throws Exception {
+        final String data = DATA.substring(0, 13) + "     " + DATA.substring(18);
+
+        assertAll(
+            () -> assertThat(filter().equalTo("count", 0).build().test(data, 0, data.length())).isTrue(),
+            () -> assertThat(filter().between("price", BigDecimal.ONE, null).build().test(data, 0, data.length())).isTrue()
+        );
+    }
+
+    @Test
+    void test_RuleViolationException() throws Exception {
+        assertThatThrownBy(() -> filter().equalTo("name", "siro").build().test(DATA, 0, 99))
+            .isInstanceOf(RuleViolationException.class)
+            .hasMessage("Parsing has been failed. @FullText: 100, but data length: 99");
+    }
+
+    @Test
+    void test_NumberFormatException() throws Exception {
+        final String data = DATA.substring(0, 10) + "abc" + DATA.substring(13);
+
+        assertThatThrownBy(() -> filter().equalTo("age", 28).build().test(data, 0, data.length()))
+            .isInstanceOf(NumberFormatException.class)
+            .hasMessage("Exception while assigning abc to age");
+    }
+
+    @Test
+    void builder_IllegalArgumentException() throws Exception {
+        assertAll(
+            () -> assertThatThrownBy(() -> filter().equalTo("nickname", "siro"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Could not find @Field named nickname in fulltext.fixture.model.RuntimeMapperModel"),
+            () -> assertThatThrownBy(() -> filter().equalTo("age", "28"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value 28 of java.lang.String can't be compared with age field of int"),
+            () -> assertThatThrownBy(() -> filter().startsWith("age", "2"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("age field is int. Only a String field can be compared with a prefix."),
+            () -> assertThatThrownBy(() -> filter().between("age", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Give at least one bound of age field."),
+            () -> assertThatThrownBy(() -> filter().in("age"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Give at least one value to compare with age field."),
+            () -> assertThatThrownBy(() -> filter().equalTo("unmapped", "x"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("unmapped field is neither a built-in type nor converted. It can't be filtered.")
+        );
+    }
+
+    private static RecordFilter.Builder filter() {
+        return RecordFilter.builder(RuntimeMapperModel.class);
+    }
+}